@@ -0,0 +1,111 @@
+package br.com.featureflagsdkjava.benchmarks;
+
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.customprovider.OpenFeatureCustomProvider;
+import br.com.featureflagsdkjava.domain.application.targeting.TargetingEngine;
+import br.com.featureflagsdkjava.domain.model.Flag;
+import dev.openfeature.sdk.EvaluationContext;
+import dev.openfeature.sdk.ImmutableContext;
+import dev.openfeature.sdk.Value;
+import io.github.jamsesso.jsonlogic.JsonLogic;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flags and contexts shared by the benchmarks. The large rule is an {@code if} chain the context only matches on
+ * its last branch, so every evaluation walks the whole rule.
+ */
+public final class BenchmarkFlags {
+
+    public static final String STATIC_FLAG = "static-flag";
+    public static final String SMALL_RULE_FLAG = "small-rule-flag";
+    public static final String LARGE_RULE_FLAG = "large-rule-flag";
+    public static final int LARGE_RULE_BRANCHES = 50;
+
+    private BenchmarkFlags() {}
+
+    public static List<Flag> all() {
+        List<Flag> flags = new ArrayList<>();
+        flags.add(booleanFlag(STATIC_FLAG, null));
+        flags.add(booleanFlag(SMALL_RULE_FLAG, smallRule()));
+        flags.add(booleanFlag(LARGE_RULE_FLAG, largeRule()));
+        for (Flag.Type type : Flag.Type.values()) flags.add(typedFlag(type));
+        return flags;
+    }
+
+    /**
+     * Pads the flag set with unrelated static flags, to measure lookups in a realistically sized snapshot.
+     */
+    public static List<Flag> all(int totalFlags) {
+        List<Flag> flags = all();
+        for (int i = flags.size(); i < totalFlags; i++) flags.add(booleanFlag("filler-flag-" + i, null));
+        return flags;
+    }
+
+    public static OpenFeatureCustomProvider provider(List<Flag> flags) {
+        return provider(flags, 0);
+    }
+
+    public static OpenFeatureCustomProvider provider(List<Flag> flags, int resultCacheSize) {
+        TargetingEngine targetingEngine = new TargetingEngine(new JsonLogic(), resultCacheSize);
+        return new OpenFeatureCustomProvider(new InMemoryFeatureFlagQueryPort(targetingEngine.load(flags)), targetingEngine);
+    }
+
+    public static String typedFlagName(Flag.Type type) {
+        return type.name().toLowerCase() + "-flag";
+    }
+
+    public static EvaluationContext context() {
+        Map<String, Value> attributes = new HashMap<>();
+        attributes.put("locale", new Value("br"));
+        attributes.put("country", new Value("country-" + (LARGE_RULE_BRANCHES - 1)));
+        attributes.put("age", new Value(LARGE_RULE_BRANCHES));
+        attributes.put("plan", new Value("enterprise"));
+        return new ImmutableContext("user-42", attributes);
+    }
+
+    public static Flag booleanFlag(String name, String targeting) {
+        return Flag.builder()
+                   .name(name)
+                   .type(Flag.Type.BOOLEAN)
+                   .state(Flag.State.ENABLED)
+                   .defaultVariant("off")
+                   .variants(Map.of("on", true, "off", false))
+                   .targeting(targeting)
+                   .build();
+    }
+
+    private static Flag typedFlag(Flag.Type type) {
+        Map<String, Object> variants = switch (type) {
+            case BOOLEAN -> Map.of("on", true, "off", false);
+            case STRING -> Map.of("on", "green", "off", "blue");
+            case NUMBER -> Map.of("on", 1.5, "off", 0.5);
+            case OBJECT -> Map.of("on", Map.of("color", "green", "size", 12, "tags", List.of("a", "b")),
+                                  "off", Map.of("color", "blue", "size", 10, "tags", List.of("c")));
+        };
+        return Flag.builder()
+                   .name(typedFlagName(type))
+                   .type(type)
+                   .state(Flag.State.ENABLED)
+                   .defaultVariant("off")
+                   .variants(variants)
+                   .targeting(smallRule())
+                   .build();
+    }
+
+    private static String smallRule() {
+        return "{ \"if\": [ { \"in\": [ { \"var\": \"locale\" }, [ \"br\", \"ca\" ] ] }, \"on\", \"off\" ] }";
+    }
+
+    private static String largeRule() {
+        StringBuilder rule = new StringBuilder("{ \"if\": [ ");
+        for (int i = 0; i < LARGE_RULE_BRANCHES; i++) {
+            rule.append("{ \"and\": [ { \"==\": [ { \"var\": \"country\" }, \"country-").append(i).append("\" ] }, ")
+                .append("{ \">=\": [ { \"var\": \"age\" }, ").append(i).append(" ] } ] }, ")
+                .append(i == LARGE_RULE_BRANCHES - 1 ? "\"on\"" : "\"off\"").append(", ");
+        }
+        return rule.append("\"off\" ] }").toString();
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.featureflagsdkjava.benchmarks;
+
+import br.com.featureflagsdkjava.domain.application.openfeature.OpenFeatureConfig;
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.HookFactory;
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.MetricsHook;
+import dev.openfeature.sdk.Client;
+import dev.openfeature.sdk.EvaluationContext;
+import dev.openfeature.sdk.Hook;
+import dev.openfeature.sdk.OpenFeatureAPI;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The full {@code Client.getBooleanValue} path an application goes through: OpenFeature client, hooks and provider.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientBenchmark {
+
+    @Param({"none", "metrics", "sampled-logging"})
+    private String hooks;
+
+    private Client client;
+    private EvaluationContext context;
+
+    @Setup
+    public void setUp() {
+        List<Hook<?>> clientHooks = switch (hooks) {
+            case "metrics" -> List.of(new MetricsHook(new SimpleMeterRegistry()));
+            case "sampled-logging" -> List.of(HookFactory.createHook(0.01));
+            default -> List.of();
+        };
+        client = new OpenFeatureConfig().buildOpenFeatureClient(
+                BenchmarkFlags.provider(BenchmarkFlags.all()), clientHooks);
+        context = BenchmarkFlags.context();
+    }
+
+    @TearDown
+    public void tearDown() {
+        OpenFeatureAPI.getInstance().shutdown();
+    }
+
+    @Benchmark
+    public boolean staticFlag() {
+        return client.getBooleanValue(BenchmarkFlags.STATIC_FLAG, false, context);
+    }
+
+    @Benchmark
+    public boolean smallRuleFlag() {
+        return client.getBooleanValue(BenchmarkFlags.SMALL_RULE_FLAG, false, context);
+    }
+}
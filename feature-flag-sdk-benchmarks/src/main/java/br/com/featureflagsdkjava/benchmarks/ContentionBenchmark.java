@@ -0,0 +1,78 @@
+package br.com.featureflagsdkjava.benchmarks;
+
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.customprovider.OpenFeatureCustomProvider;
+import br.com.featureflagsdkjava.domain.application.targeting.TargetingEngine;
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagChangeEvent;
+import br.com.featureflagsdkjava.infra.adapters.cache.CachingFeatureFlagQueryAdapter;
+import dev.openfeature.sdk.EvaluationContext;
+import dev.openfeature.sdk.ProviderEvaluation;
+import io.github.jamsesso.jsonlogic.JsonLogic;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Many threads evaluating through the flag cache at once, with and without a writer publishing flag changes
+ * in the background.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentionBenchmark {
+
+    @Param({"1000"})
+    private int flagCount;
+
+    private CachingFeatureFlagQueryAdapter cache;
+    private OpenFeatureCustomProvider provider;
+    private EvaluationContext context;
+    private final AtomicLong version = new AtomicLong();
+
+    @Setup
+    public void setUp() {
+        TargetingEngine targetingEngine = new TargetingEngine(new JsonLogic());
+        cache = new CachingFeatureFlagQueryAdapter(new InMemoryFeatureFlagQueryPort(BenchmarkFlags.all(flagCount)),
+                targetingEngine, Duration.ofHours(1), Duration.ZERO, Optional.empty(), Optional.empty());
+        cache.start();
+        provider = new OpenFeatureCustomProvider(cache, targetingEngine);
+        context = BenchmarkFlags.context();
+        version.set(cache.currentSnapshot().orElseThrow().getVersion());
+    }
+
+    @TearDown
+    public void tearDown() {
+        cache.stop();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public ProviderEvaluation<Boolean> readOnly() {
+        return provider.getBooleanEvaluation(BenchmarkFlags.SMALL_RULE_FLAG, false, context);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(7)
+    public ProviderEvaluation<Boolean> reader() {
+        return provider.getBooleanEvaluation(BenchmarkFlags.SMALL_RULE_FLAG, false, context);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public boolean writer() {
+        Flag changed = BenchmarkFlags.booleanFlag("filler-flag-" + (flagCount - 1), null);
+        return cache.apply(FlagChangeEvent.builder()
+                                          .version(version.incrementAndGet())
+                                          .type(FlagChangeEvent.Type.UPSERT)
+                                          .flag(changed)
+                                          .build());
+    }
+}
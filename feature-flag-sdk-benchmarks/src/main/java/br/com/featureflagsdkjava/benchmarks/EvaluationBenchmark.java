@@ -0,0 +1,51 @@
+package br.com.featureflagsdkjava.benchmarks;
+
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.customprovider.OpenFeatureCustomProvider;
+import dev.openfeature.sdk.EvaluationContext;
+import dev.openfeature.sdk.ProviderEvaluation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-threaded provider evaluations: no targeting, a one-condition rule and a rule that walks
+ * {@value BenchmarkFlags#LARGE_RULE_BRANCHES} branches, with and without the targeting result cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EvaluationBenchmark {
+
+    @Param({"100"})
+    private int flagCount;
+
+    @Param({"0", "10000"})
+    private int resultCacheSize;
+
+    private OpenFeatureCustomProvider provider;
+    private EvaluationContext context;
+
+    @Setup
+    public void setUp() {
+        provider = BenchmarkFlags.provider(BenchmarkFlags.all(flagCount), resultCacheSize);
+        context = BenchmarkFlags.context();
+    }
+
+    @Benchmark
+    public ProviderEvaluation<Boolean> staticEvaluation() {
+        return provider.getBooleanEvaluation(BenchmarkFlags.STATIC_FLAG, false, context);
+    }
+
+    @Benchmark
+    public ProviderEvaluation<Boolean> smallRuleEvaluation() {
+        return provider.getBooleanEvaluation(BenchmarkFlags.SMALL_RULE_FLAG, false, context);
+    }
+
+    @Benchmark
+    public ProviderEvaluation<Boolean> largeRuleEvaluation() {
+        return provider.getBooleanEvaluation(BenchmarkFlags.LARGE_RULE_FLAG, false, context);
+    }
+}
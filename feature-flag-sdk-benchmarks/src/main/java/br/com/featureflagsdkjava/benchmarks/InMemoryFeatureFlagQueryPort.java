@@ -0,0 +1,41 @@
+package br.com.featureflagsdkjava.benchmarks;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagSnapshot;
+import br.com.featureflagsdkjava.domain.ports.FeatureFlagQueryPort;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Flag source that answers from a fixed snapshot, so benchmarks measure evaluation and not I/O.
+ */
+public class InMemoryFeatureFlagQueryPort implements FeatureFlagQueryPort {
+
+    private final FlagSnapshot snapshot;
+
+    public InMemoryFeatureFlagQueryPort(Collection<Flag> flags) {
+        this.snapshot = FlagSnapshot.of(1L, flags);
+    }
+
+    @Override
+    public List<Flag> findAll() {
+        return snapshot.getFlags();
+    }
+
+    @Override
+    public List<Flag> findFlagsByType(Flag.Type flagType) {
+        return snapshot.findByType(flagType);
+    }
+
+    @Override
+    public Optional<Flag> findByFlagName(String flagName) {
+        return snapshot.find(flagName);
+    }
+
+    @Override
+    public Optional<FlagSnapshot> currentSnapshot() {
+        return Optional.of(snapshot);
+    }
+}
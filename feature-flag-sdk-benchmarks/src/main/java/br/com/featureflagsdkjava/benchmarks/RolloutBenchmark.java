@@ -0,0 +1,54 @@
+package br.com.featureflagsdkjava.benchmarks;
+
+import br.com.featureflagsdkjava.domain.application.targeting.TargetingEngine;
+import br.com.featureflagsdkjava.domain.application.targeting.TargetingRule;
+import io.github.jamsesso.jsonlogic.JsonLogic;
+import io.github.jamsesso.jsonlogic.JsonLogicException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Percentage rollouts to a different user on every call: the native {@code fractional} operator against the
+ * modulo rule users write in plain JsonLogic, run by json-logic-java.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RolloutBenchmark {
+
+    private static final int USERS = 1024;
+    private static final String FRACTIONAL_RULE = "{\"fractional\": [[\"on\", 50], [\"off\", 50]]}";
+    private static final String MODULO_RULE =
+            "{\"if\": [{\"<\": [{\"%\": [{\"var\": \"userNumber\"}, 100]}, 50]}, \"on\", \"off\"]}";
+
+    private final JsonLogic jsonLogic = new JsonLogic();
+    private TargetingRule fractionalRule;
+    private Map<?, ?>[] contexts;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        fractionalRule = new TargetingEngine(jsonLogic).compile("rollout-flag", FRACTIONAL_RULE);
+        contexts = new Map<?, ?>[USERS];
+        for (int i = 0; i < USERS; i++) contexts[i] = Map.of("targetingKey", "user-" + i, "userNumber", i);
+    }
+
+    @Benchmark
+    public Object fractionalOperator() throws JsonLogicException {
+        return fractionalRule.evaluate(nextContext());
+    }
+
+    @Benchmark
+    public Object jsonLogicModulo() throws JsonLogicException {
+        return jsonLogic.apply(MODULO_RULE, nextContext());
+    }
+
+    private Map<?, ?> nextContext() {
+        return contexts[next++ & (USERS - 1)];
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.featureflagsdkjava.benchmarks;
+
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.customprovider.OpenFeatureCustomProvider;
+import br.com.featureflagsdkjava.domain.model.Flag;
+import dev.openfeature.sdk.EvaluationContext;
+import dev.openfeature.sdk.ProviderEvaluation;
+import dev.openfeature.sdk.Value;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluation of one flag per {@link Flag.Type} through the provider method of that type, so the cost of turning the
+ * stored variant into the evaluated value shows up per type. {@code NUMBER} flags are read as doubles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VariantConversionBenchmark {
+
+    @Param({"BOOLEAN", "STRING", "NUMBER", "OBJECT"})
+    private Flag.Type type;
+
+    private OpenFeatureCustomProvider provider;
+    private EvaluationContext context;
+    private String flagName;
+    private Value objectDefault;
+
+    @Setup
+    public void setUp() {
+        provider = BenchmarkFlags.provider(BenchmarkFlags.all());
+        context = BenchmarkFlags.context();
+        flagName = BenchmarkFlags.typedFlagName(type);
+        objectDefault = new Value();
+    }
+
+    @Benchmark
+    public ProviderEvaluation<?> typedEvaluation() {
+        return switch (type) {
+            case BOOLEAN -> provider.getBooleanEvaluation(flagName, false, context);
+            case STRING -> provider.getStringEvaluation(flagName, "", context);
+            case NUMBER -> provider.getDoubleEvaluation(flagName, 0.0, context);
+            case OBJECT -> provider.getObjectEvaluation(flagName, objectDefault, context);
+        };
+    }
+}
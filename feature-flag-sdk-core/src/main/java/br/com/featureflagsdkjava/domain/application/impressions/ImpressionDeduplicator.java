@@ -0,0 +1,58 @@
+package br.com.featureflagsdkjava.domain.application.impressions;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Remembers the (flag, targeting key, variant) tuples recorded within the last window in a fixed-size table with
+ * one entry per slot. Tuples that share a slot evict each other, so under pressure a duplicate may get through;
+ * a tuple is never suppressed unless the same one was recorded within the window.
+ */
+final class ImpressionDeduplicator {
+
+    private final AtomicReferenceArray<Seen> table;
+    private final int mask;
+    private final long windowNanos;
+
+    ImpressionDeduplicator(int maxSize, long windowNanos) {
+        int size = Integer.highestOneBit(Math.max(2, maxSize) * 2 - 1);
+        this.table = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.windowNanos = windowNanos;
+    }
+
+    /**
+     * @return the entry now marking the tuple as seen, to {@link #forget} if it ends up not recorded; null when the
+     * same tuple was already seen within the window
+     */
+    Seen markSeen(String flagKey, String targetingKey, String variant, long nowNanos) {
+        int index = slot(flagKey, targetingKey, variant);
+        Seen seen = table.get(index);
+        if (seen != null && nowNanos - seen.at() < windowNanos && seen.matches(flagKey, targetingKey, variant)) return null;
+
+        Seen marked = new Seen(flagKey, targetingKey, variant, nowNanos);
+        table.set(index, marked);
+        return marked;
+    }
+
+    /**
+     * Clears an entry returned by {@link #markSeen} unless another tuple replaced it since.
+     */
+    void forget(Seen seen) {
+        table.compareAndSet(slot(seen.flagKey(), seen.targetingKey(), seen.variant()), seen, null);
+    }
+
+    private int slot(String flagKey, String targetingKey, String variant) {
+        int hash = 31 * (31 * Objects.hashCode(flagKey) + Objects.hashCode(targetingKey)) + Objects.hashCode(variant);
+        hash *= 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    record Seen(String flagKey, String targetingKey, String variant, long at) {
+        boolean matches(String flagKey, String targetingKey, String variant) {
+            return Objects.equals(this.flagKey, flagKey)
+                    && Objects.equals(this.targetingKey, targetingKey)
+                    && Objects.equals(this.variant, variant);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.featureflagsdkjava.domain.application.impressions;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes the impression pipeline counters, so dropped impressions show up before they skew an analysis.
+ */
+public class ImpressionMetrics implements MeterBinder {
+
+    static final String IMPRESSIONS = "feature.flag.impressions";
+    static final String SENT = "feature.flag.impressions.sent";
+    static final String PENDING = "feature.flag.impressions.pending";
+
+    private final ImpressionPipeline pipeline;
+
+    public ImpressionMetrics(ImpressionPipeline pipeline) {
+        this.pipeline = pipeline;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(IMPRESSIONS, pipeline, ImpressionPipeline::recorded)
+                       .tag("result", "recorded")
+                       .description("Impressions queued for the sink")
+                       .register(registry);
+        FunctionCounter.builder(IMPRESSIONS, pipeline, ImpressionPipeline::deduplicated)
+                       .tag("result", "deduplicated")
+                       .description("Impressions already recorded within the dedupe window")
+                       .register(registry);
+        FunctionCounter.builder(IMPRESSIONS, pipeline, ImpressionPipeline::dropped)
+                       .tag("result", "dropped")
+                       .description("Impressions dropped because the buffer was full")
+                       .register(registry);
+        FunctionCounter.builder(SENT, pipeline, ImpressionPipeline::sent)
+                       .tag("result", "success")
+                       .description("Impressions accepted by the sink")
+                       .register(registry);
+        FunctionCounter.builder(SENT, pipeline, ImpressionPipeline::failed)
+                       .tag("result", "failure")
+                       .description("Impressions lost in batches the sink rejected")
+                       .register(registry);
+        Gauge.builder(PENDING, pipeline, ImpressionPipeline::pending)
+             .description("Impressions buffered and waiting for the sink")
+             .register(registry);
+    }
+}
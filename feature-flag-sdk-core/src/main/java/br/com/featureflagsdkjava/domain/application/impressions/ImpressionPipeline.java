@@ -0,0 +1,169 @@
+package br.com.featureflagsdkjava.domain.application.impressions;
+
+import br.com.featureflagsdkjava.domain.model.Impression;
+import br.com.featureflagsdkjava.domain.ports.ImpressionSinkPort;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects impressions on the evaluating thread and sends them to an {@link ImpressionSinkPort} in batches from a
+ * background thread. Recording costs a dedupe table lookup and a slot claim in a preallocated ring buffer; it never
+ * blocks and never does I/O. When the sink falls behind and the buffer fills up, new impressions are dropped and
+ * counted rather than slowing evaluations down.
+ */
+@Slf4j
+public class ImpressionPipeline implements AutoCloseable {
+
+    private final ImpressionSinkPort sink;
+    private final ImpressionRingBuffer buffer;
+    private final ImpressionDeduplicator deduplicator;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final ScheduledExecutorService scheduler;
+
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * @param capacity     impressions the buffer holds before dropping, rounded up to a power of two
+     * @param batchSize    most impressions handed to the sink at once
+     * @param dedupeWindow how long a (flag, targeting key, variant) tuple is not recorded again; zero records all
+     * @param dedupeSize   tuples remembered for deduplication
+     */
+    public ImpressionPipeline(ImpressionSinkPort sink, int capacity, int batchSize, Duration dedupeWindow,
+                              int dedupeSize, Duration flushInterval) {
+        this.sink = sink;
+        this.buffer = new ImpressionRingBuffer(capacity);
+        this.deduplicator = dedupeWindow.isZero() ? null : new ImpressionDeduplicator(dedupeSize, dedupeWindow.toNanos());
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMillis = Math.max(1, flushInterval.toMillis());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "feature-flag-impressions");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the background flushes and sends what is still buffered.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(flushIntervalMillis + 5_000, TimeUnit.MILLISECONDS)) scheduler.shutdownNow();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+    }
+
+    /**
+     * Queues an impression unless the same one was recorded within the dedupe window.
+     *
+     * @return false when it was deduplicated or dropped
+     */
+    public boolean record(String flagKey, String targetingKey, String variant, String reason) {
+        ImpressionDeduplicator.Seen seen = null;
+        if (deduplicator != null) {
+            seen = deduplicator.markSeen(flagKey, targetingKey, variant, System.nanoTime());
+            if (seen == null) {
+                deduplicated.increment();
+                return false;
+            }
+        }
+
+        if (!buffer.offer(flagKey, targetingKey, variant, reason, System.currentTimeMillis())) {
+            if (seen != null) deduplicator.forget(seen);
+            dropped.increment();
+            return false;
+        }
+        recorded.increment();
+        return true;
+    }
+
+    /**
+     * Sends everything buffered so far in batches. Called by the background thread; callers other than tests and
+     * shutdown do not need it.
+     *
+     * @return impressions the sink accepted
+     */
+    public synchronized int flush() {
+        int accepted = 0;
+        List<Impression> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            try {
+                sink.send(List.copyOf(batch));
+                sent.add(batch.size());
+                accepted += batch.size();
+            } catch (RuntimeException e) {
+                failed.add(batch.size());
+                log.warn("Dropping {} impressions the sink did not accept: {}", batch.size(), e.getMessage());
+            }
+            batch.clear();
+        }
+        return accepted;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Throwable e) {
+            log.error("Impression flush failed", e);
+        }
+    }
+
+    /**
+     * Impressions queued for the sink.
+     */
+    public long recorded() {
+        return recorded.sum();
+    }
+
+    /**
+     * Impressions not queued because the same one was recorded within the dedupe window.
+     */
+    public long deduplicated() {
+        return deduplicated.sum();
+    }
+
+    /**
+     * Impressions not queued because the buffer was full.
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    public long sent() {
+        return sent.sum();
+    }
+
+    /**
+     * Impressions lost because the sink rejected their batch.
+     */
+    public long failed() {
+        return failed.sum();
+    }
+
+    public int pending() {
+        return buffer.size();
+    }
+
+    public int capacity() {
+        return buffer.capacity();
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.featureflagsdkjava.domain.application.impressions;
+
+import br.com.featureflagsdkjava.domain.model.Impression;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded multi-producer, single-consumer queue of impressions. Slots are allocated once and reused; each one
+ * carries a sequence number that tells producers whether it is free and the consumer whether it was published, so
+ * an offer is one compare-and-set on the tail and never waits. A full buffer rejects the offer instead of blocking.
+ */
+final class ImpressionRingBuffer {
+
+    private final Slot[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    ImpressionRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1);
+        this.slots = new Slot[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * @return false when the buffer is full and the impression was not queued
+     */
+    boolean offer(String flagKey, String targetingKey, String variant, String reason, long timestamp) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long available = sequences.get(index) - position;
+            if (available == 0) {
+                if (tail.weakCompareAndSetVolatile(position, position + 1)) {
+                    slots[index].set(flagKey, targetingKey, variant, reason, timestamp);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (available < 0) {
+                return false;
+            }
+            position = tail.get();
+        }
+    }
+
+    /**
+     * Moves up to {@code max} published impressions into {@code batch}. Only one thread may drain at a time.
+     *
+     * @return how many impressions were moved
+     */
+    int drainTo(List<Impression> batch, int max) {
+        long position = head;
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) break;
+            batch.add(slots[index].take());
+            sequences.set(index, position + slots.length);
+            position++;
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Impressions claimed but not drained yet; approximate while producers are offering.
+     */
+    int size() {
+        return (int) Math.max(0, Math.min(slots.length, tail.get() - head));
+    }
+
+    /**
+     * Written by the producer that claimed it and read by the consumer; the volatile write of the slot sequence
+     * publishes these plain fields.
+     */
+    private static final class Slot {
+        private String flagKey;
+        private String targetingKey;
+        private String variant;
+        private String reason;
+        private long timestamp;
+
+        void set(String flagKey, String targetingKey, String variant, String reason, long timestamp) {
+            this.flagKey = flagKey;
+            this.targetingKey = targetingKey;
+            this.variant = variant;
+            this.reason = reason;
+            this.timestamp = timestamp;
+        }
+
+        Impression take() {
+            Impression impression = new Impression(flagKey, targetingKey, variant, reason, timestamp);
+            flagKey = targetingKey = variant = reason = null;
+            return impression;
+        }
+    }
+}
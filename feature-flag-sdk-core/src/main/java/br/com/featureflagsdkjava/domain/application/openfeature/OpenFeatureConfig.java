@@ -0,0 +1,55 @@
+package br.com.featureflagsdkjava.domain.application.openfeature;
+
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.HookFactory;
+import dev.openfeature.sdk.Client;
+import dev.openfeature.sdk.FeatureProvider;
+import dev.openfeature.sdk.Hook;
+import dev.openfeature.sdk.OpenFeatureAPI;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Configuration class for setting up OpenFeature beans.
+ */
+@Configuration
+@Slf4j
+public class OpenFeatureConfig {
+
+    /**
+     * Configuration class for setting up OpenFeature beans. Every {@link Hook} bean in the context (metrics,
+     * sampled logging, application hooks) is registered on the client.
+     */
+    @Bean
+    @ConditionalOnBean(FeatureProvider.class)
+    @ConditionalOnMissingBean(Client.class)
+    public Client buildOpenFeatureClientBean(
+            FeatureProvider featureProvider, ObjectProvider<Hook<?>> hooks)  {
+        return buildOpenFeatureClient(featureProvider, hooks.orderedStream().toList());
+    }
+
+    public Client buildOpenFeatureClient(FeatureProvider featureProvider, List<Hook<?>> hooks) {
+        final OpenFeatureAPI openFeatureAPI = OpenFeatureAPI.getInstance();
+
+        openFeatureAPI.setProviderAndWait(featureProvider);
+        Client client = openFeatureAPI.getClient();
+        client.addHooks(hooks.toArray(Hook[]::new));
+        return client;
+    }
+
+    /**
+     * Per-evaluation logging is opt-in; at high request rates, logging a sample of evaluations is usually enough.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "feature.flag.logging.enabled", havingValue = "true")
+    public Hook<Object> flagLoggingHook(@Value("${feature.flag.logging.sample-rate:1.0}") double sampleRate) {
+        return HookFactory.createHook(sampleRate);
+    }
+}
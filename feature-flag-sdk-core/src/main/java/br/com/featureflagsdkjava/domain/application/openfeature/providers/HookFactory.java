@@ -9,6 +9,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Slf4j
 @Component
@@ -18,22 +19,47 @@ public class HookFactory {
     public static final String FLAG_EVALUATED_SUCCESSFULLY = "Flag {} evaluated successfully to {}.";
     public static final String FLAG_EVALUATION_FAILED_EXCEPTION = "Flag {} evaluation failed. Exception: {}";
     public static final String FINALIZING_FLAG_EVALUATION = "Finalizing flag {} evaluation.";
+    public static final String STARTING_BATCH_EVALUATION = "Starting batch evaluation of {} flags.";
+    public static final String BATCH_EVALUATED = "Batch of {} flags evaluated, {} failed.";
 
+    /**
+     * Hook that logs every evaluation.
+     */
     public static <T> Hook<T> createHook() {
+        return createHook(1.0);
+    }
+
+    /**
+     * Hook that logs the given fraction of evaluations, decided once per evaluation. Failures are always logged.
+     * The evaluation context is only formatted when debug logging is enabled.
+     */
+    public static <T> Hook<T> createHook(double sampleRate) {
+        ThreadLocal<Boolean> sampled = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
         return new Hook<T>() {
             @Override
             public Optional<EvaluationContext> before(HookContext ctx, Map hints) {
+                boolean logged = isSampled(sampleRate);
+                sampled.set(logged);
+                if (!logged) return Optional.empty();
+
                 log.info(STARTING_FLAG_EVALUATION, ctx == null ? "null" : ctx.getFlagKey());
-                log.debug(formatHookContext(ctx));
-                log.debug("Hints: {}", hints);
+                if (log.isDebugEnabled()) {
+                    log.debug(formatHookContext(ctx));
+                    log.debug("Hints: {}", hints);
+                }
                 return Optional.empty();
             }
 
             @Override
             public void after(HookContext<T> ctx, FlagEvaluationDetails<T> details, Map<String, Object> hints) {
+                if (!sampled.get()) return;
+
                 log.info(FLAG_EVALUATED_SUCCESSFULLY, details.getFlagKey(), details.getValue());
-                log.debug(formatHookContext(ctx));
-                log.debug("Hints: {}", hints);
+                if (log.isDebugEnabled()) {
+                    log.debug(formatHookContext(ctx));
+                    log.debug("Hints: {}", hints);
+                }
             }
 
             @Override
@@ -45,11 +71,21 @@ public class HookFactory {
 
             @Override
             public void finallyAfter(HookContext ctx, Map hints) {
-                log.debug(FINALIZING_FLAG_EVALUATION, ctx == null ? "null" : ctx.getFlagKey());
+                if (sampled.get()) log.debug(FINALIZING_FLAG_EVALUATION, ctx == null ? "null" : ctx.getFlagKey());
+                sampled.remove();
             }
         };
     }
 
+    /**
+     * Decides whether one evaluation, or one batch, is logged.
+     *
+     * @param sampleRate fraction of evaluations logged, from 0 to 1
+     */
+    public static boolean isSampled(double sampleRate) {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
     private static String formatHookContext(HookContext ctx) {
         if (ctx == null) return "null";
         return String.format("HookContext{flagKey='%s', type='%s', defaultValue=%s, context=%s}",
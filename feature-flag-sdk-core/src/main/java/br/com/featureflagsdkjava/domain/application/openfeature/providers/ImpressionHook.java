@@ -0,0 +1,30 @@
+package br.com.featureflagsdkjava.domain.application.openfeature.providers;
+
+import br.com.featureflagsdkjava.domain.application.impressions.ImpressionPipeline;
+import dev.openfeature.sdk.EvaluationContext;
+import dev.openfeature.sdk.FlagEvaluationDetails;
+import dev.openfeature.sdk.Hook;
+import dev.openfeature.sdk.HookContext;
+
+import java.util.Map;
+
+/**
+ * Records which variant every successful evaluation resolved to, and for which targeting key, in the
+ * {@link ImpressionPipeline}. Only queues the impression; sending it happens on the pipeline's own thread.
+ */
+public class ImpressionHook implements Hook<Object> {
+
+    private final ImpressionPipeline pipeline;
+
+    public ImpressionHook(ImpressionPipeline pipeline) {
+        this.pipeline = pipeline;
+    }
+
+    @Override
+    public void after(HookContext<Object> ctx, FlagEvaluationDetails<Object> details, Map<String, Object> hints) {
+        if (details.getVariant() == null) return;
+        EvaluationContext evaluationContext = ctx.getCtx();
+        String targetingKey = evaluationContext == null ? null : evaluationContext.getTargetingKey();
+        pipeline.record(details.getFlagKey(), targetingKey, details.getVariant(), details.getReason());
+    }
+}
@@ -0,0 +1,105 @@
+package br.com.featureflagsdkjava.domain.application.openfeature.providers;
+
+import dev.openfeature.sdk.ErrorCode;
+import dev.openfeature.sdk.EvaluationContext;
+import dev.openfeature.sdk.FlagEvaluationDetails;
+import dev.openfeature.sdk.Hook;
+import dev.openfeature.sdk.HookContext;
+import dev.openfeature.sdk.Reason;
+import dev.openfeature.sdk.exceptions.OpenFeatureError;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records every client evaluation in a Micrometer {@link Timer} tagged with the flag key, reason, variant and error
+ * code, which also gives per-tag evaluation counts. Timers are looked up once per tag combination and kept, and the
+ * start time lives in a per-thread slot, so an evaluation costs two {@code nanoTime} calls and a map lookup.
+ * <p>
+ * OpenFeature runs all hooks of an evaluation on the calling thread, which is what the per-thread slot relies on.
+ * <p>
+ * Batch evaluations do not go through the client, so the provider reports them through {@link #recordBatch}: each
+ * batch in the {@code feature.flag.batch.evaluations} timer, and its flags in the {@code feature.flag.batch.flags}
+ * counter tagged with {@code result=success|failure}.
+ */
+public class MetricsHook implements Hook<Object> {
+
+    public static final String EVALUATIONS = "feature.flag.evaluations";
+    public static final String BATCH_EVALUATIONS = "feature.flag.batch.evaluations";
+    public static final String BATCH_FLAGS = "feature.flag.batch.flags";
+    static final String NONE = "none";
+
+    private final MeterRegistry registry;
+    private final Map<Tags, Timer> timers = new ConcurrentHashMap<>();
+    private final ThreadLocal<long[]> startedAt = ThreadLocal.withInitial(() -> new long[1]);
+    private final Timer batches;
+    private final Counter batchFlagsSucceeded;
+    private final Counter batchFlagsFailed;
+
+    public MetricsHook(MeterRegistry registry) {
+        this.registry = registry;
+        this.batches = Timer.builder(BATCH_EVALUATIONS)
+                            .description("Batch evaluations made through the provider")
+                            .register(registry);
+        this.batchFlagsSucceeded = batchFlags("success");
+        this.batchFlagsFailed = batchFlags("failure");
+    }
+
+    /**
+     * Records one batch evaluation of {@code flags} flags, {@code failed} of which came back with an error.
+     */
+    public void recordBatch(int flags, int failed, long elapsedNanos) {
+        batches.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        batchFlagsSucceeded.increment(flags - failed);
+        batchFlagsFailed.increment(failed);
+    }
+
+    @Override
+    public Optional<EvaluationContext> before(HookContext<Object> ctx, Map<String, Object> hints) {
+        startedAt.get()[0] = System.nanoTime();
+        return Optional.empty();
+    }
+
+    @Override
+    public void after(HookContext<Object> ctx, FlagEvaluationDetails<Object> details, Map<String, Object> hints) {
+        record(new Tags(ctx.getFlagKey(), details.getReason(), details.getVariant(), details.getErrorCode()));
+    }
+
+    @Override
+    public void error(HookContext<Object> ctx, Exception error, Map<String, Object> hints) {
+        ErrorCode errorCode = error instanceof OpenFeatureError openFeatureError
+                ? openFeatureError.getErrorCode()
+                : ErrorCode.GENERAL;
+        record(new Tags(ctx.getFlagKey(), Reason.ERROR.name(), null, errorCode));
+    }
+
+    private void record(Tags tags) {
+        long elapsed = System.nanoTime() - startedAt.get()[0];
+        timers.computeIfAbsent(tags, this::timer).record(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    private Counter batchFlags(String result) {
+        return Counter.builder(BATCH_FLAGS)
+                      .description("Flags evaluated in batch evaluations")
+                      .tag("result", result)
+                      .register(registry);
+    }
+
+    private Timer timer(Tags tags) {
+        return Timer.builder(EVALUATIONS)
+                    .description("Flag evaluations made through the OpenFeature client")
+                    .tag("flag", Objects.requireNonNullElse(tags.flagKey(), NONE))
+                    .tag("reason", Objects.requireNonNullElse(tags.reason(), NONE))
+                    .tag("variant", Objects.requireNonNullElse(tags.variant(), NONE))
+                    .tag("error", tags.errorCode() == null ? NONE : tags.errorCode().name())
+                    .register(registry);
+    }
+
+    private record Tags(String flagKey, String reason, String variant, ErrorCode errorCode) {}
+}
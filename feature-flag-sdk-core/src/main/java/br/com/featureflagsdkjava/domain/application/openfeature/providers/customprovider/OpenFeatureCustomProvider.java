@@ -0,0 +1,539 @@
+package br.com.featureflagsdkjava.domain.application.openfeature.providers.customprovider;
+
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.HookFactory;
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.MetricsHook;
+import br.com.featureflagsdkjava.domain.application.targeting.CompiledFlag;
+import br.com.featureflagsdkjava.domain.application.targeting.CompiledFlagIndex;
+import br.com.featureflagsdkjava.domain.application.targeting.ContextView;
+import br.com.featureflagsdkjava.domain.application.targeting.FlagVariants;
+import br.com.featureflagsdkjava.domain.application.targeting.FlagVariants.ValueType;
+import br.com.featureflagsdkjava.domain.application.targeting.TargetingEngine;
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagSnapshot;
+import br.com.featureflagsdkjava.domain.ports.FeatureFlagQueryPort;
+import dev.openfeature.sdk.*;
+import dev.openfeature.sdk.exceptions.FlagNotFoundError;
+import dev.openfeature.sdk.exceptions.OpenFeatureError;
+import dev.openfeature.sdk.exceptions.ParseError;
+import dev.openfeature.sdk.exceptions.TargetingKeyMissingError;
+import dev.openfeature.sdk.exceptions.TypeMismatchError;
+import io.github.jamsesso.jsonlogic.JsonLogicException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+@ConditionalOnBean(FeatureFlagQueryPort.class)
+@ConditionalOnMissingBean(FeatureProvider.class)
+public class OpenFeatureCustomProvider extends EventProvider {
+
+    private final FeatureFlagQueryPort featureFlagQueryPort;
+    private final TargetingEngine targetingEngine;
+    private final ProviderReadiness readiness = new ProviderReadiness();
+
+    @Value("${feature.flag.provider.warm-up.enabled:true}")
+    private boolean warmUpEnabled = true;
+
+    @Value("${feature.flag.provider.warm-up.budget:5s}")
+    private Duration warmUpBudget = Duration.ofSeconds(5);
+
+    @Value("${feature.flag.provider.warm-up.evaluations-per-flag:20}")
+    private int warmUpEvaluationsPerFlag = 20;
+
+    @Value("${feature.flag.provider.warm-up.parallelism:0}")
+    private int warmUpParallelism;
+
+    @Value("${feature.flag.provider.stale-after:5m}")
+    private Duration staleAfter = Duration.ofMinutes(5);
+
+    @Value("${feature.flag.logging.enabled:false}")
+    private boolean loggingEnabled;
+
+    @Value("${feature.flag.logging.sample-rate:1.0}")
+    private double loggingSampleRate = 1.0;
+
+    private MetricsHook metricsHook;
+
+    private volatile ProviderWarmUp warmUp;
+    private volatile ScheduledExecutorService stalenessCheck;
+
+    @Autowired
+    public OpenFeatureCustomProvider(FeatureFlagQueryPort featureFlagService, TargetingEngine targetingEngine) {
+        this.featureFlagQueryPort = featureFlagService;
+        this.targetingEngine = targetingEngine;
+    }
+
+    /**
+     * Batch evaluations do not run the client's hooks; with metrics enabled, they are recorded through this hook.
+     */
+    @Autowired(required = false)
+    public void setMetricsHook(MetricsHook metricsHook) {
+        this.metricsHook = metricsHook;
+    }
+
+    @Override
+    public Metadata getMetadata() {
+        return () -> "CustomProvider";
+    }
+
+    /**
+     * Loads the flags and warms the provider up for at most {@code feature.flag.provider.warm-up.budget}. When the
+     * budget runs out, initialization completes anyway, so OpenFeature reports the provider ready and evaluations
+     * compile what they need, while the warm-up goes on in the background; {@link #readiness()} only reports ready
+     * once it is done, and no further event is emitted for it. Afterwards, PROVIDER_STALE is emitted while the flag
+     * source has not confirmed its snapshot for longer than {@code feature.flag.provider.stale-after}, and
+     * PROVIDER_READY once it has again.
+     */
+    @Override
+    public void initialize(EvaluationContext evaluationContext) {
+        if (warmUpEnabled) {
+            warmUp(loadFlags());
+        } else {
+            readiness.set(ProviderReadiness.Status.READY);
+        }
+        startStalenessCheck();
+    }
+
+    @Override
+    public void shutdown() {
+        ProviderWarmUp running = warmUp;
+        if (running != null) running.cancel();
+        ScheduledExecutorService check = stalenessCheck;
+        if (check != null) check.shutdownNow();
+    }
+
+    public ProviderReadiness readiness() {
+        return readiness;
+    }
+
+    private List<Flag> loadFlags() {
+        try {
+            return featureFlagQueryPort.currentSnapshot().map(FlagSnapshot::getFlags).orElseGet(featureFlagQueryPort::findAll);
+        } catch (RuntimeException e) {
+            log.warn("Unable to load flags for warm-up, flags will be loaded on first use: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private void warmUp(List<Flag> flags) {
+        ProviderWarmUp running = new ProviderWarmUp(this, targetingEngine, warmUpEvaluationsPerFlag);
+        warmUp = running;
+        CompletableFuture<ProviderReadiness.WarmUp> warmedUp = running.start(flags, warmUpParallelism);
+        try {
+            warmedUp(warmedUp.get(warmUpBudget.toMillis(), TimeUnit.MILLISECONDS));
+            readiness.set(ProviderReadiness.Status.READY);
+        } catch (TimeoutException e) {
+            readiness.warmedUp(running.result(flags.size(), false));
+            readiness.set(ProviderReadiness.Status.WARMING);
+            log.warn("Warm-up of {} flags still running after {}, continuing in the background", flags.size(), warmUpBudget);
+            warmedUp.thenAccept(result -> {
+                warmedUp(result);
+                if (result.complete()) readiness.transition(ProviderReadiness.Status.WARMING, ProviderReadiness.Status.READY);
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running.cancel();
+            readiness.set(ProviderReadiness.Status.READY);
+        } catch (ExecutionException e) {
+            log.warn("Warm-up failed, flags will be compiled on first use: {}", e.getCause().getMessage());
+            readiness.set(ProviderReadiness.Status.READY);
+        } finally {
+            if (warmedUp.isDone()) warmUp = null;
+        }
+    }
+
+    private void warmedUp(ProviderReadiness.WarmUp result) {
+        readiness.warmedUp(result);
+        log.info("Warm-up of {} flags finished in {} ms with {} evaluations", result.flags(), result.elapsed().toMillis(), result.evaluations());
+    }
+
+    private void startStalenessCheck() {
+        if (staleAfter.isZero() || staleAfter.isNegative()) return;
+        long periodMillis = Math.max(1_000, staleAfter.toMillis() / 5);
+        stalenessCheck = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "feature-flag-staleness");
+            thread.setDaemon(true);
+            return thread;
+        });
+        stalenessCheck.scheduleWithFixedDelay(this::checkStaleness, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Emits PROVIDER_STALE when the snapshot has gone unconfirmed for too long and PROVIDER_READY when it recovers.
+     * Sources that keep no snapshot are never stale.
+     */
+    void checkStaleness() {
+        try {
+            boolean stale = featureFlagQueryPort.lastSyncedAt()
+                                                .map(syncedAt -> Duration.between(syncedAt, Instant.now()).compareTo(staleAfter) > 0)
+                                                .orElse(false);
+            if (stale && readiness.transition(ProviderReadiness.Status.READY, ProviderReadiness.Status.STALE)) {
+                log.warn("Flag snapshot not confirmed by the flag source for more than {}", staleAfter);
+                emitProviderStale(ProviderEventDetails.builder()
+                                                      .message("Flag snapshot not confirmed for more than " + staleAfter)
+                                                      .build());
+            } else if (!stale && readiness.transition(ProviderReadiness.Status.STALE, ProviderReadiness.Status.READY)) {
+                log.info("Flag snapshot confirmed by the flag source again");
+                emitProviderReady(ProviderEventDetails.builder().message("Flag snapshot confirmed again").build());
+            }
+        } catch (RuntimeException e) {
+            log.debug("Staleness check failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public ProviderEvaluation<Boolean> getBooleanEvaluation(String flagName, Boolean defaultValue, EvaluationContext evaluationContext) {
+        return evaluateFlag(flagName, defaultValue, evaluationContext, ValueType.BOOLEAN);
+    }
+
+    @Override
+    public ProviderEvaluation<String> getStringEvaluation(String flagName, String defaultValue, EvaluationContext evaluationContext) {
+        return evaluateFlag(flagName, defaultValue, evaluationContext, ValueType.STRING);
+    }
+
+    @Override
+    public ProviderEvaluation<Integer> getIntegerEvaluation(String flagName, Integer defaultValue, EvaluationContext evaluationContext) {
+        return evaluateFlag(flagName, defaultValue, evaluationContext, ValueType.INTEGER);
+    }
+
+    @Override
+    public ProviderEvaluation<Double> getDoubleEvaluation(String flagName, Double defaultValue, EvaluationContext evaluationContext) {
+        return evaluateFlag(flagName, defaultValue, evaluationContext, ValueType.DOUBLE);
+    }
+
+    @Override
+    public ProviderEvaluation<dev.openfeature.sdk.Value> getObjectEvaluation(String flagName, dev.openfeature.sdk.Value defaultValue, EvaluationContext evaluationContext) {
+        return evaluateFlag(flagName, defaultValue, evaluationContext, ValueType.OBJECT);
+    }
+
+    /**
+     * Evaluates every known flag against the same context, e.g. to bootstrap a front-end client in one response.
+     *
+     * @see #evaluateAll(Collection, EvaluationContext)
+     */
+    public Map<String, ProviderEvaluation<?>> evaluateAll(EvaluationContext evaluationContext) {
+        Optional<FlagSnapshot> snapshot = featureFlagQueryPort.currentSnapshot();
+        List<Flag> flags = snapshot.map(FlagSnapshot::getFlags).orElseGet(featureFlagQueryPort::findAll);
+
+        Map<String, Flag> flagsByName = new LinkedHashMap<>(flags.size() * 2);
+        for (Flag flag : flags) flagsByName.put(flag.getName(), flag);
+        return evaluateAll(flagsByName.keySet(), name -> findIndexedFlag(name, flagsByName), evaluationContext, true);
+    }
+
+    /**
+     * Evaluates the given flags against one context. The context is converted once, every flag is read from
+     * the same snapshot when one is available (or fetched in a single lookup otherwise), prerequisites shared by
+     * several flags are evaluated once for the whole batch, and the evaluation is logged once for the whole batch.
+     * Values are typed after each flag's {@link Flag.Type}; flags that cannot be evaluated get an error
+     * evaluation with a null value instead of failing the batch.
+     *
+     * @return the evaluations keyed by flag name, in the order the names were given
+     */
+    public Map<String, ProviderEvaluation<?>> evaluateAll(Collection<String> flagNames, EvaluationContext evaluationContext) {
+        Map<String, Flag> flags = featureFlagQueryPort.currentSnapshot()
+                                                      .map(FlagSnapshot::getFlagsByName)
+                                                      .orElseGet(() -> featureFlagQueryPort.findByFlagNames(flagNames));
+        return evaluateAll(flagNames, name -> findIndexedFlag(name, flags), evaluationContext, true);
+    }
+
+    /**
+     * Evaluates the given flags against one context, reading them from {@code flags}, e.g. flags the caller fetched
+     * through a {@link br.com.featureflagsdkjava.domain.ports.ReactiveFeatureFlagQueryPort}. Prerequisites are read
+     * from the snapshot, or from the flags evaluated before, and never looked up, so the call does not block.
+     *
+     * @see #evaluateAll(Collection, EvaluationContext)
+     */
+    public Map<String, ProviderEvaluation<?>> evaluateAll(Collection<String> flagNames, Map<String, Flag> flags,
+                                                          EvaluationContext evaluationContext) {
+        return evaluateAll(flagNames, name -> findValidFlag(name, Optional.ofNullable(name == null ? null : flags.get(name))),
+                evaluationContext, false);
+    }
+
+    private Map<String, ProviderEvaluation<?>> evaluateAll(Collection<String> flagNames, Function<String, CompiledFlag> findFlag,
+                                                           EvaluationContext evaluationContext, boolean lookUpPrerequisites) {
+        long startedAt = metricsHook != null ? System.nanoTime() : 0L;
+        boolean logged = loggingEnabled && log.isDebugEnabled() && HookFactory.isSampled(loggingSampleRate);
+        if (logged) log.debug(HookFactory.STARTING_BATCH_EVALUATION, flagNames.size());
+        Map<String, Object> contextData = contextData(evaluationContext);
+        Map<String, ProviderEvaluation<?>> evaluations = new LinkedHashMap<>(flagNames.size() * 2);
+        PrerequisiteVariants prerequisiteVariants = new PrerequisiteVariants(lookUpPrerequisites);
+        int failed = 0;
+
+        for (String flagName : flagNames) {
+            ProviderEvaluation<Object> evaluation;
+            try {
+                CompiledFlag flag = findFlag.apply(flagName);
+                evaluation = processFlag(flag, null, contextData, ValueType.NATIVE, prerequisiteVariants);
+                prerequisiteVariants.variants.putIfAbsent(flag.name(), evaluation.getVariant());
+            } catch (OpenFeatureError e) {
+                evaluation = buildErrorEvaluation(null, e);
+            }
+            if (evaluation.getErrorCode() != null) failed++;
+            evaluations.put(flagName, evaluation);
+        }
+
+        if (metricsHook != null) metricsHook.recordBatch(evaluations.size(), failed, System.nanoTime() - startedAt);
+        if (logged) log.debug(HookFactory.BATCH_EVALUATED, evaluations.size(), failed);
+        return evaluations;
+    }
+
+    /**
+     * Evaluates a flag the caller looked up itself, e.g. through a reactive flag source. Unlike the
+     * {@link FeatureProvider} methods, failures are returned as error evaluations carrying the default value
+     * instead of being thrown. Like {@link #evaluateAll(Collection, Map, EvaluationContext)}, it never looks
+     * prerequisites up.
+     *
+     * @param flag the flag named {@code flagName}, or an empty Optional when it does not exist
+     */
+    public <T> ProviderEvaluation<T> evaluate(String flagName, Optional<Flag> flag, T defaultValue,
+                                              EvaluationContext evaluationContext, ValueType valueType) {
+        try {
+            return evaluateValidFlag(findValidFlag(flagName, flag), defaultValue, evaluationContext, valueType, false);
+        } catch (OpenFeatureError e) {
+            return buildErrorEvaluation(defaultValue, e);
+        }
+    }
+
+    /**
+     * Returns the in-memory snapshot of the flag source, or an empty Optional when it keeps none.
+     */
+    public Optional<FlagSnapshot> currentSnapshot() {
+        return featureFlagQueryPort.currentSnapshot();
+    }
+
+    private <T> ProviderEvaluation<T> evaluateFlag(String flagName, T defaultValue, EvaluationContext evaluationContext, ValueType valueType) {
+        CompiledFlag indexed = targetingEngine.index().get(flagName);
+        CompiledFlag flag = indexed != null
+                ? validFlag(flagName, indexed)
+                : findValidFlag(flagName, featureFlagQueryPort.findByFlagName(flagName));
+        return evaluateValidFlag(flag, defaultValue, evaluationContext, valueType, true);
+    }
+
+    private <T> ProviderEvaluation<T> evaluateValidFlag(CompiledFlag flag, T defaultValue, EvaluationContext evaluationContext,
+                                                        ValueType valueType, boolean lookUpPrerequisites) {
+        if (!flag.hasPrerequisites()) {
+            return processFlag(flag, defaultValue, flag.hasTargeting() ? contextData(evaluationContext) : null, valueType, null);
+        }
+        return processFlag(flag, defaultValue, contextData(evaluationContext), valueType,
+                new PrerequisiteVariants(lookUpPrerequisites));
+    }
+
+    /**
+     * Compiles the flag and returns the names of its prerequisites, so a caller that looks flags up itself can fetch
+     * them before evaluating it.
+     */
+    List<String> prerequisiteNames(Flag flag) {
+        try {
+            return targetingEngine.compiled(flag).prerequisites().stream().map(CompiledFlag.Prerequisite::flag).toList();
+        } catch (ParseError e) {
+            log.error("Ignoring flag {}: {}", flag.getName(), e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * Resolves the flag from the published index by name; only flags missing from it are read from {@code flags}.
+     */
+    private CompiledFlag findIndexedFlag(String flagName, Map<String, Flag> flags) {
+        CompiledFlag indexed = targetingEngine.index().get(flagName);
+        if (indexed != null) return validFlag(flagName, indexed);
+        return findValidFlag(flagName, Optional.ofNullable(flagName == null ? null : flags.get(flagName)));
+    }
+
+    /**
+     * Resolves a flag that is not in the index to its compiled form once; the rest of the evaluation only reads that
+     * immutable view.
+     */
+    private CompiledFlag findValidFlag(String flagName, Optional<Flag> flag) {
+        if (flag.isEmpty() || flag.get() == null) throw getFlagNotFoundError(flagName, " not found");
+        return validFlag(flagName, targetingEngine.compiled(flag.get()));
+    }
+
+    /**
+     * Lazy view of the context; rules only convert the attributes they read.
+     */
+    private static Map<String, Object> contextData(EvaluationContext evaluationContext) {
+        if (evaluationContext == null || evaluationContext.isEmpty()) return null;
+        return ContextView.of(evaluationContext);
+    }
+
+    private static FlagNotFoundError getFlagNotFoundError(String flagName, String message) {
+        return new FlagNotFoundError("Flag " + flagName + message);
+    }
+
+    /**
+     * Checks what {@link CompiledFlag} worked out when the flag was compiled.
+     */
+    private CompiledFlag validFlag(String flagName, CompiledFlag flag) {
+        if (!flag.isEnabled()) throw getFlagNotFoundError(flagName, "is disabled");
+        if (!flag.hasDefaultVariant()) throw new TargetingKeyMissingError("Default variant is missing on flag " + flagName);
+        return flag;
+    }
+
+    /**
+     * @param prerequisiteVariants the prerequisites already evaluated against the same context; only read when the
+     *                             flag has prerequisites
+     */
+    private <T> ProviderEvaluation<T> processFlag(CompiledFlag flag, T defaultValue, Map<String, Object> contextData,
+                                                  ValueType valueType, PrerequisiteVariants prerequisiteVariants) {
+        FlagVariants variants = flag.variants();
+        if (flag.hasPrerequisites() && !prerequisitesMet(flag, contextData, prerequisiteVariants)) {
+            return staticEvaluation(flag, variants, defaultValue, valueType);
+        }
+        if (isStaticEvaluation(flag, contextData)) {
+            return staticEvaluation(flag, variants, defaultValue, valueType);
+        }
+        return dynamicEvaluation(flag, variants, defaultValue, contextData, valueType);
+    }
+
+    private <T> ProviderEvaluation<T> dynamicEvaluation(CompiledFlag flag, FlagVariants variants, T defaultValue,
+                                                        Map<String, Object> contextData, ValueType valueType) {
+        try {
+            Object result = flag.rule().evaluate(contextData);
+            if (result == null) return staticEvaluation(flag, variants, defaultValue, valueType);
+
+            String variant = String.valueOf(result);
+            if (!variants.contains(variant)) {
+                log.warn("Variant '{}' not found for flag '{}'", result, flag.name());
+                return buildErrorEvaluation(defaultValue);
+            }
+
+            ProviderEvaluation<T> evaluation = variants.targetingEvaluation(variant, valueType);
+            return evaluation != null ? evaluation : buildTypeMismatchEvaluation(defaultValue, flag, variant, valueType);
+        } catch (JsonLogicException e) {
+            log.error("Error processing dynamic evaluation of flag: {}, {}", flag.name(), e);
+            return buildErrorEvaluation(defaultValue);
+        }
+    }
+
+    /**
+     * Evaluates the prerequisite DAG of the flag for one context, in the order {@link CompiledFlagIndex} sorted it:
+     * each prerequisite finds its own prerequisites already resolved, so every flag of the DAG is evaluated once,
+     * however many paths lead to it.
+     */
+    private boolean prerequisitesMet(CompiledFlag flag, Map<String, Object> contextData, PrerequisiteVariants prerequisiteVariants) {
+        Map<String, String> resolved = prerequisiteVariants.variants;
+        for (CompiledFlag prerequisite : prerequisitesOf(flag, prerequisiteVariants.lookUp)) {
+            if (!resolved.containsKey(prerequisite.name())) {
+                resolved.put(prerequisite.name(), resolveVariant(prerequisite, contextData, resolved));
+            }
+        }
+        return isMet(flag, resolved);
+    }
+
+    private static boolean isMet(CompiledFlag flag, Map<String, String> resolved) {
+        for (CompiledFlag.Prerequisite prerequisite : flag.prerequisites()) {
+            if (!prerequisite.isMetBy(resolved.get(prerequisite.flag()))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return the variant the prerequisite evaluates to, or null when it is disabled or cannot be evaluated
+     */
+    private String resolveVariant(CompiledFlag flag, Map<String, Object> contextData, Map<String, String> resolved) {
+        if (!flag.isEnabled() || !flag.hasDefaultVariant()) return null;
+        if (flag.hasPrerequisites() && !isMet(flag, resolved)) return flag.defaultVariant();
+        if (isStaticEvaluation(flag, contextData)) return flag.defaultVariant();
+        try {
+            Object result = flag.rule().evaluate(contextData);
+            if (result == null) return flag.defaultVariant();
+            String variant = String.valueOf(result);
+            return flag.variants().contains(variant) ? variant : null;
+        } catch (JsonLogicException e) {
+            log.error("Error evaluating prerequisite flag: {}, {}", flag.name(), e);
+            return null;
+        }
+    }
+
+    /**
+     * The transitive prerequisites of the flag, as the targeting engine has them compiled. Without a snapshot, flags
+     * are read from the flag source on every evaluation, so their prerequisites are too, one lookup per level of the
+     * DAG.
+     */
+    private List<CompiledFlag> prerequisitesOf(CompiledFlag flag, boolean lookUp) {
+        if (lookUp && featureFlagQueryPort.currentSnapshot().isEmpty()) lookUpPrerequisites(flag);
+        return targetingEngine.prerequisitesOf(flag);
+    }
+
+    private void lookUpPrerequisites(CompiledFlag flag) {
+        Set<String> seen = new HashSet<>();
+        List<String> level = new ArrayList<>();
+        for (CompiledFlag.Prerequisite prerequisite : flag.prerequisites()) {
+            if (seen.add(prerequisite.flag())) level.add(prerequisite.flag());
+        }
+        while (!level.isEmpty()) {
+            List<String> next = new ArrayList<>();
+            for (Flag found : featureFlagQueryPort.findByFlagNames(level).values()) {
+                try {
+                    for (CompiledFlag.Prerequisite prerequisite : targetingEngine.compiled(found).prerequisites()) {
+                        if (seen.add(prerequisite.flag())) next.add(prerequisite.flag());
+                    }
+                } catch (ParseError e) {
+                    log.error("Ignoring prerequisite flag {}: {}", found.getName(), e.getMessage());
+                }
+            }
+            level = next;
+        }
+    }
+
+    private boolean isStaticEvaluation(CompiledFlag flag, Map<String, Object> contextData) {
+        return !flag.hasTargeting() || contextData == null;
+    }
+
+    /**
+     * Returns the shared evaluation of the default variant; static flags allocate nothing per evaluation.
+     */
+    private <T> ProviderEvaluation<T> staticEvaluation(CompiledFlag flag, FlagVariants variants, T defaultValue, ValueType valueType) {
+        ProviderEvaluation<T> evaluation = variants.defaultEvaluation(valueType);
+        return evaluation != null ? evaluation : buildTypeMismatchEvaluation(defaultValue, flag, flag.defaultVariant(), valueType);
+    }
+
+    private <T> ProviderEvaluation<T> buildTypeMismatchEvaluation(T defaultValue, CompiledFlag flag, String variant, ValueType valueType) {
+        return buildErrorEvaluation(defaultValue, new TypeMismatchError(
+                "Variant " + variant + " of flag " + flag.name() + " cannot be evaluated as " + valueType.name().toLowerCase()));
+    }
+
+    private <T> ProviderEvaluation<T> buildErrorEvaluation(T defaultValue) {
+        return ProviderEvaluation.<T>builder()
+                                 .reason(Reason.ERROR.toString())
+                                 .value(defaultValue)
+                                 .build();
+    }
+
+    private <T> ProviderEvaluation<T> buildErrorEvaluation(T defaultValue, OpenFeatureError error) {
+        return ProviderEvaluation.<T>builder()
+                                 .reason(Reason.ERROR.toString())
+                                 .value(defaultValue)
+                                 .errorCode(error.getErrorCode())
+                                 .errorMessage(error.getMessage())
+                                 .build();
+    }
+
+    /**
+     * Variants the prerequisites evaluated to for one context, null for those that did not evaluate; shared by the
+     * flags of a batch.
+     */
+    private static final class PrerequisiteVariants {
+
+        private final Map<String, String> variants = new HashMap<>();
+        private final boolean lookUp;
+
+        /**
+         * @param lookUp whether prerequisites missing from the index may be looked up in the flag source, which blocks
+         */
+        private PrerequisiteVariants(boolean lookUp) {
+            this.lookUp = lookUp;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.featureflagsdkjava.domain.application.openfeature.providers.customprovider;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Whether the provider is ready for traffic: its flags are loaded, compiled and exercised, and its snapshot was
+ * recently confirmed against the flag service.
+ */
+public final class ProviderReadiness {
+
+    public enum Status {
+        /**
+         * Not initialized by OpenFeature yet.
+         */
+        STARTING,
+        /**
+         * Initialized, but the warm-up did not finish within its budget and is still running.
+         */
+        WARMING,
+        READY,
+        /**
+         * Warm, but serving a snapshot the flag service has not confirmed for longer than allowed.
+         */
+        STALE
+    }
+
+    /**
+     * @param complete false when the budget ran out before every flag was compiled and exercised
+     */
+    public record WarmUp(int flags, long evaluations, Duration elapsed, boolean complete) {}
+
+    private volatile Status status = Status.STARTING;
+    private volatile WarmUp warmUp;
+    private volatile Instant since = Instant.now();
+    private final List<Runnable> readyListeners = new CopyOnWriteArrayList<>();
+
+    public Status status() {
+        return status;
+    }
+
+    /**
+     * @return the last warm-up, or null before the first one finished or ran out of budget
+     */
+    public WarmUp warmUp() {
+        return warmUp;
+    }
+
+    public Instant since() {
+        return since;
+    }
+
+    /**
+     * @return true when the provider is warm, even if its snapshot is stale: stale flags are still served, and
+     * routing traffic away from every instance while the flag service is down would not help
+     */
+    public boolean isReady() {
+        return isReady(status);
+    }
+
+    /**
+     * Runs {@code listener} every time the provider becomes ready after having been starting or warming up, on the
+     * thread that made it ready.
+     */
+    public void onReady(Runnable listener) {
+        readyListeners.add(listener);
+    }
+
+    void warmedUp(WarmUp warmUp) {
+        this.warmUp = warmUp;
+    }
+
+    /**
+     * @return true when the status changed
+     */
+    boolean transition(Status from, Status to) {
+        synchronized (this) {
+            if (status != from) return false;
+            status = to;
+            since = Instant.now();
+        }
+        if (!isReady(from) && isReady(to)) readyListeners.forEach(Runnable::run);
+        return true;
+    }
+
+    void set(Status to) {
+        Status from;
+        synchronized (this) {
+            from = status;
+            status = to;
+            since = Instant.now();
+        }
+        if (!isReady(from) && isReady(to)) readyListeners.forEach(Runnable::run);
+    }
+
+    private static boolean isReady(Status status) {
+        return status == Status.READY || status == Status.STALE;
+    }
+}
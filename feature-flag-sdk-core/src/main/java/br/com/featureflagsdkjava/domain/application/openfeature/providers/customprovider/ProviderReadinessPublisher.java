@@ -0,0 +1,49 @@
+package br.com.featureflagsdkjava.domain.application.openfeature.providers.customprovider;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Holds the application {@link ReadinessState} at {@code REFUSING_TRAFFIC} while the provider warms up, so the
+ * readiness probe, and anything else reading {@code ApplicationAvailability}, only lets traffic in once it is warm.
+ * When the application declares itself ready before the warm-up is done, the state is turned back to
+ * {@code REFUSING_TRAFFIC} and set to {@code ACCEPTING_TRAFFIC} again when the provider becomes ready. Liveness is
+ * left alone, so Kubernetes does not restart a pod that is still warming.
+ */
+@Slf4j
+public class ProviderReadinessPublisher implements ApplicationListener<AvailabilityChangeEvent<ReadinessState>> {
+
+    private final ApplicationEventPublisher publisher;
+    private final ProviderReadiness readiness;
+    private final AtomicBoolean held = new AtomicBoolean();
+
+    public ProviderReadinessPublisher(ApplicationEventPublisher publisher, OpenFeatureCustomProvider provider) {
+        this.publisher = publisher;
+        this.readiness = provider.readiness();
+        this.readiness.onReady(this::release);
+    }
+
+    @Override
+    public void onApplicationEvent(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getSource() == this) return;
+        if (event.getState() == ReadinessState.REFUSING_TRAFFIC) {
+            held.set(false);
+        } else if (!readiness.isReady() && held.compareAndSet(false, true)) {
+            log.info("Refusing traffic until the feature flag provider is warm");
+            AvailabilityChangeEvent.publish(publisher, this, ReadinessState.REFUSING_TRAFFIC);
+            if (readiness.isReady()) release();
+        }
+    }
+
+    private void release() {
+        if (held.compareAndSet(true, false)) {
+            log.info("Feature flag provider is warm, accepting traffic");
+            AvailabilityChangeEvent.publish(publisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.featureflagsdkjava.domain.application.openfeature.providers.customprovider;
+
+import br.com.featureflagsdkjava.domain.application.targeting.FlagVariants.ValueType;
+import br.com.featureflagsdkjava.domain.application.targeting.TargetingEngine;
+import br.com.featureflagsdkjava.domain.model.Flag;
+import dev.openfeature.sdk.EvaluationContext;
+import dev.openfeature.sdk.ImmutableContext;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gets the provider ready for its first requests: compiles the targeting of every flag in parallel, then evaluates
+ * each flag against a few synthetic contexts so the evaluation path is loaded and compiled by the JIT. Runs on a
+ * dedicated {@link ForkJoinPool} that is shut down once it is done.
+ */
+@Slf4j
+final class ProviderWarmUp {
+
+    private final OpenFeatureCustomProvider provider;
+    private final TargetingEngine targetingEngine;
+    private final int evaluationsPerFlag;
+    private final LongAdder evaluations = new LongAdder();
+    private final long startedAt = System.nanoTime();
+    private volatile boolean cancelled;
+
+    ProviderWarmUp(OpenFeatureCustomProvider provider, TargetingEngine targetingEngine, int evaluationsPerFlag) {
+        this.provider = provider;
+        this.targetingEngine = targetingEngine;
+        this.evaluationsPerFlag = evaluationsPerFlag;
+    }
+
+    /**
+     * Starts warming {@code flags} up.
+     *
+     * @return completes with the finished warm-up
+     */
+    CompletableFuture<ProviderReadiness.WarmUp> start(List<Flag> flags, int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        CompletableFuture<ProviderReadiness.WarmUp> warmUp = CompletableFuture
+                .runAsync(() -> flags.parallelStream().forEach(this::compile), pool)
+                .thenRunAsync(() -> flags.parallelStream().forEach(this::exercise), pool)
+                .thenApply(ignored -> result(flags.size(), !cancelled));
+        warmUp.whenComplete((result, error) -> pool.shutdown());
+        return warmUp;
+    }
+
+    /**
+     * Stops the warm-up at the next flag, e.g. when the provider shuts down.
+     */
+    void cancel() {
+        cancelled = true;
+    }
+
+    ProviderReadiness.WarmUp result(int flags, boolean complete) {
+        return new ProviderReadiness.WarmUp(flags, evaluations.sum(), Duration.ofNanos(System.nanoTime() - startedAt), complete);
+    }
+
+    private void compile(Flag flag) {
+        if (cancelled || flag == null) return;
+        try {
+            targetingEngine.compiled(flag);
+        } catch (RuntimeException e) {
+            log.debug("Flag {} not compiled during warm-up: {}", flag.getName(), e.getMessage());
+        }
+    }
+
+    /**
+     * Evaluates the flag with distinct targeting keys, which also exercises percentage rollouts.
+     */
+    private void exercise(Flag flag) {
+        if (flag == null) return;
+        for (int i = 0; i < evaluationsPerFlag && !cancelled; i++) {
+            EvaluationContext context = new ImmutableContext("warm-up-" + i);
+            provider.evaluate(flag.getName(), Optional.of(flag), null, context, ValueType.NATIVE);
+            evaluations.increment();
+        }
+    }
+}
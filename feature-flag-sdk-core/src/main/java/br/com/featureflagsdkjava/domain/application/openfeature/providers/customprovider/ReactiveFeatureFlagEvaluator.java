@@ -0,0 +1,132 @@
+package br.com.featureflagsdkjava.domain.application.openfeature.providers.customprovider;
+
+import br.com.featureflagsdkjava.domain.application.targeting.FlagVariants.ValueType;
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagSnapshot;
+import br.com.featureflagsdkjava.domain.ports.ReactiveFeatureFlagQueryPort;
+import dev.openfeature.sdk.EvaluationContext;
+import dev.openfeature.sdk.ProviderEvaluation;
+import dev.openfeature.sdk.Reason;
+import dev.openfeature.sdk.Value;
+import dev.openfeature.sdk.exceptions.GeneralError;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Non-blocking evaluation API for reactive (e.g. WebFlux) applications. Flags are read from the flag cache snapshot
+ * when there is one, which never blocks, and fetched through the {@link ReactiveFeatureFlagQueryPort} otherwise, so
+ * evaluations can run on an event loop without moving to another scheduler. Without a snapshot, the prerequisites
+ * of the fetched flags are fetched through the same port before they are evaluated, one lookup per level.
+ * <p>
+ * Evaluations go straight to the {@link OpenFeatureCustomProvider}: the hooks of the OpenFeature {@code Client} are
+ * not run. Like {@link OpenFeatureCustomProvider#evaluateAll}, failures are returned as error evaluations with the
+ * default value; the returned {@link Mono}s never complete empty or with an error.
+ */
+@Slf4j
+public class ReactiveFeatureFlagEvaluator {
+
+    private final OpenFeatureCustomProvider provider;
+    private final ReactiveFeatureFlagQueryPort reactiveFeatureFlagQueryPort;
+
+    public ReactiveFeatureFlagEvaluator(OpenFeatureCustomProvider provider,
+                                        ReactiveFeatureFlagQueryPort reactiveFeatureFlagQueryPort) {
+        this.provider = provider;
+        this.reactiveFeatureFlagQueryPort = reactiveFeatureFlagQueryPort;
+    }
+
+    public Mono<ProviderEvaluation<Boolean>> getBooleanEvaluation(String flagName, Boolean defaultValue, EvaluationContext evaluationContext) {
+        return evaluate(flagName, defaultValue, evaluationContext, ValueType.BOOLEAN);
+    }
+
+    public Mono<ProviderEvaluation<String>> getStringEvaluation(String flagName, String defaultValue, EvaluationContext evaluationContext) {
+        return evaluate(flagName, defaultValue, evaluationContext, ValueType.STRING);
+    }
+
+    public Mono<ProviderEvaluation<Integer>> getIntegerEvaluation(String flagName, Integer defaultValue, EvaluationContext evaluationContext) {
+        return evaluate(flagName, defaultValue, evaluationContext, ValueType.INTEGER);
+    }
+
+    public Mono<ProviderEvaluation<Double>> getDoubleEvaluation(String flagName, Double defaultValue, EvaluationContext evaluationContext) {
+        return evaluate(flagName, defaultValue, evaluationContext, ValueType.DOUBLE);
+    }
+
+    public Mono<ProviderEvaluation<Value>> getObjectEvaluation(String flagName, Value defaultValue, EvaluationContext evaluationContext) {
+        return evaluate(flagName, defaultValue, evaluationContext, ValueType.OBJECT);
+    }
+
+    /**
+     * Evaluates the given flags against one context; without a snapshot, the flags are fetched in one lookup.
+     *
+     * @see OpenFeatureCustomProvider#evaluateAll(Collection, EvaluationContext)
+     */
+    public Mono<Map<String, ProviderEvaluation<?>>> evaluateAll(Collection<String> flagNames, EvaluationContext evaluationContext) {
+        return Mono.defer(() -> {
+            Optional<FlagSnapshot> snapshot = provider.currentSnapshot();
+            if (snapshot.isPresent()) {
+                return Mono.just(provider.evaluateAll(flagNames, snapshot.get().getFlagsByName(), evaluationContext));
+            }
+            return reactiveFeatureFlagQueryPort.findByFlagNames(flagNames)
+                                               .onErrorResume(e -> {
+                                                   log.error("Unable to fetch {} flags: {}", flagNames.size(), e.toString());
+                                                   return Mono.empty();
+                                               })
+                                               .collectMap(Flag::getName)
+                                               .flatMap(flags -> loadPrerequisites(flags.values()).thenReturn(flags))
+                                               .map(flags -> provider.evaluateAll(flagNames, flags, evaluationContext));
+        });
+    }
+
+    private <T> Mono<ProviderEvaluation<T>> evaluate(String flagName, T defaultValue, EvaluationContext evaluationContext,
+                                                     ValueType valueType) {
+        return Mono.defer(() -> {
+            Optional<FlagSnapshot> snapshot = provider.currentSnapshot();
+            if (snapshot.isPresent()) {
+                return Mono.just(provider.evaluate(flagName, snapshot.get().find(flagName), defaultValue, evaluationContext, valueType));
+            }
+            return reactiveFeatureFlagQueryPort.findByFlagName(flagName)
+                                               .flatMap(flag -> loadPrerequisites(List.of(flag)).thenReturn(Optional.of(flag)))
+                                               .defaultIfEmpty(Optional.empty())
+                                               .map(flag -> provider.evaluate(flagName, flag, defaultValue, evaluationContext, valueType))
+                                               .onErrorResume(e -> Mono.just(errorEvaluation(flagName, defaultValue, e)));
+        });
+    }
+
+    /**
+     * Fetches the prerequisites of {@code flags}, and theirs in turn, so the provider finds them compiled and does not
+     * look them up itself. A prerequisite that cannot be fetched is left out, and the flags gated on it evaluate to
+     * their default variant.
+     */
+    private Mono<Void> loadPrerequisites(Collection<Flag> flags) {
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+        flags.forEach(flag -> seen.add(flag.getName()));
+        return Flux.fromIterable(flags)
+                   .expand(flag -> {
+                       List<String> missing = provider.prerequisiteNames(flag).stream().filter(seen::add).toList();
+                       return missing.isEmpty() ? Flux.empty() : reactiveFeatureFlagQueryPort.findByFlagNames(missing);
+                   })
+                   .onErrorResume(e -> {
+                       log.error("Unable to fetch flag prerequisites: {}", e.toString());
+                       return Mono.empty();
+                   })
+                   .then();
+    }
+
+    private static <T> ProviderEvaluation<T> errorEvaluation(String flagName, T defaultValue, Throwable e) {
+        log.error("Unable to fetch flag {}: {}", flagName, e.toString());
+        GeneralError error = new GeneralError("Unable to fetch flag " + flagName + ": " + e.getMessage());
+        return ProviderEvaluation.<T>builder()
+                                 .reason(Reason.ERROR.toString())
+                                 .value(defaultValue)
+                                 .errorCode(error.getErrorCode())
+                                 .errorMessage(error.getMessage())
+                                 .build();
+    }
+}
@@ -0,0 +1,128 @@
+package br.com.featureflagsdkjava.domain.application.targeting;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable, evaluation-ready form of a {@link Flag}: what evaluations read from the flag is copied when it is
+ * compiled, next to its compiled {@link TargetingRule} and converted {@link FlagVariants}. Changing the {@link Flag}
+ * afterwards does not change the compiled flag, and is not noticed either: a compiled flag is tied to the instance
+ * it was compiled from, so a changed flag has to be handed to the engine again.
+ */
+public final class CompiledFlag {
+
+    private final Flag source;
+    private final String name;
+    private final Flag.State state;
+    private final Flag.Type type;
+    private final String defaultVariant;
+    private final String targeting;
+    private final boolean hasTargeting;
+    private final boolean hasDefaultVariant;
+    private final TargetingRule rule;
+    private final FlagVariants variants;
+    private final List<Prerequisite> prerequisites;
+
+    CompiledFlag(Flag flag, TargetingRule rule, FlagVariants variants) {
+        this.source = flag;
+        this.name = flag.getName();
+        this.state = flag.getState();
+        this.type = flag.getType();
+        this.defaultVariant = flag.getDefaultVariant();
+        this.targeting = flag.getTargeting();
+        this.hasTargeting = targeting != null && !targeting.isEmpty() && !targeting.equals("{}");
+        this.rule = rule;
+        this.variants = variants;
+        this.hasDefaultVariant = variants.contains(defaultVariant);
+        this.prerequisites = prerequisitesOf(flag);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public boolean isEnabled() {
+        return state == Flag.State.ENABLED;
+    }
+
+    public Flag.Type type() {
+        return type;
+    }
+
+    public String defaultVariant() {
+        return defaultVariant;
+    }
+
+    /**
+     * @return false when the flag has no targeting rule, or an empty one, and always evaluates to its default variant
+     */
+    public boolean hasTargeting() {
+        return hasTargeting;
+    }
+
+    /**
+     * @return false when the default variant is not one of the flag's variants
+     */
+    public boolean hasDefaultVariant() {
+        return hasDefaultVariant;
+    }
+
+    public TargetingRule rule() {
+        return rule;
+    }
+
+    public FlagVariants variants() {
+        return variants;
+    }
+
+    public boolean hasPrerequisites() {
+        return !prerequisites.isEmpty();
+    }
+
+    /**
+     * @return the flags this flag is gated on, in the order the flag lists them
+     */
+    public List<Prerequisite> prerequisites() {
+        return prerequisites;
+    }
+
+    /**
+     * @return true when this was compiled from this very instance of {@code flag}; a copy, even an equal one, is not
+     */
+    boolean isFor(Flag flag) {
+        return source == flag;
+    }
+
+    boolean isCompiledFrom(String targeting) {
+        return Objects.equals(this.targeting, targeting);
+    }
+
+    private static List<Prerequisite> prerequisitesOf(Flag flag) {
+        if (flag.getPrerequisites() == null || flag.getPrerequisites().isEmpty()) return List.of();
+        List<Prerequisite> prerequisites = new ArrayList<>(flag.getPrerequisites().size());
+        for (Flag.Prerequisite prerequisite : flag.getPrerequisites()) {
+            if (prerequisite == null || prerequisite.getFlag() == null) continue;
+            List<String> variants = prerequisite.getVariants();
+            prerequisites.add(new Prerequisite(prerequisite.getFlag(),
+                    variants == null ? Set.of() : Set.copyOf(variants.stream().filter(Objects::nonNull).toList())));
+        }
+        return List.copyOf(prerequisites);
+    }
+
+    /**
+     * @param variants the variants of {@code flag} that meet the prerequisite; empty when any variant does
+     */
+    public record Prerequisite(String flag, Set<String> variants) {
+
+        /**
+         * @param variant the variant {@link #flag} evaluated to, null when it did not evaluate
+         */
+        public boolean isMetBy(String variant) {
+            return variant != null && (variants.isEmpty() || variants.contains(variant));
+        }
+    }
+}
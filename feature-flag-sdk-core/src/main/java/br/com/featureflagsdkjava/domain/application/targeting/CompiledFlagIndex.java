@@ -0,0 +1,261 @@
+package br.com.featureflagsdkjava.domain.application.targeting;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Immutable table of {@link CompiledFlag}s by name, rebuilt for every flag set and published by replacing the
+ * reference to it. Names and flags sit in two parallel arrays with open addressing (linear probing, at most half
+ * full), so a lookup reads a few adjacent array slots, takes no lock and allocates nothing.
+ * <p>
+ * Prerequisites are sorted topologically when the index is built: every flag gets a rank above the ranks of the
+ * flags it is gated on, and flags on a prerequisite cycle, or gated on one, get none and are listed by
+ * {@link #cyclic()}. The prerequisites each flag needs evaluated, transitively and in rank order, are worked out
+ * then too, so nothing in the index is written after it is built.
+ */
+public final class CompiledFlagIndex {
+
+    static final CompiledFlagIndex EMPTY = new CompiledFlagIndex(List.of());
+
+    private final String[] names;
+    private final CompiledFlag[] flags;
+    private final int mask;
+    private final List<CompiledFlag> values;
+    private final int[] ranks;
+    private final List<String> cyclic;
+    private final List<CompiledFlag>[] plans;
+
+    private CompiledFlagIndex(Collection<CompiledFlag> compiledFlags) {
+        int capacity = Integer.highestOneBit(Math.max(2, compiledFlags.size()) * 2 - 1) << 1;
+        this.names = new String[capacity];
+        this.flags = new CompiledFlag[capacity];
+        this.mask = capacity - 1;
+
+        List<CompiledFlag> values = new ArrayList<>(compiledFlags.size());
+        for (CompiledFlag flag : compiledFlags) {
+            int slot = slotOf(flag.name());
+            if (names[slot] == null) {
+                names[slot] = flag.name();
+                values.add(flag);
+            } else {
+                values.set(values.indexOf(flags[slot]), flag);
+            }
+            flags[slot] = flag;
+        }
+        this.values = Collections.unmodifiableList(values);
+        this.ranks = rank();
+        this.plans = plans();
+
+        List<String> unranked = new ArrayList<>();
+        for (int slot = 0; slot < capacity; slot++) {
+            if (names[slot] != null && ranks[slot] < 0) unranked.add(names[slot]);
+        }
+        this.cyclic = List.copyOf(unranked);
+    }
+
+    /**
+     * Builds an index of the given flags; a later flag replaces an earlier one with the same name.
+     */
+    static CompiledFlagIndex of(Collection<CompiledFlag> flags) {
+        return flags.isEmpty() ? EMPTY : new CompiledFlagIndex(flags);
+    }
+
+    /**
+     * @return the compiled flag named {@code name}, or null when there is none
+     */
+    public CompiledFlag get(String name) {
+        if (name == null) return null;
+        int slot = spread(name.hashCode()) & mask;
+        String candidate;
+        while ((candidate = names[slot]) != null) {
+            if (candidate == name || candidate.equals(name)) return flags[slot];
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    public List<CompiledFlag> flags() {
+        return values;
+    }
+
+    /**
+     * @return the names of the flags on a prerequisite cycle or gated, directly or not, on a flag that is
+     */
+    public List<String> cyclic() {
+        return cyclic;
+    }
+
+    /**
+     * The flags of this index {@code flag} is gated on, directly or through other prerequisites, each once and
+     * after the flags it is itself gated on, so evaluating them in order finds the prerequisites of each one
+     * already evaluated. Prerequisites missing from the index are left out.
+     */
+    public List<CompiledFlag> prerequisitesOf(CompiledFlag flag) {
+        if (!flag.hasPrerequisites()) return List.of();
+        int slot = flag.name() == null ? -1 : slotOf(flag.name());
+        return slot >= 0 && flags[slot] == flag ? plans[slot] : plan(flag, new boolean[names.length]);
+    }
+
+    /**
+     * Returns a new index with {@code changed} added or replaced and {@code removed} left out.
+     */
+    CompiledFlagIndex with(Collection<CompiledFlag> changed, Collection<String> removed) {
+        Map<String, CompiledFlag> merged = new LinkedHashMap<>(Math.max(16, (values.size() + changed.size()) * 2));
+        for (CompiledFlag flag : values) merged.put(flag.name(), flag);
+        removed.forEach(merged::remove);
+        for (CompiledFlag flag : changed) merged.put(flag.name(), flag);
+        return of(merged.values());
+    }
+
+    /**
+     * Kahn's algorithm over the prerequisites present in the index: a flag is ranked once every flag it is gated on
+     * is, so the flags left at -1 are the ones a cycle holds back.
+     */
+    private int[] rank() {
+        int[] ranks = new int[names.length];
+        int[] pending = new int[names.length];
+        List<List<Integer>> dependents = new ArrayList<>(Collections.nCopies(names.length, null));
+        Arrays.fill(ranks, -1);
+
+        for (int slot = 0; slot < names.length; slot++) {
+            if (names[slot] == null) continue;
+            for (CompiledFlag.Prerequisite prerequisite : flags[slot].prerequisites()) {
+                int prerequisiteSlot = slotOf(prerequisite.flag());
+                if (names[prerequisiteSlot] == null) continue;
+                pending[slot]++;
+                if (dependents.get(prerequisiteSlot) == null) dependents.set(prerequisiteSlot, new ArrayList<>());
+                dependents.get(prerequisiteSlot).add(slot);
+            }
+        }
+
+        ArrayDeque<Integer> ready = new ArrayDeque<>();
+        for (int slot = 0; slot < names.length; slot++) {
+            if (names[slot] != null && pending[slot] == 0) ready.add(slot);
+        }
+        int rank = 0;
+        while (!ready.isEmpty()) {
+            int slot = ready.poll();
+            ranks[slot] = rank++;
+            List<Integer> gated = dependents.get(slot);
+            if (gated == null) continue;
+            for (int dependent : gated) {
+                if (--pending[dependent] == 0) ready.add(dependent);
+            }
+        }
+        return ranks;
+    }
+
+    private List<CompiledFlag>[] plans() {
+        List<CompiledFlag>[] plans = newPlans(names.length);
+        boolean[] seen = new boolean[names.length];
+        for (int slot = 0; slot < names.length; slot++) {
+            if (names[slot] != null) plans[slot] = flags[slot].hasPrerequisites() ? plan(flags[slot], seen) : List.of();
+        }
+        return plans;
+    }
+
+    /**
+     * Collects the transitive prerequisites of the flag without recursion, so deep chains cannot overflow the stack,
+     * and orders them by rank; flags without one, held back by a cycle, come last.
+     *
+     * @param seen all false, and left all false, so one array serves every plan of the index
+     */
+    private List<CompiledFlag> plan(CompiledFlag flag, boolean[] seen) {
+        List<Integer> slots = new ArrayList<>();
+        ArrayDeque<CompiledFlag> pending = new ArrayDeque<>();
+        pending.add(flag);
+        while (!pending.isEmpty()) {
+            for (CompiledFlag.Prerequisite prerequisite : pending.poll().prerequisites()) {
+                int slot = slotOf(prerequisite.flag());
+                if (names[slot] == null || seen[slot] || names[slot].equals(flag.name())) continue;
+                seen[slot] = true;
+                slots.add(slot);
+                pending.add(flags[slot]);
+            }
+        }
+
+        slots.sort(Comparator.comparingInt(slot -> ranks[slot] < 0 ? Integer.MAX_VALUE : ranks[slot]));
+        List<CompiledFlag> plan = new ArrayList<>(slots.size());
+        for (int slot : slots) {
+            seen[slot] = false;
+            plan.add(flags[slot]);
+        }
+        return List.copyOf(plan);
+    }
+
+    /**
+     * Plans the prerequisites of a flag from outside an index, finding each one with {@code lookup}: collected like
+     * {@link #prerequisitesOf(CompiledFlag)} does, then sorted with Kahn's algorithm over the flags collected, flags
+     * held back by a cycle last.
+     */
+    static List<CompiledFlag> planOf(CompiledFlag flag, Function<String, CompiledFlag> lookup) {
+        Map<String, CompiledFlag> found = new LinkedHashMap<>();
+        ArrayDeque<CompiledFlag> pending = new ArrayDeque<>();
+        pending.add(flag);
+        while (!pending.isEmpty()) {
+            for (CompiledFlag.Prerequisite prerequisite : pending.poll().prerequisites()) {
+                String name = prerequisite.flag();
+                if (found.containsKey(name) || name.equals(flag.name())) continue;
+                CompiledFlag prerequisiteFlag = lookup.apply(name);
+                if (prerequisiteFlag == null) continue;
+                found.put(name, prerequisiteFlag);
+                pending.add(prerequisiteFlag);
+            }
+        }
+
+        Map<String, Integer> waiting = new HashMap<>();
+        Map<String, List<String>> dependents = new HashMap<>();
+        for (CompiledFlag prerequisiteFlag : found.values()) {
+            for (CompiledFlag.Prerequisite prerequisite : prerequisiteFlag.prerequisites()) {
+                if (!found.containsKey(prerequisite.flag())) continue;
+                waiting.merge(prerequisiteFlag.name(), 1, Integer::sum);
+                dependents.computeIfAbsent(prerequisite.flag(), name -> new ArrayList<>()).add(prerequisiteFlag.name());
+            }
+        }
+
+        ArrayDeque<String> ready = new ArrayDeque<>();
+        for (String name : found.keySet()) {
+            if (!waiting.containsKey(name)) ready.add(name);
+        }
+        Set<String> planned = new LinkedHashSet<>();
+        while (!ready.isEmpty()) {
+            String name = ready.poll();
+            planned.add(name);
+            for (String dependent : dependents.getOrDefault(name, List.of())) {
+                if (waiting.merge(dependent, -1, Integer::sum) == 0) ready.add(dependent);
+            }
+        }
+        planned.addAll(found.keySet());
+
+        List<CompiledFlag> plan = new ArrayList<>(planned.size());
+        for (String name : planned) plan.add(found.get(name));
+        return List.copyOf(plan);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<CompiledFlag>[] newPlans(int capacity) {
+        return new List[capacity];
+    }
+
+    /**
+     * @return the slot holding {@code name}, or the free slot it goes in
+     */
+    private int slotOf(String name) {
+        int slot = spread(name.hashCode()) & mask;
+        while (names[slot] != null && !names[slot].equals(name)) slot = (slot + 1) & mask;
+        return slot;
+    }
+
+    /**
+     * Mixes the high bits of the hash into the low ones used for the slot, so names with similar hash codes do not
+     * pile up in one run of slots.
+     */
+    private static int spread(int hash) {
+        int mixed = hash * 0x9E3779B9;
+        return mixed ^ (mixed >>> 16);
+    }
+}
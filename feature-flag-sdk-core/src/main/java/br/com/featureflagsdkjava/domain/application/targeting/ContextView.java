@@ -0,0 +1,146 @@
+package br.com.featureflagsdkjava.domain.application.targeting;
+
+import dev.openfeature.sdk.Structure;
+import dev.openfeature.sdk.Value;
+import dev.openfeature.sdk.exceptions.ValueNotConvertableError;
+
+import java.util.*;
+
+/**
+ * Read-only {@link Map} view of an OpenFeature {@link Structure} (an {@code EvaluationContext} or a nested structure)
+ * holding what {@link Structure#asObjectMap()} would. Nothing is copied up front: a value is converted when it is read,
+ * nested structures and lists are wrapped in views of their own, so a rule reading {@code user.org.id} converts that
+ * path and leaves the rest of the context alone.
+ * <p>
+ * Reads go through {@link Structure#asUnmodifiableMap()}, since {@link Structure#getValue(String)} clones the value.
+ */
+public final class ContextView extends AbstractMap<String, Object> {
+
+    private final Map<String, Value> values;
+    private Set<Entry<String, Object>> entries;
+
+    private ContextView(Map<String, Value> values) {
+        this.values = values;
+    }
+
+    public static Map<String, Object> of(Structure structure) {
+        return new ContextView(structure.asUnmodifiableMap());
+    }
+
+    @Override
+    public Object get(Object key) {
+        return convert(values.get(key));
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return values.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entries == null) entries = new EntryView(values.entrySet());
+        return entries;
+    }
+
+    /**
+     * Replaces views among {@code values} with copies, for values kept after the evaluation (a mutable context may
+     * change afterwards).
+     */
+    static Object[] detach(Object[] values) {
+        Object[] detached = values;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] instanceof ContextView || values[i] instanceof ListView) {
+                if (detached == values) detached = values.clone();
+                detached[i] = copy(values[i]);
+            }
+        }
+        return detached;
+    }
+
+    private static Object copy(Object value) {
+        if (value instanceof ContextView view) {
+            Map<String, Object> copy = new HashMap<>(Math.max(16, view.size() * 2));
+            view.values.forEach((key, nested) -> copy.put(key, copy(convert(nested))));
+            return copy;
+        }
+        if (value instanceof ListView view) {
+            List<Object> copy = new ArrayList<>(view.size());
+            for (Value nested : view.values) copy.add(copy(convert(nested)));
+            return copy;
+        }
+        return value;
+    }
+
+    /**
+     * Converts like {@link Structure#convertValue(Value)}, but wraps structures and lists instead of copying them.
+     */
+    static Object convert(Value value) {
+        if (value == null || value.isNull()) return null;
+        Object inner = value.asObject();
+        if (inner instanceof Boolean || inner instanceof String || inner instanceof Number || value.isInstant()) return inner;
+        if (value.isList()) return new ListView(value.asList());
+        if (value.isStructure()) return new ContextView(value.asStructure().asUnmodifiableMap());
+        throw new ValueNotConvertableError();
+    }
+
+    private static final class ListView extends AbstractList<Object> implements RandomAccess {
+
+        private final List<Value> values;
+
+        ListView(List<Value> values) {
+            this.values = values;
+        }
+
+        @Override
+        public Object get(int index) {
+            return convert(values.get(index));
+        }
+
+        @Override
+        public int size() {
+            return values.size();
+        }
+    }
+
+    private static final class EntryView extends AbstractSet<Entry<String, Object>> {
+
+        private final Set<Entry<String, Value>> entries;
+
+        EntryView(Set<Entry<String, Value>> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            Iterator<Entry<String, Value>> iterator = entries.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Entry<String, Object> next() {
+                    Entry<String, Value> entry = iterator.next();
+                    return new SimpleImmutableEntry<>(entry.getKey(), convert(entry.getValue()));
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package br.com.featureflagsdkjava.domain.application.targeting;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import dev.openfeature.sdk.ProviderEvaluation;
+import dev.openfeature.sdk.Reason;
+import dev.openfeature.sdk.Value;
+
+import java.util.*;
+
+/**
+ * The variants of a flag converted, once, to every value type they can be evaluated as, together with the
+ * evaluation returned for each of them. Evaluating a variant is then a table lookup that returns a shared,
+ * immutable {@link ProviderEvaluation}.
+ * <p>
+ * Variant values are checked against the flag's {@link Flag.Type}; values of another type are listed in
+ * {@link #mismatches()} and cannot be evaluated. Flags without a type accept any value, evaluated as its own type.
+ * <p>
+ * Nothing is read from the flag's variants map after conversion.
+ */
+public final class FlagVariants {
+
+    /**
+     * The value types variants can be requested as. {@code NATIVE} is the representation of the flag's own type
+     * ({@code Boolean}, {@code String}, {@code Number} or {@link Value}), used by batch evaluation.
+     */
+    public enum ValueType { BOOLEAN, STRING, INTEGER, DOUBLE, OBJECT, NATIVE }
+
+    private static final int VALUE_TYPES = ValueType.values().length;
+
+    private final String defaultVariant;
+    private final Set<String> keys;
+    private final Map<String, Variant> variants;
+    private final List<String> mismatches;
+
+    private FlagVariants(Flag flag, Map<String, Variant> variants, List<String> mismatches) {
+        this.defaultVariant = flag.getDefaultVariant();
+        this.keys = flag.getVariants() == null ? Set.of() : Set.copyOf(flag.getVariants().keySet());
+        this.variants = variants;
+        this.mismatches = mismatches;
+    }
+
+    public static FlagVariants of(Flag flag) {
+        Map<String, Variant> variants = new HashMap<>();
+        List<String> mismatches = new ArrayList<>();
+
+        if (flag.getVariants() != null) {
+            for (Map.Entry<String, Object> entry : flag.getVariants().entrySet()) {
+                Object[] values = convert(flag.getType(), entry.getValue());
+                if (values == null) mismatches.add(entry.getKey());
+                else variants.put(entry.getKey(), new Variant(entry.getKey(), values));
+            }
+        }
+        return new FlagVariants(flag, variants, List.copyOf(mismatches));
+    }
+
+    /**
+     * @return the evaluation of the flag's default variant, or null when it cannot be evaluated as {@code valueType}
+     */
+    public <T> ProviderEvaluation<T> defaultEvaluation(ValueType valueType) {
+        return evaluation(defaultVariant, valueType, true);
+    }
+
+    /**
+     * @return the evaluation of a variant chosen by targeting, or null when it cannot be evaluated as {@code valueType}
+     */
+    public <T> ProviderEvaluation<T> targetingEvaluation(String variant, ValueType valueType) {
+        return evaluation(variant, valueType, false);
+    }
+
+    public boolean contains(String variant) {
+        return variant != null && keys.contains(variant);
+    }
+
+    /**
+     * @return the keys of the variants whose value does not match the flag type
+     */
+    public List<String> mismatches() {
+        return mismatches;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ProviderEvaluation<T> evaluation(String variant, ValueType valueType, boolean isDefault) {
+        Variant found = variant == null ? null : variants.get(variant);
+        if (found == null) return null;
+        return (ProviderEvaluation<T>) (isDefault ? found.defaultEvaluations : found.targetingEvaluations)[valueType.ordinal()];
+    }
+
+    /**
+     * @return the value converted to each {@link ValueType}, null where it does not convert, or null altogether
+     * when the value does not match the flag type
+     */
+    private static Object[] convert(Flag.Type type, Object value) {
+        Object[] values = new Object[VALUE_TYPES];
+        if (value == null) return null;
+
+        if (type == null) {
+            if (value instanceof Boolean) values[ValueType.BOOLEAN.ordinal()] = value;
+            if (value instanceof String) values[ValueType.STRING.ordinal()] = value;
+            if (value instanceof Integer) values[ValueType.INTEGER.ordinal()] = value;
+            if (value instanceof Double) values[ValueType.DOUBLE.ordinal()] = value;
+            if (value instanceof Value) values[ValueType.OBJECT.ordinal()] = value;
+            values[ValueType.NATIVE.ordinal()] = value;
+            return values;
+        }
+
+        switch (type) {
+            case BOOLEAN -> {
+                if (!(value instanceof Boolean)) return null;
+                values[ValueType.BOOLEAN.ordinal()] = value;
+            }
+            case STRING -> {
+                if (!(value instanceof String)) return null;
+                values[ValueType.STRING.ordinal()] = value;
+            }
+            case NUMBER -> {
+                if (!(value instanceof Number number)) return null;
+                double doubleValue = number.doubleValue();
+                if (doubleValue == Math.rint(doubleValue) && doubleValue >= Integer.MIN_VALUE && doubleValue <= Integer.MAX_VALUE) {
+                    values[ValueType.INTEGER.ordinal()] = (int) doubleValue;
+                }
+                values[ValueType.DOUBLE.ordinal()] = doubleValue;
+            }
+            case OBJECT -> {
+                try {
+                    value = Value.objectToValue(value);
+                } catch (RuntimeException e) {
+                    return null;
+                }
+                values[ValueType.OBJECT.ordinal()] = value;
+            }
+        }
+        values[ValueType.NATIVE.ordinal()] = value;
+        return values;
+    }
+
+    private static final class Variant {
+
+        private final ProviderEvaluation<?>[] defaultEvaluations = new ProviderEvaluation<?>[VALUE_TYPES];
+        private final ProviderEvaluation<?>[] targetingEvaluations = new ProviderEvaluation<?>[VALUE_TYPES];
+
+        Variant(String key, Object[] values) {
+            for (int i = 0; i < VALUE_TYPES; i++) {
+                if (values[i] == null) continue;
+                defaultEvaluations[i] = new ImmutableProviderEvaluation<>(values[i], key, Reason.DEFAULT.toString());
+                targetingEvaluations[i] = new ImmutableProviderEvaluation<>(values[i], key, Reason.TARGETING_MATCH.toString());
+            }
+        }
+    }
+}
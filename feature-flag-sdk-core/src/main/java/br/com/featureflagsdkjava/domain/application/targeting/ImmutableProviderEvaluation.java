@@ -0,0 +1,52 @@
+package br.com.featureflagsdkjava.domain.application.targeting;
+
+import dev.openfeature.sdk.ErrorCode;
+import dev.openfeature.sdk.ImmutableMetadata;
+import dev.openfeature.sdk.ProviderEvaluation;
+
+/**
+ * {@link ProviderEvaluation} whose setters throw, so one instance can be handed to every evaluation that
+ * produces the same result.
+ */
+final class ImmutableProviderEvaluation<T> extends ProviderEvaluation<T> {
+
+    private static final ImmutableMetadata NO_METADATA = ImmutableMetadata.builder().build();
+
+    ImmutableProviderEvaluation(T value, String variant, String reason) {
+        super(value, variant, reason, null, null, NO_METADATA);
+    }
+
+    @Override
+    public void setValue(T value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setVariant(String variant) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setReason(String reason) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setErrorCode(ErrorCode errorCode) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setErrorMessage(String errorMessage) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setFlagMetadata(ImmutableMetadata flagMetadata) {
+        throw unsupported();
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("Shared evaluations cannot be modified");
+    }
+}
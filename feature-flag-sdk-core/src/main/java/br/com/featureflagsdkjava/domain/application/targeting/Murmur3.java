@@ -0,0 +1,89 @@
+package br.com.featureflagsdkjava.domain.application.targeting;
+
+/**
+ * 32-bit MurmurHash3 (x86 variant, seed 0) of the UTF-8 bytes of two strings, hashed as if concatenated.
+ * The bytes are encoded on the fly, so hashing allocates nothing; the result matches
+ * {@code murmur3_32((first + second).getBytes(UTF_8))} in any other implementation.
+ */
+final class Murmur3 {
+
+    private static final int C1 = 0xcc9e2d51;
+    private static final int C2 = 0x1b873593;
+
+    private Murmur3() {}
+
+    static int hash32(String first, String second) {
+        int firstLength = first.length();
+        int total = firstLength + second.length();
+        int h1 = 0;
+        int k1 = 0;
+        int bits = 0;
+        int length = 0;
+
+        for (int i = 0; i < total; i++) {
+            char c = i < firstLength ? first.charAt(i) : second.charAt(i - firstLength);
+            int codePoint = c;
+            if (Character.isSurrogate(c)) {
+                char next = i + 1 < total ? (i + 1 < firstLength ? first.charAt(i + 1) : second.charAt(i + 1 - firstLength)) : 0;
+                if (Character.isHighSurrogate(c) && Character.isLowSurrogate(next)) {
+                    codePoint = Character.toCodePoint(c, next);
+                    i++;
+                } else {
+                    codePoint = '?';
+                }
+            }
+
+            int encoded;
+            int count;
+            if (codePoint < 0x80) {
+                encoded = codePoint;
+                count = 1;
+            } else if (codePoint < 0x800) {
+                encoded = (0xC0 | codePoint >>> 6) | (0x80 | codePoint & 0x3F) << 8;
+                count = 2;
+            } else if (codePoint < 0x10000) {
+                encoded = (0xE0 | codePoint >>> 12) | (0x80 | codePoint >>> 6 & 0x3F) << 8 | (0x80 | codePoint & 0x3F) << 16;
+                count = 3;
+            } else {
+                encoded = (0xF0 | codePoint >>> 18) | (0x80 | codePoint >>> 12 & 0x3F) << 8
+                        | (0x80 | codePoint >>> 6 & 0x3F) << 16 | (0x80 | codePoint & 0x3F) << 24;
+                count = 4;
+            }
+
+            for (int b = 0; b < count; b++) {
+                k1 |= (encoded >>> (8 * b) & 0xFF) << bits;
+                bits += 8;
+                length++;
+                if (bits == 32) {
+                    h1 = mixH1(h1, mixK1(k1));
+                    k1 = 0;
+                    bits = 0;
+                }
+            }
+        }
+
+        if (bits > 0) h1 ^= mixK1(k1);
+        return fmix(h1 ^ length);
+    }
+
+    private static int mixK1(int k1) {
+        k1 *= C1;
+        k1 = Integer.rotateLeft(k1, 15);
+        return k1 * C2;
+    }
+
+    private static int mixH1(int h1, int k1) {
+        h1 ^= k1;
+        h1 = Integer.rotateLeft(h1, 13);
+        return h1 * 5 + 0xe6546b64;
+    }
+
+    private static int fmix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -0,0 +1,314 @@
+package br.com.featureflagsdkjava.domain.application.targeting;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.openfeature.sdk.exceptions.ParseError;
+import io.github.jamsesso.jsonlogic.JsonLogic;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Compiles flag targeting rules once, when flags are loaded, and hands the compiled rules to evaluations.
+ * Common JsonLogic operators run as specialized evaluators; anything else is delegated to json-logic-java.
+ * On top of JsonLogic, {@code fractional} (alias {@code bucket}) splits users into weighted variant buckets by a
+ * murmur3 hash of the flag name and their targeting key.
+ * <p>
+ * With a result cache, rules whose data access is known at compile time (only literal {@code var} paths) remember
+ * their result per combination of the values at those paths, so users that share the attributes a rule looks at
+ * share one evaluation. Results are tied to the compiled rule, so a flag whose targeting changes starts afresh.
+ * <p>
+ * Variants are converted to {@link FlagVariants} at the same time, and variants that do not match the flag type are
+ * reported when a flag set or a change to it is compiled rather than on every evaluation.
+ * <p>
+ * Each flag set is compiled into an immutable {@link CompiledFlagIndex} published with a single reference swap;
+ * evaluations read it without locking, and a lookup never sees a flag set that is half applied. Building it sorts
+ * the flags by their prerequisites; flags whose prerequisites form a cycle are rejected like flags whose targeting
+ * does not compile. Flags evaluated without having been loaded (no snapshot, or a flag source read directly) are
+ * compiled on their first evaluation and kept apart, in a bounded map by name, so evaluations never rebuild the index.
+ */
+@Slf4j
+public class TargetingEngine {
+
+    static final int UNINDEXED_MAX_SIZE = 1024;
+
+    private final JsonLogic jsonLogic;
+    private final Set<String> customOperators = ConcurrentHashMap.newKeySet();
+    private final TargetingRuleCompiler compiler;
+    private final TargetingResultCache resultCache;
+
+    private final AtomicReference<CompiledFlagIndex> index = new AtomicReference<>(CompiledFlagIndex.EMPTY);
+    private final Map<String, CompiledFlag> unindexed = new ConcurrentHashMap<>();
+
+    public TargetingEngine(JsonLogic jsonLogic) {
+        this(jsonLogic, 0);
+    }
+
+    /**
+     * @param resultCacheSize maximum number of cached rule results; 0 disables the result cache
+     */
+    public TargetingEngine(JsonLogic jsonLogic, int resultCacheSize) {
+        this.jsonLogic = jsonLogic;
+        this.compiler = new TargetingRuleCompiler(jsonLogic, customOperators);
+        this.resultCache = resultCacheSize > 0 ? new TargetingResultCache(resultCacheSize) : null;
+        for (String operator : TargetingRuleCompiler.NATIVE_OPERATORS) {
+            jsonLogic.addOperation(operator, TargetingNodes::fractional);
+        }
+    }
+
+    /**
+     * Registers a custom operator. Rules using it are evaluated through json-logic-java.
+     */
+    public TargetingEngine addOperation(String name, Function<Object[], Object> operation) {
+        jsonLogic.addOperation(name, operation);
+        customOperators.add(name);
+        return this;
+    }
+
+    /**
+     * Parses and validates a targeting rule.
+     *
+     * @throws ParseError when the rule is not valid JsonLogic or uses an unknown operator
+     */
+    public TargetingRule compile(String flagName, String targeting) {
+        return compiler.compile(flagName, targeting);
+    }
+
+    /**
+     * Returns the compiled form of the flag from the current index, or from the flags compiled outside it, compiling
+     * it only when neither was compiled from this instance. Flags are compared by identity, so a flag must not be
+     * changed once it is handed to the engine; a copy read again from the flag source is compiled again, keeping the
+     * rule when its targeting is the same.
+     * <p>
+     * The index is never replaced here: a flag compiled for an evaluation goes to a separate map, cleared when it
+     * reaches {@value #UNINDEXED_MAX_SIZE} flags and when a flag set is loaded.
+     *
+     * @throws ParseError when the flag's targeting needs compiling and does not compile
+     */
+    public CompiledFlag compiled(Flag flag) {
+        CompiledFlag compiled = index.get().get(flag.getName());
+        if (compiled != null && compiled.isFor(flag)) return compiled;
+        if (flag.getName() == null) return recompile(flag, null, null, false);
+
+        CompiledFlag outside = unindexed.get(flag.getName());
+        if (outside != null && outside.isFor(flag)) return outside;
+
+        CompiledFlag recompiled = recompile(flag, outside != null ? outside : compiled, null, false);
+        if (unindexed.size() >= UNINDEXED_MAX_SIZE) unindexed.clear();
+        unindexed.put(flag.getName(), recompiled);
+        return recompiled;
+    }
+
+    /**
+     * The prerequisites of {@code flag} to evaluate before it, each after its own. A flag of the current index is
+     * planned when the index is built; a flag compiled outside it looks its prerequisites up among the flags compiled
+     * outside the index first, then in the index, on every call.
+     */
+    public List<CompiledFlag> prerequisitesOf(CompiledFlag flag) {
+        CompiledFlagIndex current = index.get();
+        if (!flag.hasPrerequisites()) return List.of();
+        if (unindexed.isEmpty() || current.get(flag.name()) == flag) return current.prerequisitesOf(flag);
+        return CompiledFlagIndex.planOf(flag, name -> {
+            CompiledFlag outside = unindexed.get(name);
+            return outside != null ? outside : current.get(name);
+        });
+    }
+
+    /**
+     * Returns the compiled rule for the flag, compiling it only when this instance of the flag was not loaded and
+     * its targeting is not the one last compiled for it.
+     */
+    public TargetingRule ruleFor(Flag flag) {
+        return compiled(flag).rule();
+    }
+
+    /**
+     * Returns the converted variants of the flag, converting them only when this instance of the flag was not loaded.
+     */
+    public FlagVariants variantsFor(Flag flag) {
+        return compiled(flag).variants();
+    }
+
+    /**
+     * The compiled flags of the current flag set. Readers that take it once see every flag as of the same load.
+     */
+    public CompiledFlagIndex index() {
+        return index.get();
+    }
+
+    public Optional<TargetingResultCache> resultCache() {
+        return Optional.ofNullable(resultCache);
+    }
+
+    /**
+     * Compiles the targeting and converts the variants of every flag, replacing what was compiled before.
+     * Flags whose targeting does not compile or whose prerequisites form a cycle are logged and left out of the
+     * returned list.
+     */
+    public List<Flag> load(Collection<Flag> flags) {
+        return load(flags, Map.of());
+    }
+
+    /**
+     * Like {@link #load(Collection)}, compiling the targeting of the flags in {@code targetingTrees} from the tree
+     * the flag source already parsed.
+     */
+    public List<Flag> load(Collection<Flag> flags, Map<String, JsonNode> targetingTrees) {
+        List<CompiledFlag> compiled = new ArrayList<>(flags.size());
+        List<Flag> validFlags = new ArrayList<>(flags.size());
+
+        for (Flag flag : flags) {
+            if (flag == null || flag.getName() == null) continue;
+            try {
+                compiled.add(new CompiledFlag(flag, compileForEvaluation(flag, targetingTrees.get(flag.getName())),
+                        variantsOf(flag, true)));
+                validFlags.add(flag);
+            } catch (ParseError e) {
+                log.error("Rejecting flag {}: {}", flag.getName(), e.getMessage());
+            }
+        }
+        CompiledFlagIndex loaded = withoutCycles(CompiledFlagIndex.of(compiled));
+        index.set(loaded);
+        unindexed.clear();
+        if (resultCache != null) resultCache.clear();
+        return indexed(validFlags, loaded);
+    }
+
+    /**
+     * Compiles changed flags and drops deleted ones, publishing the result as a single new index. Flags whose
+     * targeting does not compile or whose prerequisites now form a cycle are logged, dropped from the index and
+     * left out of the returned list.
+     */
+    public List<Flag> apply(Collection<Flag> changed, Collection<String> deleted) {
+        return apply(changed, deleted, Map.of());
+    }
+
+    /**
+     * Like {@link #apply(Collection, Collection)}, compiling the targeting of the flags in {@code targetingTrees}
+     * from the tree the flag source already parsed.
+     */
+    public List<Flag> apply(Collection<Flag> changed, Collection<String> deleted, Map<String, JsonNode> targetingTrees) {
+        CompiledFlagIndex current = index.get();
+        List<CompiledFlag> compiled = new ArrayList<>(changed.size());
+        List<String> removed = new ArrayList<>(deleted);
+        List<Flag> validFlags = new ArrayList<>(changed.size());
+
+        for (Flag flag : changed) {
+            if (flag == null || flag.getName() == null) continue;
+            try {
+                compiled.add(recompile(flag, current.get(flag.getName()), targetingTrees.get(flag.getName()), true));
+                validFlags.add(flag);
+            } catch (ParseError e) {
+                log.error("Rejecting flag {}: {}", flag.getName(), e.getMessage());
+                removed.add(flag.getName());
+            }
+        }
+        CompiledFlagIndex applied = index.updateAndGet(latest -> withoutCycles(latest.with(compiled, removed)));
+        for (Flag flag : changed) {
+            if (flag != null && flag.getName() != null) unindexed.remove(flag.getName());
+        }
+        deleted.forEach(unindexed::remove);
+        return indexed(validFlags, applied);
+    }
+
+    /**
+     * Drops the flags {@link CompiledFlagIndex#cyclic()} reports, so every flag left can be evaluated after its
+     * prerequisites.
+     */
+    private static CompiledFlagIndex withoutCycles(CompiledFlagIndex candidate) {
+        return candidate.cyclic().isEmpty() ? candidate : candidate.with(List.of(), candidate.cyclic());
+    }
+
+    /**
+     * @return the flags that made it into the index, logging the ones rejected for a prerequisite cycle
+     */
+    private static List<Flag> indexed(List<Flag> validFlags, CompiledFlagIndex published) {
+        List<Flag> indexed = new ArrayList<>(validFlags.size());
+        for (Flag flag : validFlags) {
+            if (published.get(flag.getName()) != null) {
+                indexed.add(flag);
+            } else {
+                log.error("Rejecting flag {}: its prerequisites form a cycle", flag.getName());
+            }
+        }
+        return indexed;
+    }
+
+    /**
+     * Compiles the flag, reusing the rule of its previous compiled form when the targeting did not change; the
+     * variants are always converted again.
+     *
+     * @param tree   the flag's targeting as parsed by the flag source, or null to parse it here
+     * @param report whether variants that do not match the flag type are reported, i.e. whether the flag comes
+     *               with a flag set or a change to it rather than with an evaluation
+     */
+    private CompiledFlag recompile(Flag flag, CompiledFlag previous, JsonNode tree, boolean report) {
+        if (flag.getName() == null) return new CompiledFlag(flag, compile(null, flag.getTargeting()), variantsOf(flag, report));
+
+        TargetingRule rule;
+        if (previous != null && previous.isCompiledFrom(flag.getTargeting())) {
+            rule = previous.rule();
+        } else {
+            rule = compileForEvaluation(flag, tree);
+        }
+        return new CompiledFlag(flag, rule, variantsOf(flag, report));
+    }
+
+    private static FlagVariants variantsOf(Flag flag, boolean report) {
+        FlagVariants variants = FlagVariants.of(flag);
+        if (!variants.mismatches().isEmpty()) {
+            String message = "Variants {} of flag {} are not {} values and will evaluate to the default value";
+            if (report) log.warn(message, variants.mismatches(), flag.getName(), flag.getType());
+            else log.debug(message, variants.mismatches(), flag.getName(), flag.getType());
+        }
+        return variants;
+    }
+
+    /**
+     * Compiles the flag's targeting, from the tree the flag source parsed when there is one. Only the compiled rule
+     * is kept.
+     */
+    private TargetingRule compileForEvaluation(Flag flag, JsonNode tree) {
+        TargetingRuleCompiler.CompiledRule compiled = compiler.compileRule(flag.getName(), flag.getTargeting(), tree);
+        if (resultCache == null || compiled.paths() == null || compiled.paths().isEmpty()) return compiled.rule();
+        return memoized(compiled.rule(), compiled.paths());
+    }
+
+    private TargetingRule memoized(TargetingRule rule, List<String> paths) {
+        TargetingRule[] readers = new TargetingRule[paths.size()];
+        for (int i = 0; i < readers.length; i++) readers[i] = TargetingNodes.var(paths.get(i), TargetingNodes.constant(null));
+        Object owner = new Object();
+
+        return data -> {
+            Object[] values = new Object[readers.length];
+            for (int i = 0; i < readers.length; i++) values[i] = readers[i].evaluate(data);
+
+            ResultKey key = new ResultKey(owner, values);
+            Object cached = resultCache.get(key);
+            if (cached != TargetingResultCache.MISSING) return cached;
+
+            Object result = rule.evaluate(data);
+            resultCache.put(new ResultKey(owner, ContextView.detach(values)), result);
+            return result;
+        };
+    }
+
+    /**
+     * Identifies a result by the compiled rule that produced it and the values the rule read.
+     */
+    private record ResultKey(Object owner, Object[] values) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ResultKey key && owner == key.owner && Arrays.equals(values, key.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(owner) + Arrays.hashCode(values);
+        }
+    }
+}
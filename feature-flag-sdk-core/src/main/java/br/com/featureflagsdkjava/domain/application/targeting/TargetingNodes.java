@@ -0,0 +1,269 @@
+package br.com.featureflagsdkjava.domain.application.targeting;
+
+import io.github.jamsesso.jsonlogic.JsonLogic;
+import io.github.jamsesso.jsonlogic.JsonLogicException;
+import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluationException;
+import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluator;
+import io.github.jamsesso.jsonlogic.evaluator.expressions.EqualityExpression;
+import io.github.jamsesso.jsonlogic.evaluator.expressions.InExpression;
+import io.github.jamsesso.jsonlogic.evaluator.expressions.NumericComparisonExpression;
+import io.github.jamsesso.jsonlogic.evaluator.expressions.PreEvaluatedArgumentsExpression;
+import io.github.jamsesso.jsonlogic.evaluator.expressions.StrictEqualityExpression;
+
+import java.lang.reflect.Array;
+import java.util.*;
+
+/**
+ * Specialized evaluators produced by {@link TargetingRuleCompiler}.
+ * Each one mirrors the semantics of the matching json-logic-java expression, taking a fast path for the
+ * common operand types and delegating to the library expression for everything else.
+ */
+final class TargetingNodes {
+
+    static final String TARGETING_KEY = "targetingKey";
+
+    private TargetingNodes() {}
+
+    static TargetingRule constant(Object value) {
+        return data -> value;
+    }
+
+    static TargetingRule array(List<TargetingRule> elements) {
+        TargetingRule[] rules = elements.toArray(TargetingRule[]::new);
+        return data -> {
+            List<Object> values = new ArrayList<>(rules.length);
+            for (TargetingRule rule : rules) values.add(rule.evaluate(data));
+            return values;
+        };
+    }
+
+    static TargetingRule var(String path, TargetingRule defaultValue) {
+        if (path.isEmpty()) return data -> data;
+
+        String[] segments = path.split("\\.");
+        return data -> {
+            Object current = data;
+            for (String segment : segments) {
+                current = resolveSegment(segment, current);
+                if (current == null) return defaultValue.evaluate(data);
+            }
+            return current;
+        };
+    }
+
+    static TargetingRule equality(TargetingRule left, TargetingRule right, boolean strict, boolean negated) {
+        PreEvaluatedArgumentsExpression expression = strict ? StrictEqualityExpression.INSTANCE : EqualityExpression.INSTANCE;
+        return data -> {
+            Object a = left.evaluate(data);
+            Object b = right.evaluate(data);
+            boolean equal;
+            if (a instanceof String sa && b instanceof String sb) {
+                equal = sa.equals(sb);
+            } else if (a instanceof Number na && b instanceof Number nb) {
+                equal = na.doubleValue() == nb.doubleValue();
+            } else {
+                equal = (Boolean) expression.evaluate(Arrays.asList(a, b), data);
+            }
+            return equal != negated;
+        };
+    }
+
+    static TargetingRule comparison(String operator, List<TargetingRule> operands) {
+        NumericComparisonExpression expression = switch (operator) {
+            case "<" -> NumericComparisonExpression.LT;
+            case "<=" -> NumericComparisonExpression.LTE;
+            case ">" -> NumericComparisonExpression.GT;
+            default -> NumericComparisonExpression.GTE;
+        };
+        TargetingRule first = operands.get(0);
+        TargetingRule second = operands.get(1);
+
+        if (operands.size() == 2) {
+            return data -> {
+                Object a = first.evaluate(data);
+                Object b = second.evaluate(data);
+                if (a instanceof Number na && b instanceof Number nb) {
+                    return compare(operator, na.doubleValue(), nb.doubleValue());
+                }
+                return expression.evaluate(Arrays.asList(a, b), data);
+            };
+        }
+
+        TargetingRule third = operands.get(2);
+        return data -> {
+            Object a = first.evaluate(data);
+            Object b = second.evaluate(data);
+            Object c = third.evaluate(data);
+            if (a instanceof Number na && b instanceof Number nb && c instanceof Number nc) {
+                return compare(operator, na.doubleValue(), nb.doubleValue())
+                        && compare(operator, nb.doubleValue(), nc.doubleValue());
+            }
+            return expression.evaluate(Arrays.asList(a, b, c), data);
+        };
+    }
+
+    static TargetingRule inSet(TargetingRule needle, Collection<?> haystack) {
+        Set<Object> members = new HashSet<>(haystack);
+        return data -> members.contains(needle.evaluate(data));
+    }
+
+    static TargetingRule inString(TargetingRule needle, String haystack) {
+        return data -> {
+            Object value = needle.evaluate(data);
+            return value != null && haystack.contains(value.toString());
+        };
+    }
+
+    static TargetingRule in(TargetingRule needle, TargetingRule haystack) {
+        return data -> InExpression.INSTANCE.evaluate(Arrays.asList(needle.evaluate(data), haystack.evaluate(data)), data);
+    }
+
+    static TargetingRule and(List<TargetingRule> operands) {
+        TargetingRule[] rules = operands.toArray(TargetingRule[]::new);
+        return data -> {
+            Object result = null;
+            for (TargetingRule rule : rules) {
+                result = rule.evaluate(data);
+                if (!JsonLogic.truthy(result)) return result;
+            }
+            return result;
+        };
+    }
+
+    static TargetingRule or(List<TargetingRule> operands) {
+        TargetingRule[] rules = operands.toArray(TargetingRule[]::new);
+        return data -> {
+            Object result = null;
+            for (TargetingRule rule : rules) {
+                result = rule.evaluate(data);
+                if (JsonLogic.truthy(result)) return result;
+            }
+            return result;
+        };
+    }
+
+    static TargetingRule ifThenElse(List<TargetingRule> operands) {
+        TargetingRule[] rules = operands.toArray(TargetingRule[]::new);
+        if (rules.length == 0) return TargetingRule.NO_TARGETING;
+        if (rules.length == 1) return rules[0];
+
+        return data -> {
+            int i = 0;
+            for (; i < rules.length - 1; i += 2) {
+                if (JsonLogic.truthy(rules[i].evaluate(data))) return rules[i + 1].evaluate(data);
+            }
+            return i < rules.length ? rules[i].evaluate(data) : null;
+        };
+    }
+
+    static TargetingRule preEvaluated(PreEvaluatedArgumentsExpression expression, List<TargetingRule> operands) {
+        TargetingRule[] rules = operands.toArray(TargetingRule[]::new);
+        return data -> {
+            List<Object> arguments = new ArrayList<>(rules.length);
+            for (TargetingRule rule : rules) arguments.add(rule.evaluate(data));
+            return expression.evaluate(arguments, data);
+        };
+    }
+
+    /**
+     * Evaluates a sub-expression through json-logic-java. The library caches the parsed expression by its
+     * source, so only the first evaluation pays for parsing.
+     */
+    static TargetingRule fallback(JsonLogic jsonLogic, String expression) {
+        return data -> jsonLogic.apply(expression, data);
+    }
+
+    /**
+     * Picks a variant by hashing a bucketing key into buckets sized after their weights, so a key always lands on
+     * the same variant, on every node. Without an explicit key, the flag name followed by the {@code targetingKey}
+     * is hashed, which puts a user in unrelated buckets on different flags. Nothing is allocated when the key is a
+     * string.
+     *
+     * @param key      the bucketing key expression, or null to use the flag name and the targeting key
+     * @param variants the variant of each bucket
+     * @param bounds   the cumulative weight at the end of each bucket
+     */
+    static TargetingRule fractional(String flagName, TargetingRule key, String[] variants, long[] bounds) {
+        String salt = flagName == null ? "" : flagName;
+        return data -> {
+            Object bucketingKey = key != null ? key.evaluate(data) : data instanceof Map<?, ?> map ? map.get(TARGETING_KEY) : null;
+            if (bucketingKey == null) return null;
+            int hash = Murmur3.hash32(key != null ? "" : salt, bucketingKey.toString());
+            return variants[bucketOf(hash, bounds)];
+        };
+    }
+
+    /**
+     * The {@code fractional} operation registered with json-logic-java, for rules that nest it under an operator
+     * json-logic-java evaluates. The data is not available there, so only the form with an explicit bucketing key
+     * selects a variant.
+     */
+    static Object fractional(Object[] args) {
+        if (args.length < 2 || args[0] == null || args[0] instanceof List<?>) return null;
+
+        String[] variants = new String[args.length - 1];
+        long[] bounds = new long[args.length - 1];
+        long total = 0;
+        for (int i = 1; i < args.length; i++) {
+            if (!(args[i] instanceof List<?> bucket) || bucket.isEmpty() || bucket.get(0) == null) return null;
+            long weight = bucket.size() > 1 && bucket.get(1) instanceof Number number ? number.longValue() : 1;
+            total += Math.max(weight, 0);
+            variants[i - 1] = bucket.get(0).toString();
+            bounds[i - 1] = total;
+        }
+        if (total <= 0 || total > Integer.MAX_VALUE) return null;
+        return variants[bucketOf(Murmur3.hash32("", args[0].toString()), bounds)];
+    }
+
+    /**
+     * Scales the unsigned hash to {@code [0, total weight)} and returns the bucket the point falls in.
+     */
+    static int bucketOf(int hash, long[] bounds) {
+        long point = ((hash & 0xFFFFFFFFL) * bounds[bounds.length - 1]) >>> 32;
+        for (int i = 0; i < bounds.length - 1; i++) {
+            if (point < bounds[i]) return i;
+        }
+        return bounds.length - 1;
+    }
+
+    private static boolean compare(String operator, double a, double b) {
+        return switch (operator) {
+            case "<" -> a < b;
+            case "<=" -> a <= b;
+            case ">" -> a > b;
+            default -> a >= b;
+        };
+    }
+
+    private static Object resolveSegment(String segment, Object data) throws JsonLogicException {
+        if (data instanceof Map<?, ?> map) {
+            return JsonLogicEvaluator.transform(map.get(segment));
+        }
+        if (data instanceof List<?> || data instanceof Iterable<?> || (data != null && data.getClass().isArray())) {
+            int index;
+            try {
+                index = Integer.parseInt(segment);
+            } catch (NumberFormatException e) {
+                throw new JsonLogicEvaluationException(e);
+            }
+            return elementAt(data, index);
+        }
+        return null;
+    }
+
+    private static Object elementAt(Object data, int index) {
+        if (index < 0) return null;
+        if (data instanceof List<?> list) {
+            return index < list.size() ? JsonLogicEvaluator.transform(list.get(index)) : null;
+        }
+        if (data.getClass().isArray()) {
+            return index < Array.getLength(data) ? JsonLogicEvaluator.transform(Array.get(data, index)) : null;
+        }
+        Iterator<?> iterator = ((Iterable<?>) data).iterator();
+        for (int i = 0; iterator.hasNext(); i++) {
+            Object element = iterator.next();
+            if (i == index) return JsonLogicEvaluator.transform(element);
+        }
+        return null;
+    }
+}
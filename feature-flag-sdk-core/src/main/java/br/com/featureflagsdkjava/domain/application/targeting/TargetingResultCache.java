@@ -0,0 +1,105 @@
+package br.com.featureflagsdkjava.domain.application.targeting;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, concurrent LRU cache of targeting rule results. Entries are spread over independently locked
+ * access-ordered segments, so concurrent evaluations of different users rarely wait on each other; each segment
+ * evicts its least recently used entry once it holds its share of the maximum size.
+ */
+public final class TargetingResultCache {
+
+    static final Object MISSING = new Object();
+    private static final Object NULL_RESULT = new Object();
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public TargetingResultCache(int maxSize) {
+        int segmentSize = Math.max(1, (maxSize + SEGMENTS - 1) / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) segments[i] = new Segment(segmentSize, evictions);
+    }
+
+    /**
+     * @return the cached result, or {@link #MISSING} when there is none
+     */
+    Object get(Object key) {
+        Object value;
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            value = segment.get(key);
+        }
+        if (value == null) {
+            misses.increment();
+            return MISSING;
+        }
+        hits.increment();
+        return value == NULL_RESULT ? null : value;
+    }
+
+    void put(Object key, Object result) {
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            segment.put(key, result == null ? NULL_RESULT : result);
+        }
+    }
+
+    void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private Segment segmentFor(Object key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+    }
+
+    private static final class Segment extends LinkedHashMap<Object, Object> {
+
+        private final int maxSize;
+        private final LongAdder evictions;
+
+        Segment(int maxSize, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+            if (size() <= maxSize) return false;
+            evictions.increment();
+            return true;
+        }
+    }
+}
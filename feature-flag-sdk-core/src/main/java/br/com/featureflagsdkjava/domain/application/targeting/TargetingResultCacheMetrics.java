@@ -0,0 +1,52 @@
+package br.com.featureflagsdkjava.domain.application.targeting;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes the counters of the targeting result cache, when the engine has one.
+ */
+public class TargetingResultCacheMetrics implements MeterBinder {
+
+    static final String REQUESTS = "feature.flag.evaluation.cache.requests";
+    static final String HIT_RATIO = "feature.flag.evaluation.cache.hit.ratio";
+    static final String EVICTIONS = "feature.flag.evaluation.cache.evictions";
+    static final String SIZE = "feature.flag.evaluation.cache.size";
+
+    private final TargetingEngine targetingEngine;
+
+    public TargetingResultCacheMetrics(TargetingEngine targetingEngine) {
+        this.targetingEngine = targetingEngine;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        targetingEngine.resultCache().ifPresent(cache -> {
+            FunctionCounter.builder(REQUESTS, cache, TargetingResultCache::hitCount)
+                           .tag("result", "hit")
+                           .description("Targeting evaluations answered from the result cache")
+                           .register(registry);
+            FunctionCounter.builder(REQUESTS, cache, TargetingResultCache::missCount)
+                           .tag("result", "miss")
+                           .description("Targeting evaluations that ran the rule")
+                           .register(registry);
+            Gauge.builder(HIT_RATIO, cache, TargetingResultCacheMetrics::hitRatio)
+                 .description("Share of cacheable targeting evaluations answered from the result cache")
+                 .register(registry);
+            FunctionCounter.builder(EVICTIONS, cache, TargetingResultCache::evictionCount)
+                           .description("Results evicted to keep the cache within its maximum size")
+                           .register(registry);
+            Gauge.builder(SIZE, cache, TargetingResultCache::size)
+                 .description("Results currently cached")
+                 .register(registry);
+        });
+    }
+
+    private static double hitRatio(TargetingResultCache cache) {
+        long hits = cache.hitCount();
+        long total = hits + cache.missCount();
+        return total == 0 ? Double.NaN : (double) hits / total;
+    }
+}
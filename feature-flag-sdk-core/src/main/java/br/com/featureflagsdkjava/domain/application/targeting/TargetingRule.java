@@ -0,0 +1,15 @@
+package br.com.featureflagsdkjava.domain.application.targeting;
+
+import io.github.jamsesso.jsonlogic.JsonLogicException;
+
+/**
+ * A targeting rule compiled ahead of time into a tree of evaluators.
+ * Evaluating a rule never parses JSON; it returns what the JsonLogic rule would return for the same data.
+ */
+@FunctionalInterface
+public interface TargetingRule {
+
+    TargetingRule NO_TARGETING = data -> null;
+
+    Object evaluate(Object data) throws JsonLogicException;
+}
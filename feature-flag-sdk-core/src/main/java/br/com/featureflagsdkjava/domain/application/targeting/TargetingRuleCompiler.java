@@ -0,0 +1,276 @@
+package br.com.featureflagsdkjava.domain.application.targeting;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.openfeature.sdk.exceptions.ParseError;
+import io.github.jamsesso.jsonlogic.JsonLogic;
+import io.github.jamsesso.jsonlogic.evaluator.expressions.NotExpression;
+
+import java.util.*;
+
+/**
+ * Turns a JsonLogic targeting string into a {@link TargetingRule} tree.
+ * Every operator is checked here, so a rule that compiles can only fail at evaluation time because of the data.
+ */
+final class TargetingRuleCompiler {
+
+    private static final Set<String> JSON_LOGIC_OPERATORS = Set.of(
+            "+", "-", "*", "/", "%", "min", "max", ">", ">=", "<", "<=", "if", "?:", "==", "!=", "===", "!==",
+            "!", "!!", "and", "or", "log", "map", "filter", "reduce", "all", "some", "none", "merge", "in", "cat",
+            "substr", "missing", "missing_some", "var");
+
+    /**
+     * Built-in operators the compiler adds to JsonLogic. {@code bucket} is an alias of {@code fractional}.
+     */
+    static final Set<String> NATIVE_OPERATORS = Set.of("fractional", "bucket");
+
+    /**
+     * Operators that read the data through something other than a root-level {@code var}: array operators
+     * rebind {@code var} to each element, and {@code missing} takes the keys it reads as plain strings. Fractional
+     * rollouts read the targeting key implicitly; they are also cheaper to hash again than to cache per user.
+     */
+    private static final Set<String> UNTRACKED_DATA_OPERATORS = Set.of(
+            "map", "filter", "reduce", "all", "some", "none", "missing", "missing_some", "fractional", "bucket");
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final JsonLogic jsonLogic;
+    private final Set<String> customOperators;
+
+    TargetingRuleCompiler(JsonLogic jsonLogic, Set<String> customOperators) {
+        this.jsonLogic = jsonLogic;
+        this.customOperators = customOperators;
+    }
+
+    static boolean isEmpty(String targeting) {
+        return targeting == null || targeting.isBlank() || targeting.equals("{}");
+    }
+
+    TargetingRule compile(String flagName, String targeting) {
+        return compileRule(flagName, targeting).rule();
+    }
+
+    /**
+     * Compiles the rule and lists the {@code var} paths it reads.
+     */
+    CompiledRule compileRule(String flagName, String targeting) {
+        return compileRule(flagName, targeting, null);
+    }
+
+    /**
+     * @param tree the targeting already parsed, or null to parse {@code targeting}
+     */
+    CompiledRule compileRule(String flagName, String targeting, JsonNode tree) {
+        if (isEmpty(targeting)) return new CompiledRule(TargetingRule.NO_TARGETING, List.of());
+
+        JsonNode root = tree;
+        if (root == null) {
+            try {
+                root = mapper.readTree(targeting);
+            } catch (JsonProcessingException e) {
+                throw parseError(flagName, "targeting is not valid JSON: " + e.getOriginalMessage());
+            }
+        }
+        if (root == null || root.isMissingNode()) return new CompiledRule(TargetingRule.NO_TARGETING, List.of());
+
+        TargetingRule rule = compileNode(flagName, root);
+        Set<String> paths = new LinkedHashSet<>();
+        return new CompiledRule(rule, collectPaths(root, paths) ? List.copyOf(paths) : null);
+    }
+
+    private TargetingRule compileNode(String flagName, JsonNode node) {
+        if (node.isNull()) return TargetingNodes.constant(null);
+        if (node.isBoolean()) return TargetingNodes.constant(node.booleanValue());
+        if (node.isNumber()) return TargetingNodes.constant(node.doubleValue());
+        if (node.isTextual()) return TargetingNodes.constant(node.textValue());
+        if (node.isArray()) return compileArray(flagName, node);
+        if (node.isObject()) return compileOperation(flagName, node);
+        throw parseError(flagName, "unsupported JSON node " + node.getNodeType());
+    }
+
+    private TargetingRule compileArray(String flagName, JsonNode node) {
+        List<TargetingRule> elements = compileAll(flagName, node);
+        if (!isConstant(node)) return TargetingNodes.array(elements);
+
+        List<Object> values = new ArrayList<>(elements.size());
+        for (JsonNode element : node) values.add(constantValue(element));
+        List<Object> constant = Collections.unmodifiableList(values);
+        return TargetingNodes.constant(constant);
+    }
+
+    private TargetingRule compileOperation(String flagName, JsonNode node) {
+        if (node.size() != 1) {
+            throw parseError(flagName, "objects must have exactly 1 key defined, found " + node.size());
+        }
+        String operator = node.fieldNames().next();
+        JsonNode arguments = node.get(operator);
+        List<JsonNode> args = new ArrayList<>();
+        if (arguments.isArray()) arguments.forEach(args::add);
+        else args.add(arguments);
+
+        return switch (operator) {
+            case "var" -> compileVar(flagName, node, args);
+            case "==", "!=" -> {
+                requireArguments(flagName, operator, args, 2, 2);
+                yield TargetingNodes.equality(compileNode(flagName, args.get(0)), compileNode(flagName, args.get(1)),
+                        false, operator.equals("!="));
+            }
+            case "===", "!==" -> {
+                requireArguments(flagName, operator, args, 2, 2);
+                yield TargetingNodes.equality(compileNode(flagName, args.get(0)), compileNode(flagName, args.get(1)),
+                        true, operator.equals("!=="));
+            }
+            case "<", "<=" -> {
+                requireArguments(flagName, operator, args, 2, 3);
+                yield TargetingNodes.comparison(operator, compileAll(flagName, args));
+            }
+            case ">", ">=" -> {
+                requireArguments(flagName, operator, args, 2, 2);
+                yield TargetingNodes.comparison(operator, compileAll(flagName, args));
+            }
+            case "in" -> compileIn(flagName, args);
+            case "and" -> {
+                requireArguments(flagName, operator, args, 1, Integer.MAX_VALUE);
+                yield TargetingNodes.and(compileAll(flagName, args));
+            }
+            case "or" -> {
+                requireArguments(flagName, operator, args, 1, Integer.MAX_VALUE);
+                yield TargetingNodes.or(compileAll(flagName, args));
+            }
+            case "if", "?:" -> TargetingNodes.ifThenElse(compileAll(flagName, args));
+            case "!" -> TargetingNodes.preEvaluated(NotExpression.SINGLE, compileAll(flagName, args));
+            case "!!" -> TargetingNodes.preEvaluated(NotExpression.DOUBLE, compileAll(flagName, args));
+            case "fractional", "bucket" -> compileFractional(flagName, operator, args);
+            default -> compileFallback(flagName, operator, node, args);
+        };
+    }
+
+    private TargetingRule compileVar(String flagName, JsonNode node, List<JsonNode> args) {
+        JsonNode key = args.isEmpty() ? null : args.get(0);
+        if (key == null || !(key.isTextual() || key.isNull())) {
+            return compileFallback(flagName, "var", node, args);
+        }
+        requireArguments(flagName, "var", args, 1, 2);
+
+        TargetingRule defaultValue = args.size() > 1 ? compileNode(flagName, args.get(1)) : TargetingNodes.constant(null);
+        return TargetingNodes.var(key.isNull() ? "" : key.textValue(), defaultValue);
+    }
+
+    private TargetingRule compileIn(String flagName, List<JsonNode> args) {
+        if (args.size() < 2) return TargetingNodes.constant(false);
+
+        TargetingRule needle = compileNode(flagName, args.get(0));
+        JsonNode haystack = args.get(1);
+        if (haystack.isTextual()) return TargetingNodes.inString(needle, haystack.textValue());
+        if (haystack.isArray() && isConstant(haystack)) {
+            List<Object> members = new ArrayList<>();
+            for (JsonNode element : haystack) members.add(constantValue(element));
+            return TargetingNodes.inSet(needle, members);
+        }
+        return TargetingNodes.in(needle, compileNode(flagName, haystack));
+    }
+
+    /**
+     * Compiles {@code {"fractional": [<key>, ["variant", weight], ...]}}. The bucketing key expression is optional;
+     * buckets are a variant name and a non-negative integer weight, which defaults to 1.
+     */
+    private TargetingRule compileFractional(String flagName, String operator, List<JsonNode> args) {
+        int first = !args.isEmpty() && !args.get(0).isArray() ? 1 : 0;
+        TargetingRule key = first == 1 ? compileNode(flagName, args.get(0)) : null;
+        if (args.size() <= first) throw parseError(flagName, "operator '" + operator + "' needs at least one bucket");
+
+        String[] variants = new String[args.size() - first];
+        long[] bounds = new long[variants.length];
+        long total = 0;
+        for (int i = first; i < args.size(); i++) {
+            JsonNode bucket = args.get(i);
+            JsonNode variant = bucket.isArray() ? bucket.get(0) : null;
+            JsonNode weight = bucket.size() > 1 ? bucket.get(1) : null;
+            if (variant == null || !variant.isValueNode() || variant.isNull() || bucket.size() > 2
+                    || (weight != null && (!weight.canConvertToLong() || !weight.isIntegralNumber() || weight.longValue() < 0))) {
+                throw parseError(flagName, "operator '" + operator + "' expects buckets of [\"variant\", weight], found " + bucket);
+            }
+            total += weight == null ? 1 : weight.longValue();
+            if (total > Integer.MAX_VALUE) throw parseError(flagName, "operator '" + operator + "' weights are too large");
+            variants[i - first] = variant.asText();
+            bounds[i - first] = total;
+        }
+        if (total == 0) throw parseError(flagName, "operator '" + operator + "' needs a bucket with a positive weight");
+        return TargetingNodes.fractional(flagName, key, variants, bounds);
+    }
+
+    private TargetingRule compileFallback(String flagName, String operator, JsonNode node, List<JsonNode> args) {
+        if (!JSON_LOGIC_OPERATORS.contains(operator) && !customOperators.contains(operator)) {
+            throw parseError(flagName, "unsupported operator '" + operator + "'");
+        }
+        compileAll(flagName, args);
+        return TargetingNodes.fallback(jsonLogic, node.toString());
+    }
+
+    private List<TargetingRule> compileAll(String flagName, Iterable<JsonNode> nodes) {
+        List<TargetingRule> rules = new ArrayList<>();
+        for (JsonNode node : nodes) rules.add(compileNode(flagName, node));
+        return rules;
+    }
+
+    /**
+     * Adds every {@code var} path under the node to {@code paths}.
+     *
+     * @return false when the node can read data that is not addressed by a literal path, such as the whole data
+     * ({@code {"var": ""}}), a computed path or an array operator
+     */
+    private static boolean collectPaths(JsonNode node, Set<String> paths) {
+        if (node.isArray()) {
+            for (JsonNode element : node) {
+                if (!collectPaths(element, paths)) return false;
+            }
+            return true;
+        }
+        if (!node.isObject() || node.size() != 1) return true;
+
+        String operator = node.fieldNames().next();
+        JsonNode arguments = node.get(operator);
+        if (UNTRACKED_DATA_OPERATORS.contains(operator)) return false;
+        if (!operator.equals("var")) return collectPaths(arguments, paths);
+
+        JsonNode key = arguments.isArray() ? arguments.get(0) : arguments;
+        if (key == null || !key.isTextual() || key.textValue().isEmpty()) return false;
+        paths.add(key.textValue());
+        return !arguments.isArray() || arguments.size() < 2 || collectPaths(arguments.get(1), paths);
+    }
+
+    private static boolean isConstant(JsonNode node) {
+        if (node.isObject()) return false;
+        if (!node.isArray()) return true;
+        for (JsonNode element : node) {
+            if (!isConstant(element)) return false;
+        }
+        return true;
+    }
+
+    private static Object constantValue(JsonNode node) {
+        if (node.isNull()) return null;
+        if (node.isBoolean()) return node.booleanValue();
+        if (node.isNumber()) return node.doubleValue();
+        if (node.isTextual()) return node.textValue();
+
+        List<Object> values = new ArrayList<>(node.size());
+        for (JsonNode element : node) values.add(constantValue(element));
+        return Collections.unmodifiableList(values);
+    }
+
+    private static void requireArguments(String flagName, String operator, List<JsonNode> args, int min, int max) {
+        if (args.size() < min || args.size() > max) {
+            throw parseError(flagName, "operator '" + operator + "' does not accept " + args.size() + " argument(s)");
+        }
+    }
+
+    private static ParseError parseError(String flagName, String message) {
+        return new ParseError("Invalid targeting on flag " + flagName + ": " + message);
+    }
+
+    /**
+     * @param paths the {@code var} paths the rule reads, or null when they cannot be known ahead of evaluation
+     */
+    record CompiledRule(TargetingRule rule, List<String> paths) {}
+}
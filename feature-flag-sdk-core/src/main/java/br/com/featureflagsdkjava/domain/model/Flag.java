@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -24,6 +25,26 @@ public class Flag {
    private Map<String, Object> variants;
    private String targeting;
 
+   /**
+    * Flags this flag is gated on; it only runs its targeting when every one of them is met for the context, and
+    * evaluates to its default variant otherwise.
+    */
+   private List<Prerequisite> prerequisites;
+
+   /**
+    * Met when {@link #flag} evaluates, for the same context, to one of {@link #variants}, or to any variant when none
+    * are listed. A prerequisite that is missing, disabled or fails to evaluate is not met.
+    */
+   @Data
+   @JsonIgnoreProperties(ignoreUnknown = true)
+   @Builder
+   @AllArgsConstructor
+   @NoArgsConstructor
+   public static class Prerequisite {
+      private String flag;
+      private List<String> variants;
+   }
+
    /**
     * Enum representing the types of feature flags.
     */
@@ -0,0 +1,32 @@
+package br.com.featureflagsdkjava.domain.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A single change pushed by the flag service. Versions increase by one per change, so a jump between
+ * two consecutive events means changes were missed.
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class FlagChangeEvent {
+   private long version;
+   private Type type;
+   private String flagName;
+   private Flag flag;
+
+   /**
+    * Enum representing the kind of change. RESYNC asks the client to reload the whole snapshot.
+    */
+   public enum Type {
+      UPSERT, DELETE, RESYNC
+   }
+}
@@ -0,0 +1,46 @@
+package br.com.featureflagsdkjava.domain.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flags that changed since a given snapshot version. When {@code full} is set, {@code flags} holds the complete
+ * flag set and replaces the current snapshot; otherwise only {@code flags} and {@code deleted} are applied.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class FlagDelta {
+   private long version;
+   private boolean full;
+   @Builder.Default
+   private List<Flag> flags = List.of();
+   @Builder.Default
+   private List<String> deleted = List.of();
+
+   /**
+    * Targeting rules of {@link #flags} already parsed by the flag source while reading them, by flag name, so the
+    * targeting engine does not parse them again. Never serialized; flags without an entry are parsed when compiled.
+    */
+   @JsonIgnore
+   @ToString.Exclude
+   @EqualsAndHashCode.Exclude
+   @Builder.Default
+   private transient Map<String, JsonNode> targetingTrees = Map.of();
+
+   public static FlagDelta full(long version, List<Flag> flags) {
+      return FlagDelta.builder().version(version).full(true).flags(flags == null ? List.of() : flags).build();
+   }
+}
@@ -0,0 +1,81 @@
+package br.com.featureflagsdkjava.domain.model;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Immutable, point-in-time view of every known flag, indexed by name and by type.
+ * The version is the one reported by the flag source, or 0 when the source does not report versions.
+ */
+@Getter
+public final class FlagSnapshot {
+
+    private static final FlagSnapshot EMPTY = new FlagSnapshot(0L, List.of(), Instant.EPOCH);
+
+    private final long version;
+    private final Instant loadedAt;
+    private final List<Flag> flags;
+    private final Map<String, Flag> flagsByName;
+    private final Map<Flag.Type, List<Flag>> flagsByType;
+
+    private FlagSnapshot(long version, Collection<Flag> flags, Instant loadedAt) {
+        Map<String, Flag> byName = new HashMap<>();
+        Map<Flag.Type, List<Flag>> byType = new EnumMap<>(Flag.Type.class);
+
+        for (Flag flag : flags) {
+            if (flag == null || flag.getName() == null) continue;
+            byName.put(flag.getName(), flag);
+        }
+        for (Flag flag : byName.values()) {
+            if (flag.getType() == null) continue;
+            byType.computeIfAbsent(flag.getType(), type -> new ArrayList<>()).add(flag);
+        }
+        byType.replaceAll((type, typed) -> List.copyOf(typed));
+
+        this.version = version;
+        this.loadedAt = loadedAt;
+        this.flags = List.copyOf(byName.values());
+        this.flagsByName = Map.copyOf(byName);
+        this.flagsByType = Collections.unmodifiableMap(byType);
+    }
+
+    public static FlagSnapshot empty() {
+        return EMPTY;
+    }
+
+    public static FlagSnapshot of(long version, Collection<Flag> flags) {
+        return new FlagSnapshot(version, flags, Instant.now());
+    }
+
+    /**
+     * Rebuilds a snapshot that was loaded at an earlier time, e.g. one restored from disk.
+     */
+    public static FlagSnapshot of(long version, Collection<Flag> flags, Instant loadedAt) {
+        return new FlagSnapshot(version, flags, loadedAt);
+    }
+
+    public Optional<Flag> find(String flagName) {
+        if (flagName == null) return Optional.empty();
+        return Optional.ofNullable(flagsByName.get(flagName));
+    }
+
+    public List<Flag> findByType(Flag.Type flagType) {
+        return flagsByType.getOrDefault(flagType, List.of());
+    }
+
+    /**
+     * Returns a new snapshot at the given version with the changed flags added or replaced and the deleted ones removed.
+     */
+    public FlagSnapshot withChanges(long version, Collection<Flag> changed, Collection<String> deleted) {
+        Map<String, Flag> flags = new HashMap<>(flagsByName);
+        deleted.forEach(flags::remove);
+        for (Flag flag : changed) flags.put(flag.getName(), flag);
+        return FlagSnapshot.of(version, flags.values());
+    }
+
+    public int size() {
+        return flags.size();
+    }
+}
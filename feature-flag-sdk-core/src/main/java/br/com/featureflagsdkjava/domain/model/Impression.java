@@ -0,0 +1,8 @@
+package br.com.featureflagsdkjava.domain.model;
+
+/**
+ * Records that a flag was evaluated to a variant for a targeting key, for experiment analysis.
+ *
+ * @param timestamp when the evaluation happened, in epoch milliseconds
+ */
+public record Impression(String flagKey, String targetingKey, String variant, String reason, long timestamp) {}
@@ -0,0 +1,54 @@
+package br.com.featureflagsdkjava.domain.ports;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagDelta;
+import br.com.featureflagsdkjava.domain.model.FlagSnapshot;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface FeatureFlagQueryPort {
+    List<Flag> findAll();
+
+    List<Flag> findFlagsByType(Flag.Type flagType);
+
+    Optional<Flag> findByFlagName(String flagName);
+
+    /**
+     * Looks up several flags at once. Names that are not found are left out of the returned map.
+     */
+    default Map<String, Flag> findByFlagNames(Collection<String> flagNames) {
+        Map<String, Flag> flags = new HashMap<>();
+        for (String flagName : flagNames) {
+            findByFlagName(flagName).ifPresent(flag -> flags.put(flagName, flag));
+        }
+        return flags;
+    }
+
+    /**
+     * Returns what changed since the given snapshot version, or an empty Optional when nothing did.
+     * Sources that cannot tell return the full flag set.
+     */
+    default Optional<FlagDelta> findChangesSince(long version) {
+        return Optional.of(FlagDelta.full(0L, findAll()));
+    }
+
+    /**
+     * Returns the in-memory snapshot reads are served from, or an empty Optional when the source keeps none.
+     */
+    default Optional<FlagSnapshot> currentSnapshot() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns when the in-memory snapshot was last confirmed to match the flag service, or an empty Optional when the
+     * source keeps no snapshot or never reached the flag service.
+     */
+    default Optional<Instant> lastSyncedAt() {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.featureflagsdkjava.domain.ports;
+
+import br.com.featureflagsdkjava.domain.model.FlagSnapshot;
+
+import java.util.Optional;
+
+/**
+ * Keeps the last known good flag snapshot somewhere that survives a restart.
+ */
+public interface FlagSnapshotStorePort {
+
+    /**
+     * Replaces the stored snapshot. Failures are logged and never propagated to the caller.
+     */
+    void save(FlagSnapshot snapshot);
+
+    /**
+     * Returns the stored snapshot, or an empty Optional when there is none or it cannot be read.
+     */
+    Optional<FlagSnapshot> load();
+}
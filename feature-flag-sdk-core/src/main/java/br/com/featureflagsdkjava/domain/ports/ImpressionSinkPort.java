@@ -0,0 +1,18 @@
+package br.com.featureflagsdkjava.domain.ports;
+
+import br.com.featureflagsdkjava.domain.model.Impression;
+
+import java.util.List;
+
+/**
+ * Destination of the impressions recorded by the evaluation pipeline (an HTTP endpoint, a local file, ...). Batches
+ * are sent from a single background thread, never from the thread that evaluated the flag.
+ */
+public interface ImpressionSinkPort {
+
+    /**
+     * Sends one batch. A thrown exception drops the batch; the pipeline counts it and does not retry, so a failing
+     * sink cannot make impressions pile up.
+     */
+    void send(List<Impression> impressions);
+}
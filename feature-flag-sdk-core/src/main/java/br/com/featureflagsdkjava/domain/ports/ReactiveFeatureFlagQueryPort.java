@@ -0,0 +1,26 @@
+package br.com.featureflagsdkjava.domain.ports;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Non-blocking counterpart of {@link FeatureFlagQueryPort}, for flag sources that can be read without holding a
+ * thread while waiting (e.g. over {@code WebClient}). Lookups of unknown flags complete empty.
+ */
+public interface ReactiveFeatureFlagQueryPort {
+    Flux<Flag> findAll();
+
+    Flux<Flag> findFlagsByType(Flag.Type flagType);
+
+    Mono<Flag> findByFlagName(String flagName);
+
+    /**
+     * Looks up several flags at once. Names that are not found are left out of the returned flags.
+     */
+    default Flux<Flag> findByFlagNames(Collection<String> flagNames) {
+        return Flux.fromIterable(flagNames).flatMap(this::findByFlagName);
+    }
+}
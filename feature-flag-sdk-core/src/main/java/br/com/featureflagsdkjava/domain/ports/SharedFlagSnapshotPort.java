@@ -0,0 +1,45 @@
+package br.com.featureflagsdkjava.domain.ports;
+
+import br.com.featureflagsdkjava.domain.model.FlagSnapshot;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Second cache tier, shared by the processes running on the same node (a memory-mapped file, a node-local
+ * key-value store, ...). One process refreshes it from the flag service and the others read it, so the flag
+ * service sees one refresh per node instead of one per process.
+ */
+public interface SharedFlagSnapshotPort {
+
+    /**
+     * Returns the shared snapshot, or an empty Optional when there is none or it cannot be read.
+     */
+    Optional<SharedSnapshot> read();
+
+    /**
+     * Shares a snapshot that was just checked against the flag service at {@code refreshedAt}. Failures are logged
+     * and never propagated to the caller.
+     */
+    void write(FlagSnapshot snapshot, Instant refreshedAt);
+
+    /**
+     * Tries to become the only process refreshing the shared snapshot from the flag service, until the returned
+     * lease is closed. Empty when another process holds it. Stores without such a lock let every process refresh.
+     */
+    default Optional<RefreshLease> tryAcquireRefresh() {
+        return Optional.of(() -> {});
+    }
+
+    /**
+     * @param refreshedAt when the snapshot was last checked against the flag service, which is what its
+     *                    time-to-live is counted from
+     */
+    record SharedSnapshot(FlagSnapshot snapshot, Instant refreshedAt) {}
+
+    @FunctionalInterface
+    interface RefreshLease extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,359 @@
+package br.com.featureflagsdkjava.infra.adapters.cache;
+
+import br.com.featureflagsdkjava.domain.application.targeting.TargetingEngine;
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagChangeEvent;
+import br.com.featureflagsdkjava.domain.model.FlagDelta;
+import br.com.featureflagsdkjava.domain.model.FlagSnapshot;
+import br.com.featureflagsdkjava.domain.ports.FeatureFlagQueryPort;
+import br.com.featureflagsdkjava.domain.ports.FlagSnapshotStorePort;
+import br.com.featureflagsdkjava.domain.ports.SharedFlagSnapshotPort;
+import br.com.featureflagsdkjava.domain.ports.SharedFlagSnapshotPort.RefreshLease;
+import br.com.featureflagsdkjava.domain.ports.SharedFlagSnapshotPort.SharedSnapshot;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link FeatureFlagQueryPort} decorator that serves every read from an in-memory {@link FlagSnapshot}.
+ * The snapshot is bulk-loaded through the delegate at startup and replaced in the background on a
+ * jittered interval, so evaluations never wait on the flag service. Refreshes only transfer what changed when
+ * the delegate supports it. Targeting rules are compiled as part of each load, and flags whose rules do not
+ * compile are left out of the snapshot. When a {@link FlagSnapshotStorePort} is available, the stored snapshot is
+ * served until the first load succeeds, and every newly published snapshot is saved to it in the background.
+ * <p>
+ * With a {@link SharedFlagSnapshotPort}, the snapshot is a first tier in front of a second one shared by the
+ * processes of the node: refreshes and lookups made before the first load read the shared snapshot first, and only
+ * the process holding the refresh lease goes to the delegate, once the shared snapshot is older than
+ * {@code feature.flag.shared-snapshot.ttl}, then shares what it loaded.
+ * <p>
+ * Registered in front of the single flag source (REST, JDBC, ...) configured in the application.
+ */
+@Slf4j
+@Primary
+@Service("cachingFeatureFlagQuery")
+@ConditionalOnProperty(name = "feature.flag.cache.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnSingleCandidate(FeatureFlagQueryPort.class)
+public class CachingFeatureFlagQueryAdapter implements FeatureFlagQueryPort {
+
+    private static final long SHARED_SNAPSHOT_POLL_MILLIS = 50;
+
+    private final FeatureFlagQueryPort delegate;
+    private final TargetingEngine targetingEngine;
+    private final long refreshIntervalMillis;
+    private final long refreshJitterMillis;
+    private final Optional<FlagSnapshotStorePort> snapshotStore;
+    private final Optional<SharedFlagSnapshotPort> sharedSnapshot;
+    private final ScheduledExecutorService scheduler;
+    private final Object publishLock = new Object();
+    private final AtomicBoolean savePending = new AtomicBoolean();
+    private final FlagCacheStats stats = new FlagCacheStats();
+
+    @Value("${feature.flag.shared-snapshot.ttl:30s}")
+    private Duration sharedSnapshotTtl = Duration.ofSeconds(30);
+
+    @Value("${feature.flag.shared-snapshot.startup-wait:5s}")
+    private Duration sharedSnapshotStartupWait = Duration.ofSeconds(5);
+
+    private volatile FlagSnapshot snapshot;
+    private volatile Instant syncedAt;
+
+    public CachingFeatureFlagQueryAdapter(
+            FeatureFlagQueryPort delegate,
+            TargetingEngine targetingEngine,
+            @Value("${feature.flag.cache.refresh-interval:30s}") Duration refreshInterval,
+            @Value("${feature.flag.cache.refresh-jitter:5s}") Duration refreshJitter,
+            Optional<FlagSnapshotStorePort> snapshotStore,
+            Optional<SharedFlagSnapshotPort> sharedSnapshot) {
+        this.delegate = delegate;
+        this.targetingEngine = targetingEngine;
+        this.snapshotStore = snapshotStore;
+        this.sharedSnapshot = sharedSnapshot;
+        this.refreshIntervalMillis = refreshInterval.toMillis();
+        this.refreshJitterMillis = refreshJitter.toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "feature-flag-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        snapshotStore.flatMap(FlagSnapshotStorePort::load).ifPresent(this::restore);
+        refresh();
+        scheduleNextRefresh();
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Asks the delegate for what changed since the current snapshot and atomically publishes the result.
+     * An unchanged source costs no parsing; on failure the previous snapshot keeps being served. A shared snapshot
+     * is used instead of the delegate while it is within its time-to-live, or while another process holds the
+     * refresh lease.
+     *
+     * @return true when the snapshot is up to date with the delegate
+     */
+    public boolean refresh() {
+        return sharedSnapshot.map(this::refreshThroughSharedSnapshot).orElseGet(this::refreshFromDelegate);
+    }
+
+    private boolean refreshThroughSharedSnapshot(SharedFlagSnapshotPort shared) {
+        long startedAt = System.nanoTime();
+        if (syncFromShared(shared)) {
+            stats.recordSharedRefresh(System.nanoTime() - startedAt);
+            return true;
+        }
+
+        Optional<RefreshLease> lease = shared.tryAcquireRefresh();
+        if (lease.isEmpty()) {
+            if (snapshot != null || awaitShared(shared)) {
+                stats.recordSharedRefresh(System.nanoTime() - startedAt);
+                return true;
+            }
+            log.info("No shared flag snapshot within {}, loading flags from the flag source", sharedSnapshotStartupWait);
+            return refreshFromDelegate();
+        }
+
+        try (RefreshLease held = lease.get()) {
+            if (syncFromShared(shared)) {
+                stats.recordSharedRefresh(System.nanoTime() - startedAt);
+                return true;
+            }
+            if (!refreshFromDelegate()) return false;
+            shared.write(snapshot, Instant.now());
+            return true;
+        }
+    }
+
+    /**
+     * Publishes the shared snapshot when it was loaded after the current one.
+     *
+     * @return true when the shared snapshot was checked against the flag source within its time-to-live
+     */
+    private boolean syncFromShared(SharedFlagSnapshotPort shared) {
+        Optional<SharedSnapshot> read = shared.read();
+        if (read.isEmpty()) return false;
+
+        FlagSnapshot sharedFlags = read.get().snapshot();
+        synchronized (publishLock) {
+            FlagSnapshot current = snapshot;
+            if (current == null || sharedFlags.getLoadedAt().isAfter(current.getLoadedAt())) {
+                snapshot = FlagSnapshot.of(sharedFlags.getVersion(), targetingEngine.load(sharedFlags.getFlags()), sharedFlags.getLoadedAt());
+                log.debug("Shared flag snapshot {} published with {} flags", snapshot.getVersion(), snapshot.size());
+            }
+        }
+        markSynced(read.get().refreshedAt());
+        return Duration.between(read.get().refreshedAt(), Instant.now()).compareTo(sharedSnapshotTtl) < 0;
+    }
+
+    /**
+     * Waits, when nothing has been loaded yet, for the process holding the refresh lease to share a snapshot.
+     */
+    private boolean awaitShared(SharedFlagSnapshotPort shared) {
+        long deadline = System.nanoTime() + sharedSnapshotStartupWait.toNanos();
+        while (snapshot == null && deadline - System.nanoTime() > 0) {
+            try {
+                Thread.sleep(SHARED_SNAPSHOT_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            syncFromShared(shared);
+        }
+        return snapshot != null;
+    }
+
+    private boolean refreshFromDelegate() {
+        long startedAt = System.nanoTime();
+        try {
+            FlagSnapshot current = snapshot;
+            Optional<FlagDelta> changes = delegate.findChangesSince(current == null ? 0L : current.getVersion());
+            if (changes.isEmpty()) {
+                if (current != null) {
+                    stats.recordRefresh(System.nanoTime() - startedAt);
+                    markSynced(Instant.now());
+                    return true;
+                }
+                changes = Optional.of(FlagDelta.full(0L, delegate.findAll()));
+            }
+            publish(changes.get());
+            scheduleSave();
+            stats.recordRefresh(System.nanoTime() - startedAt);
+            markSynced(Instant.now());
+            return true;
+        } catch (Exception e) {
+            stats.recordRefreshFailure();
+            log.warn("Unable to refresh flag snapshot, keeping the previous one: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Applies a pushed change to the current snapshot. Upserted flags whose targeting does not compile
+     * are removed rather than served with a broken rule.
+     *
+     * @return false when there is no snapshot to apply the change to, or the event does not carry a change, and a
+     * full refresh is needed
+     */
+    public boolean apply(FlagChangeEvent event) {
+        if (event.getType() == null) return false;
+        FlagDelta delta = switch (event.getType()) {
+            case UPSERT -> event.getFlag() == null ? null
+                    : FlagDelta.builder().version(event.getVersion()).flags(List.of(event.getFlag())).build();
+            case DELETE -> event.getFlagName() == null ? null
+                    : FlagDelta.builder().version(event.getVersion()).deleted(List.of(event.getFlagName())).build();
+            default -> null;
+        };
+        if (delta == null || snapshot == null) return false;
+
+        publish(delta);
+        scheduleSave();
+        return true;
+    }
+
+    @Override
+    public Optional<FlagSnapshot> currentSnapshot() {
+        return Optional.ofNullable(snapshot);
+    }
+
+    /**
+     * Last successful refresh, whether it changed the snapshot or not; for a shared snapshot, when the process
+     * refreshing it last did. A snapshot restored from file does not count.
+     */
+    @Override
+    public Optional<Instant> lastSyncedAt() {
+        return Optional.ofNullable(syncedAt);
+    }
+
+    private void markSynced(Instant at) {
+        synchronized (publishLock) {
+            if (syncedAt == null || at.isAfter(syncedAt)) syncedAt = at;
+        }
+    }
+
+    @Override
+    public List<Flag> findAll() {
+        FlagSnapshot current = currentOrShared();
+        if (current == null) return delegate.findAll();
+        return current.getFlags();
+    }
+
+    @Override
+    public List<Flag> findFlagsByType(Flag.Type flagType) {
+        FlagSnapshot current = currentOrShared();
+        if (current == null) return delegate.findFlagsByType(flagType);
+        return current.findByType(flagType);
+    }
+
+    @Override
+    public Optional<Flag> findByFlagName(String flagName) {
+        FlagSnapshot current = currentOrShared();
+        if (current == null) return delegate.findByFlagName(flagName);
+        Optional<Flag> flag = current.find(flagName);
+        stats.recordLookup(flag.isPresent());
+        return flag;
+    }
+
+    @Override
+    public Map<String, Flag> findByFlagNames(Collection<String> flagNames) {
+        FlagSnapshot current = currentOrShared();
+        if (current == null) return delegate.findByFlagNames(flagNames);
+
+        Map<String, Flag> flags = new HashMap<>();
+        for (String flagName : flagNames) {
+            Optional<Flag> flag = current.find(flagName);
+            stats.recordLookup(flag.isPresent());
+            flag.ifPresent(found -> flags.put(flagName, found));
+        }
+        return flags;
+    }
+
+    /**
+     * The current snapshot or, before the first load, the shared one when there is one.
+     */
+    private FlagSnapshot currentOrShared() {
+        FlagSnapshot current = snapshot;
+        if (current != null || sharedSnapshot.isEmpty()) return current;
+
+        syncFromShared(sharedSnapshot.get());
+        return snapshot;
+    }
+
+    FlagCacheStats stats() {
+        return stats;
+    }
+
+    private void publish(FlagDelta delta) {
+        synchronized (publishLock) {
+            FlagSnapshot current = snapshot;
+            if (delta.isFull() || current == null) {
+                snapshot = FlagSnapshot.of(delta.getVersion(), targetingEngine.load(delta.getFlags(), delta.getTargetingTrees()));
+            } else {
+                List<Flag> changed = targetingEngine.apply(delta.getFlags(), delta.getDeleted(), delta.getTargetingTrees());
+                List<String> deleted = new ArrayList<>(delta.getDeleted());
+                if (changed.size() < delta.getFlags().size()) {
+                    Set<String> compiled = new HashSet<>();
+                    for (Flag flag : changed) compiled.add(flag.getName());
+                    for (Flag flag : delta.getFlags()) {
+                        if (flag != null && !compiled.contains(flag.getName())) deleted.add(flag.getName());
+                    }
+                }
+                snapshot = current.withChanges(delta.getVersion(), changed, deleted);
+            }
+            log.debug("Flag snapshot {} published with {} flags", snapshot.getVersion(), snapshot.size());
+        }
+    }
+
+    private void restore(FlagSnapshot stored) {
+        synchronized (publishLock) {
+            if (snapshot != null) return;
+            snapshot = FlagSnapshot.of(stored.getVersion(), targetingEngine.load(stored.getFlags()), stored.getLoadedAt());
+        }
+        log.info("Serving stored flag snapshot {} with {} flags from {}", stored.getVersion(), stored.size(), stored.getLoadedAt());
+    }
+
+    /**
+     * Saves the current snapshot off the calling thread; bursts of changes result in a single write.
+     */
+    private void scheduleSave() {
+        if (snapshotStore.isEmpty() || scheduler.isShutdown() || !savePending.compareAndSet(false, true)) return;
+        try {
+            scheduler.execute(() -> {
+                savePending.set(false);
+                FlagSnapshot current = snapshot;
+                if (current != null) snapshotStore.get().save(current);
+            });
+        } catch (RejectedExecutionException e) {
+            savePending.set(false);
+        }
+    }
+
+    private void scheduleNextRefresh() {
+        if (scheduler.isShutdown()) return;
+        long jitter = refreshJitterMillis > 0 ? ThreadLocalRandom.current().nextLong(refreshJitterMillis + 1) : 0L;
+        scheduler.schedule(() -> {
+            refresh();
+            scheduleNextRefresh();
+        }, refreshIntervalMillis + jitter, TimeUnit.MILLISECONDS);
+    }
+}
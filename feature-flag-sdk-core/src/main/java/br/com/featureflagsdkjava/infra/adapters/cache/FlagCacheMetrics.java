@@ -0,0 +1,78 @@
+package br.com.featureflagsdkjava.infra.adapters.cache;
+
+import br.com.featureflagsdkjava.domain.model.FlagSnapshot;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the flag cache counters and the state of the current snapshot. Every meter reads the cache when
+ * the registry polls it, so lookups and refreshes pay nothing beyond a {@link java.util.concurrent.atomic.LongAdder}
+ * increment.
+ */
+public class FlagCacheMetrics implements MeterBinder {
+
+    static final String LOOKUPS = "feature.flag.cache.lookups";
+    static final String REFRESH = "feature.flag.cache.refresh";
+    static final String REFRESH_FAILURES = "feature.flag.cache.refresh.failures";
+    static final String REFRESH_SHARED = "feature.flag.cache.refresh.shared";
+    static final String REFRESH_LAST_DURATION = "feature.flag.cache.refresh.last.duration";
+    static final String SIZE = "feature.flag.cache.size";
+    static final String VERSION = "feature.flag.cache.version";
+    static final String AGE = "feature.flag.cache.age";
+
+    private final CachingFeatureFlagQueryAdapter cache;
+
+    public FlagCacheMetrics(CachingFeatureFlagQueryAdapter cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FlagCacheStats stats = cache.stats();
+
+        FunctionCounter.builder(LOOKUPS, stats, FlagCacheStats::hits)
+                       .tag("result", "hit")
+                       .description("Flag lookups answered by the snapshot")
+                       .register(registry);
+        FunctionCounter.builder(LOOKUPS, stats, FlagCacheStats::misses)
+                       .tag("result", "miss")
+                       .description("Flag lookups for flags missing from the snapshot")
+                       .register(registry);
+        FunctionTimer.builder(REFRESH, stats, FlagCacheStats::refreshes, FlagCacheStats::refreshNanos, TimeUnit.NANOSECONDS)
+                     .description("Successful snapshot refreshes")
+                     .register(registry);
+        FunctionCounter.builder(REFRESH_FAILURES, stats, FlagCacheStats::refreshFailures)
+                       .description("Refreshes that failed and kept the previous snapshot")
+                       .register(registry);
+        FunctionCounter.builder(REFRESH_SHARED, stats, FlagCacheStats::sharedRefreshes)
+                       .description("Refreshes answered by the snapshot shared by the processes of the node")
+                       .register(registry);
+        Gauge.builder(REFRESH_LAST_DURATION, stats, s -> s.lastRefreshNanos() / 1_000_000_000d)
+             .baseUnit("seconds")
+             .description("Duration of the last successful refresh")
+             .register(registry);
+        Gauge.builder(SIZE, cache, c -> c.currentSnapshot().map(FlagSnapshot::size).orElse(0))
+             .description("Flags in the current snapshot")
+             .register(registry);
+        Gauge.builder(VERSION, cache, c -> c.currentSnapshot().map(FlagSnapshot::getVersion).orElse(0L))
+             .description("Version of the current snapshot")
+             .register(registry);
+        Gauge.builder(AGE, cache, FlagCacheMetrics::ageSeconds)
+             .baseUnit("seconds")
+             .description("Time since the current snapshot was loaded")
+             .register(registry);
+    }
+
+    private static double ageSeconds(CachingFeatureFlagQueryAdapter cache) {
+        return cache.currentSnapshot()
+                    .map(snapshot -> Duration.between(snapshot.getLoadedAt(), Instant.now()).toMillis() / 1000d)
+                    .orElse(Double.NaN);
+    }
+}
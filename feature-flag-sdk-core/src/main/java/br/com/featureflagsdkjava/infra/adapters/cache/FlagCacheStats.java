@@ -0,0 +1,68 @@
+package br.com.featureflagsdkjava.infra.adapters.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters kept by the flag cache on its hot path. Plain {@link LongAdder}s, so the cache does not depend on a
+ * metrics library; {@link FlagCacheMetrics} exposes them to Micrometer when it is present.
+ */
+final class FlagCacheStats {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshNanos = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+    private final LongAdder sharedRefreshes = new LongAdder();
+    private volatile long lastRefreshNanos;
+
+    void recordLookup(boolean found) {
+        (found ? hits : misses).increment();
+    }
+
+    void recordRefresh(long elapsedNanos) {
+        refreshes.increment();
+        refreshNanos.add(elapsedNanos);
+        lastRefreshNanos = elapsedNanos;
+    }
+
+    /**
+     * A refresh answered by the shared snapshot instead of the flag source.
+     */
+    void recordSharedRefresh(long elapsedNanos) {
+        sharedRefreshes.increment();
+        recordRefresh(elapsedNanos);
+    }
+
+    void recordRefreshFailure() {
+        refreshFailures.increment();
+    }
+
+    long hits() {
+        return hits.sum();
+    }
+
+    long misses() {
+        return misses.sum();
+    }
+
+    long refreshes() {
+        return refreshes.sum();
+    }
+
+    long refreshNanos() {
+        return refreshNanos.sum();
+    }
+
+    long refreshFailures() {
+        return refreshFailures.sum();
+    }
+
+    long sharedRefreshes() {
+        return sharedRefreshes.sum();
+    }
+
+    long lastRefreshNanos() {
+        return lastRefreshNanos;
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.featureflagsdkjava.infra.adapters.file;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagSnapshot;
+import br.com.featureflagsdkjava.domain.ports.FlagSnapshotStorePort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Stores the last known good snapshot as a single JSON file holding its version, load time and flags, so the SDK
+ * can start from it when the flag source is unreachable.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "feature.flag.snapshot-file.enabled", havingValue = "true")
+@ConditionalOnMissingBean(FlagSnapshotStorePort.class)
+public class FileFlagSnapshotStoreAdapter implements FlagSnapshotStorePort {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Path snapshotFile;
+
+    public FileFlagSnapshotStoreAdapter(
+            @Value("${feature.flag.snapshot-file.path:${java.io.tmpdir}/feature-flags/snapshot.json}") Path snapshotFile) {
+        this.snapshotFile = snapshotFile.toAbsolutePath();
+    }
+
+    @Override
+    public void save(FlagSnapshot snapshot) {
+        try {
+            SnapshotFiles.writeAtomically(snapshotFile, mapper.writeValueAsBytes(new StoredSnapshot(
+                    snapshot.getVersion(), snapshot.getLoadedAt().toEpochMilli(), snapshot.getFlags())));
+            log.debug("Flag snapshot {} saved to {}", snapshot.getVersion(), snapshotFile);
+        } catch (IOException e) {
+            log.warn("Unable to save flag snapshot to {}: {}", snapshotFile, e.getMessage());
+        }
+    }
+
+    @Override
+    public Optional<FlagSnapshot> load() {
+        try {
+            return SnapshotFiles.readMapped(snapshotFile, mapper, StoredSnapshot.class).map(stored -> {
+                List<Flag> flags = stored.flags() == null ? List.of() : stored.flags();
+                return FlagSnapshot.of(stored.version(), flags, Instant.ofEpochMilli(stored.loadedAt()));
+            });
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable flag snapshot {}: {}", snapshotFile, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    record StoredSnapshot(long version, long loadedAt, List<Flag> flags) {}
+}
@@ -0,0 +1,51 @@
+package br.com.featureflagsdkjava.infra.adapters.file;
+
+import br.com.featureflagsdkjava.domain.model.Impression;
+import br.com.featureflagsdkjava.domain.ports.ImpressionSinkPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends impressions to a local file, one JSON object per line, for a log shipper to pick up. Each batch is
+ * written with a single append.
+ */
+@Component
+@ConditionalOnProperty(name = "feature.flag.impressions.sink", havingValue = "file")
+@ConditionalOnMissingBean(ImpressionSinkPort.class)
+public class FileImpressionSinkAdapter implements ImpressionSinkPort {
+
+    private final ObjectWriter writer = new ObjectMapper().writerFor(Impression.class);
+    private final Path impressionsFile;
+
+    public FileImpressionSinkAdapter(
+            @Value("${feature.flag.impressions.file.path:${java.io.tmpdir}/feature-flags/impressions.jsonl}") Path impressionsFile) {
+        this.impressionsFile = impressionsFile.toAbsolutePath();
+    }
+
+    @Override
+    public void send(List<Impression> impressions) {
+        try {
+            ByteArrayOutputStream lines = new ByteArrayOutputStream(impressions.size() * 128);
+            for (Impression impression : impressions) {
+                lines.write(writer.writeValueAsBytes(impression));
+                lines.write('\n');
+            }
+            Files.createDirectories(impressionsFile.getParent());
+            Files.write(impressionsFile, lines.toByteArray(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to append impressions to " + impressionsFile, e);
+        }
+    }
+}
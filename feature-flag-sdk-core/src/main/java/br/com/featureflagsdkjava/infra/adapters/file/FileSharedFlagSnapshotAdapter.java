@@ -0,0 +1,136 @@
+package br.com.featureflagsdkjava.infra.adapters.file;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagSnapshot;
+import br.com.featureflagsdkjava.domain.ports.SharedFlagSnapshotPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Shares the snapshot between the processes of a node through a JSON file on a node-local path (e.g. a
+ * {@code hostPath} or {@code emptyDir} volume mounted by every pod). The process holding an exclusive lock on the
+ * sibling {@code .lock} file refreshes it; the others map it read-only. Files are replaced atomically, and a file
+ * is only parsed again when it was replaced since the last read.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "feature.flag.shared-snapshot.enabled", havingValue = "true")
+@ConditionalOnMissingBean(SharedFlagSnapshotPort.class)
+public class FileSharedFlagSnapshotAdapter implements SharedFlagSnapshotPort {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Path snapshotFile;
+    private final Path lockFile;
+
+    private volatile LastRead lastRead;
+
+    public FileSharedFlagSnapshotAdapter(
+            @Value("${feature.flag.shared-snapshot.path:${java.io.tmpdir}/feature-flags/shared-snapshot.json}") Path snapshotFile) {
+        this.snapshotFile = snapshotFile.toAbsolutePath();
+        this.lockFile = this.snapshotFile.resolveSibling(this.snapshotFile.getFileName() + ".lock");
+    }
+
+    @Override
+    public Optional<SharedSnapshot> read() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(snapshotFile, BasicFileAttributes.class);
+            FileIdentity identity = new FileIdentity(attributes.fileKey(), attributes.lastModifiedTime().toMillis(), attributes.size());
+            LastRead previous = lastRead;
+            if (previous != null && previous.identity().equals(identity)) return Optional.of(previous.snapshot());
+
+            Optional<SharedSnapshot> snapshot = SnapshotFiles.readMapped(snapshotFile, mapper, SharedFile.class).map(stored -> {
+                List<Flag> flags = stored.flags() == null ? List.of() : stored.flags();
+                return new SharedSnapshot(FlagSnapshot.of(stored.version(), flags, Instant.ofEpochMilli(stored.loadedAt())),
+                        Instant.ofEpochMilli(stored.refreshedAt()));
+            });
+            snapshot.ifPresent(read -> lastRead = new LastRead(identity, read));
+            return snapshot;
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable shared flag snapshot {}: {}", snapshotFile, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void write(FlagSnapshot snapshot, Instant refreshedAt) {
+        try {
+            SnapshotFiles.writeAtomically(snapshotFile, mapper.writeValueAsBytes(new SharedFile(snapshot.getVersion(),
+                    snapshot.getLoadedAt().toEpochMilli(), refreshedAt.toEpochMilli(), snapshot.getFlags())));
+            log.debug("Flag snapshot {} shared through {}", snapshot.getVersion(), snapshotFile);
+        } catch (IOException e) {
+            log.warn("Unable to share flag snapshot through {}: {}", snapshotFile, e.getMessage());
+        }
+    }
+
+    /**
+     * Locks the {@code .lock} file without waiting. The operating system drops the lock when the holding process
+     * exits, so a crashed refresher never blocks the others.
+     */
+    @Override
+    public Optional<RefreshLease> tryAcquireRefresh() {
+        FileChannel channel = null;
+        try {
+            Files.createDirectories(lockFile.getParent());
+            channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock lock = channel.tryLock();
+            if (lock == null) {
+                channel.close();
+                return Optional.empty();
+            }
+            FileChannel locked = channel;
+            return Optional.of(() -> {
+                try {
+                    lock.release();
+                    locked.close();
+                } catch (IOException e) {
+                    log.debug("Unable to release {}: {}", lockFile, e.getMessage());
+                }
+            });
+        } catch (OverlappingFileLockException e) {
+            closeQuietly(channel);
+            return Optional.empty();
+        } catch (IOException e) {
+            closeQuietly(channel);
+            log.warn("Unable to lock {}, refreshing without it: {}", lockFile, e.getMessage());
+            return Optional.of(() -> {});
+        }
+    }
+
+    private void closeQuietly(FileChannel channel) {
+        if (channel == null) return;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("Unable to close {}: {}", lockFile, e.getMessage());
+        }
+    }
+
+    record SharedFile(long version, long loadedAt, long refreshedAt, List<Flag> flags) {}
+
+    /**
+     * Tells a replaced file apart from the one read last; the file key (the inode on Unix) changes on every atomic
+     * replacement, the modification time and size cover file systems without one.
+     */
+    private record FileIdentity(Object fileKey, long lastModified, long size) {}
+
+    private record LastRead(FileIdentity identity, SharedSnapshot snapshot) {}
+}
@@ -0,0 +1,70 @@
+package br.com.featureflagsdkjava.infra.adapters.file;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.Optional;
+
+/**
+ * File handling shared by the snapshot files: writes go to a temporary file in the same directory that is then
+ * atomically moved over the previous one, so readers never see a partial file; reads map the file into memory and
+ * parse it straight from there.
+ */
+@Slf4j
+final class SnapshotFiles {
+
+    private SnapshotFiles() {}
+
+    static void writeAtomically(Path file, byte[] content) throws IOException {
+        Path directory = file.getParent();
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(content);
+                while (buffer.hasRemaining()) channel.write(buffer);
+                channel.force(true);
+            }
+            moveIntoPlace(tempFile, file);
+        } catch (IOException e) {
+            deleteQuietly(tempFile);
+            throw e;
+        }
+    }
+
+    /**
+     * @return empty when the file does not exist or is empty
+     */
+    static <T> Optional<T> readMapped(Path file, ObjectMapper mapper, Class<T> type) throws IOException {
+        if (!Files.isRegularFile(file)) return Optional.empty();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() == 0) return Optional.empty();
+
+            MappedByteBuffer content = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return Optional.of(mapper.readValue(new ByteBufferBackedInputStream(content), type));
+        }
+    }
+
+    private static void moveIntoPlace(Path tempFile, Path file) throws IOException {
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("Unable to delete {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.featureflagsdkjava.infra.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * No longer needed: the SDK modules are wired by Spring Boot auto-configuration as soon as they are on the
+ * classpath. Kept so existing applications keep compiling.
+ *
+ * @deprecated remove the annotation; add {@code feature-flag-sdk-http} (or another adapter module) instead.
+ */
+@Deprecated(since = "2.1.0")
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface EnableFeatureFlag {}
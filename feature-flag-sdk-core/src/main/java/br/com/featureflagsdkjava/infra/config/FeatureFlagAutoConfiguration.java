@@ -0,0 +1,38 @@
+package br.com.featureflagsdkjava.infra.config;
+
+import br.com.featureflagsdkjava.domain.application.openfeature.OpenFeatureConfig;
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.customprovider.OpenFeatureCustomProvider;
+import br.com.featureflagsdkjava.infra.adapters.cache.CachingFeatureFlagQueryAdapter;
+import br.com.featureflagsdkjava.infra.adapters.file.FileFlagSnapshotStoreAdapter;
+import br.com.featureflagsdkjava.infra.adapters.file.FileImpressionSinkAdapter;
+import br.com.featureflagsdkjava.infra.adapters.file.FileSharedFlagSnapshotAdapter;
+import dev.openfeature.sdk.FeatureProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Wires flag evaluation on top of whichever flag source an adapter module registered. Runs after the adapter
+ * auto-configurations so the flag cache and the provider can see the source they decorate, and after the actuator
+ * metrics auto-configuration so evaluation metrics can see the {@code MeterRegistry}.
+ */
+@AutoConfiguration(afterName = {
+        "br.com.featureflagsdkjava.infra.adapters.http.FeatureFlagHttpAutoConfiguration",
+        "br.com.featureflagsdkjava.infra.adapters.jdbc.FeatureFlagJdbcAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration"
+})
+@ConditionalOnClass(FeatureProvider.class)
+@Import({
+        JsonLogicConfig.class,
+        FileFlagSnapshotStoreAdapter.class,
+        FileSharedFlagSnapshotAdapter.class,
+        CachingFeatureFlagQueryAdapter.class,
+        OpenFeatureCustomProvider.class,
+        ReactiveEvaluationConfig.class,
+        FileImpressionSinkAdapter.class,
+        ImpressionConfig.class,
+        FeatureFlagMetricsConfig.class,
+        FeatureFlagReadinessConfig.class,
+        OpenFeatureConfig.class
+})
+public class FeatureFlagAutoConfiguration {}
@@ -0,0 +1,55 @@
+package br.com.featureflagsdkjava.infra.config;
+
+import br.com.featureflagsdkjava.domain.application.impressions.ImpressionMetrics;
+import br.com.featureflagsdkjava.domain.application.impressions.ImpressionPipeline;
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.MetricsHook;
+import br.com.featureflagsdkjava.domain.application.targeting.TargetingEngine;
+import br.com.featureflagsdkjava.domain.application.targeting.TargetingResultCacheMetrics;
+import br.com.featureflagsdkjava.infra.adapters.cache.CachingFeatureFlagQueryAdapter;
+import br.com.featureflagsdkjava.infra.adapters.cache.FlagCacheMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Micrometer meters for flag evaluations, the targeting result cache, the flag cache and the impression pipeline,
+ * registered when Micrometer is on the classpath. The cache meters are a
+ * {@link io.micrometer.core.instrument.binder.MeterBinder}, which Spring Boot binds to every registry it manages.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnProperty(name = "feature.flag.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class FeatureFlagMetricsConfig {
+
+    @Bean
+    @ConditionalOnBean(MeterRegistry.class)
+    @ConditionalOnMissingBean
+    public MetricsHook flagMetricsHook(MeterRegistry meterRegistry) {
+        return new MetricsHook(meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnBean(TargetingEngine.class)
+    @ConditionalOnMissingBean
+    public TargetingResultCacheMetrics targetingResultCacheMetrics(TargetingEngine targetingEngine) {
+        return new TargetingResultCacheMetrics(targetingEngine);
+    }
+
+    @Bean
+    @ConditionalOnBean(CachingFeatureFlagQueryAdapter.class)
+    @ConditionalOnMissingBean
+    public FlagCacheMetrics flagCacheMetrics(CachingFeatureFlagQueryAdapter cachingFeatureFlagQuery) {
+        return new FlagCacheMetrics(cachingFeatureFlagQuery);
+    }
+
+    @Bean
+    @ConditionalOnBean(ImpressionPipeline.class)
+    @ConditionalOnMissingBean
+    public ImpressionMetrics impressionMetrics(ImpressionPipeline impressionPipeline) {
+        return new ImpressionMetrics(impressionPipeline);
+    }
+}
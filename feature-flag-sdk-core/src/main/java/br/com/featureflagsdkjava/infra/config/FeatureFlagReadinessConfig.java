@@ -0,0 +1,26 @@
+package br.com.featureflagsdkjava.infra.config;
+
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.customprovider.OpenFeatureCustomProvider;
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.customprovider.ProviderReadinessPublisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Ties the application readiness state to the provider warm-up.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "feature.flag.provider.readiness.enabled", havingValue = "true", matchIfMissing = true)
+public class FeatureFlagReadinessConfig {
+
+    @Bean
+    @ConditionalOnBean(OpenFeatureCustomProvider.class)
+    @ConditionalOnMissingBean
+    public ProviderReadinessPublisher providerReadinessPublisher(ApplicationEventPublisher publisher,
+                                                                 OpenFeatureCustomProvider provider) {
+        return new ProviderReadinessPublisher(publisher, provider);
+    }
+}
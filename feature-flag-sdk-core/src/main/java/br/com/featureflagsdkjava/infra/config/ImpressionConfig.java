@@ -0,0 +1,42 @@
+package br.com.featureflagsdkjava.infra.config;
+
+import br.com.featureflagsdkjava.domain.application.impressions.ImpressionPipeline;
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.ImpressionHook;
+import br.com.featureflagsdkjava.domain.ports.ImpressionSinkPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Records impressions from the {@code after} hook stage when {@code feature.flag.impressions.enabled=true} and an
+ * {@link ImpressionSinkPort} is registered, either by {@code feature.flag.impressions.sink} or by the application.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "feature.flag.impressions.enabled", havingValue = "true")
+public class ImpressionConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnBean(ImpressionSinkPort.class)
+    @ConditionalOnMissingBean
+    public ImpressionPipeline impressionPipeline(
+            ImpressionSinkPort sink,
+            @Value("${feature.flag.impressions.buffer-size:8192}") int bufferSize,
+            @Value("${feature.flag.impressions.batch-size:500}") int batchSize,
+            @Value("${feature.flag.impressions.flush-interval:1s}") Duration flushInterval,
+            @Value("${feature.flag.impressions.dedupe.window:1m}") Duration dedupeWindow,
+            @Value("${feature.flag.impressions.dedupe.max-size:16384}") int dedupeSize) {
+        return new ImpressionPipeline(sink, bufferSize, batchSize, dedupeWindow, dedupeSize, flushInterval);
+    }
+
+    @Bean
+    @ConditionalOnBean(ImpressionPipeline.class)
+    @ConditionalOnMissingBean
+    public ImpressionHook impressionHook(ImpressionPipeline impressionPipeline) {
+        return new ImpressionHook(impressionPipeline);
+    }
+}
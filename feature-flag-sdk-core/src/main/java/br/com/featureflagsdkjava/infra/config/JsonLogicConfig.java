@@ -0,0 +1,30 @@
+package br.com.featureflagsdkjava.infra.config;
+
+import br.com.featureflagsdkjava.domain.application.targeting.TargetingEngine;
+import io.github.jamsesso.jsonlogic.JsonLogic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JsonLogicConfig {
+
+    @Value("${feature.flag.evaluation-cache.enabled:true}")
+    private boolean evaluationCacheEnabled = true;
+
+    @Value("${feature.flag.evaluation-cache.max-size:10000}")
+    private int evaluationCacheMaxSize = 10_000;
+
+    @Bean
+    @ConditionalOnMissingBean
+    public JsonLogic buildJsonLogicBean() {
+        return new JsonLogic();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public TargetingEngine buildTargetingEngineBean(JsonLogic jsonLogic) {
+        return new TargetingEngine(jsonLogic, evaluationCacheEnabled ? evaluationCacheMaxSize : 0);
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.featureflagsdkjava.infra.config;
+
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.customprovider.OpenFeatureCustomProvider;
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.customprovider.ReactiveFeatureFlagEvaluator;
+import br.com.featureflagsdkjava.domain.ports.ReactiveFeatureFlagQueryPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking evaluation, registered when Reactor is on the classpath and an adapter module provides a
+ * {@link ReactiveFeatureFlagQueryPort}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(Mono.class)
+public class ReactiveEvaluationConfig {
+
+    @Bean
+    @ConditionalOnBean({OpenFeatureCustomProvider.class, ReactiveFeatureFlagQueryPort.class})
+    @ConditionalOnMissingBean
+    public ReactiveFeatureFlagEvaluator reactiveFeatureFlagEvaluator(OpenFeatureCustomProvider provider,
+                                                                     ReactiveFeatureFlagQueryPort reactiveFeatureFlagQueryPort) {
+        return new ReactiveFeatureFlagEvaluator(provider, reactiveFeatureFlagQueryPort);
+    }
+}
@@ -0,0 +1,147 @@
+package br.com.featureflagsdkjava.domain.application.impressions;
+
+import br.com.featureflagsdkjava.domain.model.Impression;
+import br.com.featureflagsdkjava.domain.ports.ImpressionSinkPort;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImpressionPipelineTest {
+
+    private final List<List<Impression>> batches = new CopyOnWriteArrayList<>();
+    private final ImpressionSinkPort sink = batches::add;
+
+    @Test
+    void flush_shouldSendRecordedImpressionsInBatches() {
+        ImpressionPipeline pipeline = new ImpressionPipeline(sink, 64, 2, Duration.ZERO, 16, Duration.ofHours(1));
+
+        pipeline.record("flagA", "user-1", "on", "TARGETING_MATCH");
+        pipeline.record("flagA", "user-2", "off", "TARGETING_MATCH");
+        pipeline.record("flagB", null, "on", "STATIC");
+
+        assertEquals(3, pipeline.flush());
+        assertEquals(List.of(2, 1), batches.stream().map(List::size).toList());
+        Impression first = batches.get(0).get(0);
+        assertEquals("flagA", first.flagKey());
+        assertEquals("user-1", first.targetingKey());
+        assertEquals("on", first.variant());
+        assertEquals("TARGETING_MATCH", first.reason());
+        assertTrue(first.timestamp() > 0);
+        assertEquals(3, pipeline.sent());
+        assertEquals(0, pipeline.pending());
+        assertEquals(0, pipeline.flush());
+    }
+
+    @Test
+    void record_shouldDedupeRepeatedTuples_withinTheWindow() {
+        ImpressionPipeline pipeline = new ImpressionPipeline(sink, 64, 100, Duration.ofHours(1), 16, Duration.ofHours(1));
+
+        assertTrue(pipeline.record("flagA", "user-1", "on", "TARGETING_MATCH"));
+        assertFalse(pipeline.record("flagA", "user-1", "on", "TARGETING_MATCH"));
+        assertTrue(pipeline.record("flagA", "user-1", "off", "TARGETING_MATCH"));
+        assertTrue(pipeline.record("flagA", "user-2", "on", "TARGETING_MATCH"));
+        pipeline.flush();
+
+        assertEquals(3, batches.get(0).size());
+        assertEquals(3, pipeline.recorded());
+        assertEquals(1, pipeline.deduplicated());
+    }
+
+    @Test
+    void record_shouldRecordAgain_onceTheWindowHasPassed() throws InterruptedException {
+        ImpressionPipeline pipeline = new ImpressionPipeline(sink, 64, 100, Duration.ofMillis(20), 16, Duration.ofHours(1));
+
+        assertTrue(pipeline.record("flagA", "user-1", "on", "STATIC"));
+        Thread.sleep(40);
+
+        assertTrue(pipeline.record("flagA", "user-1", "on", "STATIC"));
+    }
+
+    @Test
+    void record_shouldDropAndCount_whenTheBufferIsFull() {
+        ImpressionPipeline pipeline = new ImpressionPipeline(sink, 4, 100, Duration.ofHours(1), 16, Duration.ofHours(1));
+
+        for (int i = 0; i < 6; i++) pipeline.record("flagA", "user-" + i, "on", "STATIC");
+
+        assertEquals(4, pipeline.capacity());
+        assertEquals(4, pipeline.recorded());
+        assertEquals(2, pipeline.dropped());
+        assertEquals(4, pipeline.pending());
+
+        // a dropped impression is not remembered as seen, so it can be recorded once there is room
+        pipeline.flush();
+        assertTrue(pipeline.record("flagA", "user-4", "on", "STATIC"));
+    }
+
+    @Test
+    void flush_shouldCountAndSkipBatches_theSinkRejects() {
+        List<Impression> accepted = new ArrayList<>();
+        ImpressionPipeline pipeline = new ImpressionPipeline(impressions -> {
+            if (impressions.get(0).flagKey().equals("broken")) throw new IllegalStateException("sink unavailable");
+            accepted.addAll(impressions);
+        }, 64, 1, Duration.ZERO, 16, Duration.ofHours(1));
+
+        pipeline.record("broken", "user-1", "on", "STATIC");
+        pipeline.record("flagA", "user-1", "on", "STATIC");
+
+        assertEquals(1, pipeline.flush());
+        assertEquals(1, pipeline.failed());
+        assertEquals(1, pipeline.sent());
+        assertEquals("flagA", accepted.get(0).flagKey());
+    }
+
+    @Test
+    void record_shouldAccountForEveryImpression_underConcurrentProducers() throws InterruptedException {
+        ImpressionPipeline pipeline = new ImpressionPipeline(sink, 1024, 128, Duration.ZERO, 16, Duration.ofMillis(1));
+        pipeline.start();
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int t = 0; t < threads; t++) {
+                String targetingKey = "user-" + t;
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) pipeline.record("flagA", targetingKey, "v" + i, "STATIC");
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        } finally {
+            pipeline.close();
+        }
+
+        long delivered = batches.stream().mapToLong(List::size).sum();
+        assertEquals((long) threads * perThread, pipeline.recorded() + pipeline.dropped());
+        assertEquals(pipeline.recorded(), delivered);
+        assertEquals(delivered, pipeline.sent());
+    }
+
+    @Test
+    void start_shouldFlushInTheBackground() throws InterruptedException {
+        ImpressionPipeline pipeline = new ImpressionPipeline(sink, 64, 100, Duration.ZERO, 16, Duration.ofMillis(10));
+        pipeline.start();
+        try {
+            pipeline.record("flagA", "user-1", "on", "STATIC");
+
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (batches.isEmpty() && System.currentTimeMillis() < deadline) Thread.sleep(5);
+
+            assertEquals(1, batches.size());
+        } finally {
+            pipeline.close();
+        }
+    }
+}
@@ -2,9 +2,6 @@ package br.com.featureflagsdkjava.domain.application.openfeature;
 
 import br.com.featureflagsdkjava.domain.application.openfeature.providers.HookFactory;
 import br.com.featureflagsdkjava.domain.application.openfeature.providers.customprovider.OpenFeatureCustomProvider;
-import ch.qos.logback.classic.Logger;
-import ch.qos.logback.classic.spi.ILoggingEvent;
-import ch.qos.logback.core.read.ListAppender;
 import dev.openfeature.sdk.Client;
 import dev.openfeature.sdk.exceptions.OpenFeatureError;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,8 +9,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.slf4j.LoggerFactory;
 
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,17 +29,10 @@ class OpenFeatureConfigTest {
     }
 
     @Test
-    void buildOpenFeatureClientBean_shouldSetProviderAndRegisterHookAndReturnClient_whenNoExceptionOccurs() throws OpenFeatureError {
-        Client client = openFeatureConfig.buildOpenFeatureClientBean(openFeatureCustomProvider);
-        assertNotNull(client);
-
-        Logger logger = (Logger) LoggerFactory.getLogger(HookFactory.class);
-
-        ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
-        listAppender.start();
-        logger.addAppender(listAppender);
-
-
+    void buildOpenFeatureClient_shouldSetProviderAndRegisterHooksAndReturnClient_whenNoExceptionOccurs() throws OpenFeatureError {
+        Client client = openFeatureConfig.buildOpenFeatureClient(openFeatureCustomProvider, List.of(HookFactory.createHook()));
 
+        assertNotNull(client);
+        assertEquals(1, client.getHooks().size());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,64 @@
+package br.com.featureflagsdkjava.domain.application.openfeature.providers;
+
+import br.com.featureflagsdkjava.domain.application.impressions.ImpressionPipeline;
+import br.com.featureflagsdkjava.domain.application.openfeature.OpenFeatureConfig;
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.customprovider.OpenFeatureCustomProvider;
+import br.com.featureflagsdkjava.domain.application.targeting.TargetingEngine;
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.Impression;
+import br.com.featureflagsdkjava.domain.ports.FeatureFlagQueryPort;
+import dev.openfeature.sdk.Client;
+import dev.openfeature.sdk.ImmutableContext;
+import dev.openfeature.sdk.Reason;
+import io.github.jamsesso.jsonlogic.JsonLogic;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImpressionHookTest {
+
+    @Mock
+    private FeatureFlagQueryPort featureFlagQueryPort;
+
+    @Test
+    void shouldRecordResolvedVariantPerTargetingKey_andSkipFailures() {
+        // Arrange
+        List<Impression> impressions = new ArrayList<>();
+        ImpressionPipeline pipeline = new ImpressionPipeline(impressions::addAll, 64, 100, Duration.ofHours(1), 16, Duration.ofHours(1));
+        OpenFeatureCustomProvider provider =
+                new OpenFeatureCustomProvider(featureFlagQueryPort, new TargetingEngine(new JsonLogic()));
+        Client client = new OpenFeatureConfig().buildOpenFeatureClient(provider, List.of(new ImpressionHook(pipeline)));
+        Flag flag = Flag.builder()
+                        .name("testFlag")
+                        .type(Flag.Type.BOOLEAN)
+                        .state(Flag.State.ENABLED)
+                        .defaultVariant("off")
+                        .variants(Map.of("on", true, "off", false))
+                        .build();
+        when(featureFlagQueryPort.findByFlagName("testFlag")).thenReturn(Optional.of(flag));
+        when(featureFlagQueryPort.findByFlagName("missingFlag")).thenReturn(Optional.empty());
+
+        // Act
+        client.getBooleanValue("testFlag", true, new ImmutableContext("user-1"));
+        client.getBooleanValue("testFlag", true, new ImmutableContext("user-1"));
+        client.getBooleanValue("missingFlag", true, new ImmutableContext("user-1"));
+        pipeline.flush();
+
+        // Assert
+        assertEquals(1, impressions.size());
+        assertEquals(new Impression("testFlag", "user-1", "off", Reason.DEFAULT.name(), impressions.get(0).timestamp()),
+                impressions.get(0));
+        assertEquals(1, pipeline.deduplicated());
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.featureflagsdkjava.domain.application.openfeature.providers;
+
+import br.com.featureflagsdkjava.domain.application.openfeature.OpenFeatureConfig;
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.customprovider.OpenFeatureCustomProvider;
+import br.com.featureflagsdkjava.domain.application.targeting.TargetingEngine;
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagSnapshot;
+import br.com.featureflagsdkjava.domain.ports.FeatureFlagQueryPort;
+import dev.openfeature.sdk.Client;
+import dev.openfeature.sdk.ErrorCode;
+import dev.openfeature.sdk.ImmutableContext;
+import dev.openfeature.sdk.Reason;
+import io.github.jamsesso.jsonlogic.JsonLogic;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MetricsHookTest {
+
+    @Mock
+    private FeatureFlagQueryPort featureFlagQueryPort;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private OpenFeatureCustomProvider provider;
+    private Client client;
+
+    @BeforeEach
+    void setUp() {
+        MetricsHook metricsHook = new MetricsHook(registry);
+        provider = new OpenFeatureCustomProvider(featureFlagQueryPort, new TargetingEngine(new JsonLogic()));
+        provider.setMetricsHook(metricsHook);
+        client = new OpenFeatureConfig().buildOpenFeatureClient(provider, List.of(metricsHook));
+    }
+
+    @Test
+    void shouldTimeEvaluationsByFlagReasonAndVariant() {
+        // Arrange
+        Flag flag = Flag.builder()
+                        .name("testFlag")
+                        .type(Flag.Type.BOOLEAN)
+                        .state(Flag.State.ENABLED)
+                        .defaultVariant("off")
+                        .variants(Map.of("on", true, "off", false))
+                        .build();
+        when(featureFlagQueryPort.findByFlagName("testFlag")).thenReturn(Optional.of(flag));
+
+        // Act
+        client.getBooleanValue("testFlag", true);
+        client.getBooleanValue("testFlag", true);
+
+        // Assert
+        Timer timer = registry.get(MetricsHook.EVALUATIONS)
+                              .tag("flag", "testFlag")
+                              .tag("reason", Reason.DEFAULT.name())
+                              .tag("variant", "off")
+                              .tag("error", MetricsHook.NONE)
+                              .timer();
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    void shouldTagFailedEvaluationsWithErrorCode() {
+        // Arrange
+        when(featureFlagQueryPort.findByFlagName("missingFlag")).thenReturn(Optional.empty());
+
+        // Act
+        client.getBooleanValue("missingFlag", true);
+
+        // Assert
+        Timer timer = registry.get(MetricsHook.EVALUATIONS)
+                              .tag("flag", "missingFlag")
+                              .tag("reason", Reason.ERROR.name())
+                              .tag("error", ErrorCode.FLAG_NOT_FOUND.name())
+                              .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void shouldRecordBatchEvaluationsAndTheirFlags() {
+        // Arrange
+        Flag flag = Flag.builder()
+                        .name("testFlag")
+                        .type(Flag.Type.BOOLEAN)
+                        .state(Flag.State.ENABLED)
+                        .defaultVariant("off")
+                        .variants(Map.of("on", true, "off", false))
+                        .build();
+        when(featureFlagQueryPort.currentSnapshot()).thenReturn(Optional.of(FlagSnapshot.of(1L, List.of(flag))));
+
+        // Act
+        provider.evaluateAll(List.of("testFlag", "missingFlag"), new ImmutableContext("user"));
+
+        // Assert
+        assertEquals(1, registry.get(MetricsHook.BATCH_EVALUATIONS).timer().count());
+        assertEquals(1, registry.get(MetricsHook.BATCH_FLAGS).tag("result", "success").counter().count());
+        assertEquals(1, registry.get(MetricsHook.BATCH_FLAGS).tag("result", "failure").counter().count());
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.featureflagsdkjava.domain.application.openfeature.providers.customprovider;
+
+import br.com.featureflagsdkjava.domain.application.targeting.TargetingEngine;
+import br.com.featureflagsdkjava.domain.ports.FeatureFlagQueryPort;
+import io.github.jamsesso.jsonlogic.JsonLogic;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(MockitoExtension.class)
+class ProviderReadinessPublisherTest {
+
+    @Mock
+    private FeatureFlagQueryPort featureFlagQueryPort;
+
+    private final ApplicationAvailabilityBean availability = new ApplicationAvailabilityBean();
+    private OpenFeatureCustomProvider provider;
+    private ProviderReadinessPublisher readinessPublisher;
+
+    @BeforeEach
+    void setUp() {
+        provider = new OpenFeatureCustomProvider(featureFlagQueryPort, new TargetingEngine(new JsonLogic()));
+        readinessPublisher = new ProviderReadinessPublisher(this::dispatch, provider);
+    }
+
+    @Test
+    void shouldRefuseTraffic_untilTheProviderIsWarm() {
+        // Arrange
+        provider.readiness().set(ProviderReadiness.Status.WARMING);
+
+        // Act
+        applicationReady();
+
+        // Assert
+        assertEquals(ReadinessState.REFUSING_TRAFFIC, availability.getReadinessState());
+        provider.readiness().set(ProviderReadiness.Status.READY);
+        assertEquals(ReadinessState.ACCEPTING_TRAFFIC, availability.getReadinessState());
+    }
+
+    @Test
+    void shouldLeaveReadinessAlone_whenTheProviderIsAlreadyWarm() {
+        // Arrange
+        provider.readiness().set(ProviderReadiness.Status.READY);
+
+        // Act
+        applicationReady();
+
+        // Assert
+        assertEquals(ReadinessState.ACCEPTING_TRAFFIC, availability.getReadinessState());
+    }
+
+    @Test
+    void shouldNotAcceptTraffic_whenTheApplicationRefusedItWhileWarming() {
+        // Arrange
+        applicationReady();
+
+        // Act
+        dispatch(new AvailabilityChangeEvent<>(this, ReadinessState.REFUSING_TRAFFIC));
+        provider.readiness().set(ProviderReadiness.Status.READY);
+
+        // Assert
+        assertEquals(ReadinessState.REFUSING_TRAFFIC, availability.getReadinessState());
+    }
+
+    private void applicationReady() {
+        dispatch(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+    }
+
+    /**
+     * Delivers events the way the application context would, to the availability bean and then the publisher.
+     */
+    @SuppressWarnings("unchecked")
+    private void dispatch(Object event) {
+        AvailabilityChangeEvent<ReadinessState> change = (AvailabilityChangeEvent<ReadinessState>) event;
+        availability.onApplicationEvent(change);
+        readinessPublisher.onApplicationEvent(change);
+    }
+}
@@ -0,0 +1,157 @@
+package br.com.featureflagsdkjava.domain.application.openfeature.providers.customprovider;
+
+import br.com.featureflagsdkjava.domain.application.targeting.CompiledFlagIndex;
+import br.com.featureflagsdkjava.domain.application.targeting.TargetingEngine;
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagSnapshot;
+import br.com.featureflagsdkjava.domain.ports.FeatureFlagQueryPort;
+import dev.openfeature.sdk.ImmutableContext;
+import dev.openfeature.sdk.ProviderEvent;
+import dev.openfeature.sdk.ProviderEventDetails;
+import io.github.jamsesso.jsonlogic.JsonLogic;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProviderReadinessTest {
+
+    @Mock
+    private FeatureFlagQueryPort featureFlagQueryPort;
+
+    private final TargetingEngine targetingEngine = new TargetingEngine(new JsonLogic());
+    private final List<ProviderEvent> events = new CopyOnWriteArrayList<>();
+    private OpenFeatureCustomProvider provider;
+
+    @AfterEach
+    void tearDown() {
+        if (provider != null) provider.shutdown();
+    }
+
+    @Test
+    void initialize_shouldCompileAndExerciseEveryFlag_withinTheBudget() {
+        // Arrange
+        List<Flag> flags = flags(50);
+        when(featureFlagQueryPort.currentSnapshot()).thenReturn(Optional.of(FlagSnapshot.of(1L, flags)));
+        provider = provider(Duration.ofSeconds(30), 5);
+        CompiledFlagIndex before = targetingEngine.index();
+        assertFalse(provider.readiness().isReady());
+
+        // Act
+        provider.initialize(new ImmutableContext());
+
+        // Assert
+        ProviderReadiness readiness = provider.readiness();
+        assertEquals(ProviderReadiness.Status.READY, readiness.status());
+        assertEquals(new ProviderReadiness.WarmUp(50, 250, readiness.warmUp().elapsed(), true), readiness.warmUp());
+        assertSame(before, targetingEngine.index());
+        for (Flag flag : flags) assertSame(targetingEngine.compiled(flag), targetingEngine.compiled(flag));
+        verify(featureFlagQueryPort, never()).findByFlagName(any());
+    }
+
+    @Test
+    void initialize_shouldReturnAfterTheBudget_andReportReadyOnceWarm_withoutAnotherEvent() throws InterruptedException {
+        // Arrange
+        when(featureFlagQueryPort.currentSnapshot()).thenReturn(Optional.of(FlagSnapshot.of(1L, flags(200))));
+        provider = provider(Duration.ofMillis(1), 500);
+
+        // Act
+        provider.initialize(new ImmutableContext());
+
+        // Assert
+        assertEquals(ProviderReadiness.Status.WARMING, provider.readiness().status());
+        assertFalse(provider.readiness().isReady());
+        assertFalse(provider.readiness().warmUp().complete());
+
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (!provider.readiness().isReady() && System.currentTimeMillis() < deadline) Thread.sleep(10);
+        assertEquals(ProviderReadiness.Status.READY, provider.readiness().status());
+        assertTrue(provider.readiness().warmUp().complete());
+        assertEquals(100_000, provider.readiness().warmUp().evaluations());
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void initialize_shouldBeReady_whenTheSourceCannotLoadFlags() {
+        // Arrange
+        when(featureFlagQueryPort.findAll()).thenThrow(new RuntimeException("Service unavailable"));
+        provider = provider(Duration.ofSeconds(5), 5);
+
+        // Act
+        provider.initialize(new ImmutableContext());
+
+        // Assert
+        assertEquals(ProviderReadiness.Status.READY, provider.readiness().status());
+        assertEquals(0, provider.readiness().warmUp().flags());
+    }
+
+    @Test
+    void checkStaleness_shouldEmitStale_andReadyAgain_whenTheSnapshotIsConfirmed() {
+        // Arrange
+        provider = provider(Duration.ofSeconds(5), 0);
+        ReflectionTestUtils.setField(provider, "warmUpEnabled", false);
+        ReflectionTestUtils.setField(provider, "staleAfter", Duration.ofMinutes(1));
+        provider.initialize(new ImmutableContext());
+        when(featureFlagQueryPort.lastSyncedAt()).thenReturn(Optional.of(Instant.now().minus(Duration.ofMinutes(2))));
+
+        // Act
+        provider.checkStaleness();
+        provider.checkStaleness();
+
+        // Assert
+        assertEquals(ProviderReadiness.Status.STALE, provider.readiness().status());
+        assertTrue(provider.readiness().isReady());
+        assertEquals(List.of(ProviderEvent.PROVIDER_STALE), events);
+
+        // Act
+        when(featureFlagQueryPort.lastSyncedAt()).thenReturn(Optional.of(Instant.now()));
+        provider.checkStaleness();
+
+        // Assert
+        assertEquals(ProviderReadiness.Status.READY, provider.readiness().status());
+        assertEquals(List.of(ProviderEvent.PROVIDER_STALE, ProviderEvent.PROVIDER_READY), events);
+    }
+
+    private OpenFeatureCustomProvider provider(Duration budget, int evaluationsPerFlag) {
+        OpenFeatureCustomProvider created = new OpenFeatureCustomProvider(featureFlagQueryPort, targetingEngine) {
+            @Override
+            public void emit(ProviderEvent event, ProviderEventDetails details) {
+                events.add(event);
+            }
+        };
+        ReflectionTestUtils.setField(created, "warmUpBudget", budget);
+        ReflectionTestUtils.setField(created, "warmUpEvaluationsPerFlag", evaluationsPerFlag);
+        ReflectionTestUtils.setField(created, "staleAfter", Duration.ZERO);
+        return created;
+    }
+
+    private static List<Flag> flags(int count) {
+        List<Flag> flags = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            flags.add(Flag.builder()
+                          .name("flag-" + i)
+                          .type(Flag.Type.STRING)
+                          .state(Flag.State.ENABLED)
+                          .defaultVariant("off")
+                          .variants(Map.of("on", "on", "off", "off"))
+                          .targeting("{\"fractional\": [[\"on\", 50], [\"off\", 50]]}")
+                          .build());
+        }
+        return flags;
+    }
+}
@@ -0,0 +1,114 @@
+package br.com.featureflagsdkjava.domain.application.targeting;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledFlagIndexTest {
+
+    @Test
+    void get_shouldFindEveryFlag_andMissUnknownNames() {
+        List<CompiledFlag> flags = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) flags.add(compiled("flag-" + i));
+
+        CompiledFlagIndex index = CompiledFlagIndex.of(flags);
+
+        assertEquals(1000, index.size());
+        for (CompiledFlag flag : flags) assertSame(flag, index.get(new String(flag.name())));
+        assertNull(index.get("flag-1000"));
+        assertNull(index.get(null));
+        assertNull(CompiledFlagIndex.EMPTY.get("flag-0"));
+    }
+
+    @Test
+    void get_shouldTellApartNamesWithTheSameHashCode() {
+        // "Aa" and "BB" share a hash code, so they land on the same slot
+        CompiledFlag first = compiled("Aa");
+        CompiledFlag second = compiled("BB");
+
+        CompiledFlagIndex index = CompiledFlagIndex.of(List.of(first, second));
+
+        assertSame(first, index.get("Aa"));
+        assertSame(second, index.get("BB"));
+        assertNull(index.get("AaBB"));
+    }
+
+    @Test
+    void of_shouldKeepTheLastFlag_whenNamesRepeat() {
+        CompiledFlag first = compiled("flag");
+        CompiledFlag second = compiled("flag");
+
+        CompiledFlagIndex index = CompiledFlagIndex.of(List.of(first, second));
+
+        assertEquals(1, index.size());
+        assertSame(second, index.get("flag"));
+        assertEquals(List.of(second), index.flags());
+    }
+
+    @Test
+    void with_shouldReturnANewIndex_andLeaveTheOriginalUntouched() {
+        CompiledFlag kept = compiled("kept");
+        CompiledFlag removed = compiled("removed");
+        CompiledFlag replaced = compiled("replaced");
+        CompiledFlagIndex original = CompiledFlagIndex.of(List.of(kept, removed, replaced));
+
+        CompiledFlag replacement = compiled("replaced");
+        CompiledFlag added = compiled("added");
+        CompiledFlagIndex changed = original.with(List.of(replacement, added), List.of("removed"));
+
+        assertEquals(3, changed.size());
+        assertSame(kept, changed.get("kept"));
+        assertSame(replacement, changed.get("replaced"));
+        assertSame(added, changed.get("added"));
+        assertNull(changed.get("removed"));
+
+        assertEquals(3, original.size());
+        assertSame(replaced, original.get("replaced"));
+        assertSame(removed, original.get("removed"));
+        assertNull(original.get("added"));
+    }
+
+    @Test
+    void prerequisitesOf_shouldListEveryPrerequisiteOnce_afterItsOwnPrerequisites() {
+        // top -> left, right; left -> base; right -> base, missing
+        CompiledFlag top = compiled("top", "left", "right");
+        CompiledFlag left = compiled("left", "base");
+        CompiledFlag right = compiled("right", "base", "missing");
+        CompiledFlag base = compiled("base");
+
+        CompiledFlagIndex index = CompiledFlagIndex.of(List.of(top, right, left, base));
+        List<CompiledFlag> plan = index.prerequisitesOf(top);
+
+        assertEquals(3, plan.size());
+        assertSame(base, plan.get(0));
+        assertTrue(plan.containsAll(List.of(left, right)));
+        assertSame(plan, index.prerequisitesOf(top));
+        assertEquals(List.of(base), index.prerequisitesOf(left));
+        assertEquals(List.of(), index.prerequisitesOf(base));
+        assertEquals(List.of(), index.cyclic());
+    }
+
+    @Test
+    void cyclic_shouldListFlagsOnACycle_andFlagsGatedOnOne() {
+        CompiledFlagIndex index = CompiledFlagIndex.of(List.of(
+                compiled("first", "second"), compiled("second", "first"), compiled("gated", "second"),
+                compiled("self", "self"), compiled("free", "base"), compiled("base")));
+
+        assertEquals(List.of("first", "gated", "second", "self"), index.cyclic().stream().sorted().toList());
+    }
+
+    private static CompiledFlag compiled(String name, String... prerequisites) {
+        Flag flag = Flag.builder().name(name).state(Flag.State.ENABLED).type(Flag.Type.BOOLEAN)
+                        .defaultVariant("on").variants(Map.of("on", true))
+                        .prerequisites(prerequisites.length == 0 ? null : Arrays.stream(prerequisites)
+                                .map(prerequisite -> new Flag.Prerequisite(prerequisite, null)).toList())
+                        .build();
+        return new CompiledFlag(flag, TargetingRule.NO_TARGETING, FlagVariants.of(flag));
+    }
+}
@@ -0,0 +1,100 @@
+package br.com.featureflagsdkjava.domain.application.targeting;
+
+import dev.openfeature.sdk.EvaluationContext;
+import dev.openfeature.sdk.ImmutableContext;
+import dev.openfeature.sdk.ImmutableStructure;
+import dev.openfeature.sdk.MutableStructure;
+import dev.openfeature.sdk.Structure;
+import dev.openfeature.sdk.Value;
+import io.github.jamsesso.jsonlogic.JsonLogic;
+import io.github.jamsesso.jsonlogic.JsonLogicException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ContextViewTest {
+
+    private final TargetingEngine targetingEngine = new TargetingEngine(new JsonLogic());
+
+    private final EvaluationContext context = new ImmutableContext("user-1", Map.of(
+            "locale", new Value("br"),
+            "age", new Value(30),
+            "score", new Value(7.5),
+            "admin", new Value(true),
+            "since", new Value(Instant.ofEpochSecond(1_700_000_000)),
+            "tags", new Value(List.of(new Value("beta"), new Value(3))),
+            "user", new Value(new ImmutableStructure(Map.of(
+                    "org", new Value(new ImmutableStructure(Map.of("id", new Value(10), "plan", new Value("pro")))),
+                    "devices", new Value(List.of(new Value(new ImmutableStructure(Map.of("os", new Value("ios")))))))))));
+
+    @Test
+    void shouldHoldWhatAsObjectMapHolds() {
+        Map<String, Object> view = ContextView.of(context);
+
+        assertEquals(context.asObjectMap(), view);
+        assertEquals(view, context.asObjectMap());
+        assertEquals(context.asObjectMap().hashCode(), view.hashCode());
+        assertEquals("user-1", view.get("targetingKey"));
+        assertNull(view.get("missing"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"==\": [{\"var\": \"user.org.id\"}, 10]}",
+            "{\"in\": [{\"var\": \"user.org.plan\"}, [\"pro\", \"enterprise\"]]}",
+            "{\"==\": [{\"var\": \"user.devices.0.os\"}, \"ios\"]}",
+            "{\"in\": [\"beta\", {\"var\": \"tags\"}]}",
+            "{\"and\": [{\"var\": \"admin\"}, {\">=\": [{\"var\": \"age\"}, 18]}]}",
+            "{\"if\": [{\"missing\": [\"locale\", \"country\"]}, \"incomplete\", \"complete\"]}",
+            "{\"some\": [{\"var\": \"user.devices\"}, {\"==\": [{\"var\": \"os\"}, \"ios\"]}]}",
+            "{\"fractional\": [[\"on\", 50], [\"off\", 50]]}",
+            "{\"cat\": [{\"var\": \"locale\"}, \"-\", {\"var\": \"score\"}]}"
+    })
+    void rulesShouldEvaluateLikeOnAsObjectMap(String targeting) throws JsonLogicException {
+        TargetingRule rule = targetingEngine.compile("testFlag", targeting);
+
+        assertEquals(rule.evaluate(context.asObjectMap()), rule.evaluate(ContextView.of(context)), targeting);
+    }
+
+    @Test
+    void shouldOnlyConvertWhatTheRuleReads() throws JsonLogicException {
+        Structure org = spy(new MutableStructure(Map.of("id", new Value(10))));
+        Structure untouched = spy(new MutableStructure(Map.of("payload", new Value("large"))));
+        Structure context = spy(new MutableStructure(Map.of(
+                "user", new Value(new MutableStructure(Map.of("org", new Value(org)))),
+                "device", new Value(untouched))));
+        TargetingRule rule = targetingEngine.compile("testFlag", "{\"==\": [{\"var\": \"user.org.id\"}, 10]}");
+
+        assertEquals(true, rule.evaluate(ContextView.of(context)));
+
+        verify(context, never()).asObjectMap();
+        verify(context, never()).getValue(anyString());
+        verify(org, never()).asObjectMap();
+        verifyNoInteractions(untouched);
+    }
+
+    @Test
+    void detach_shouldCopyViews_andKeepOtherValues() {
+        MutableStructure org = new MutableStructure(new HashMap<>(Map.of("id", new Value(10))));
+        Map<String, Object> view = ContextView.of(new MutableStructure(Map.of("org", new Value(org))));
+        Object[] values = {view.get("org"), "br", 7};
+
+        Object[] detached = ContextView.detach(values);
+        org.add("id", 11);
+
+        assertNotSame(values, detached);
+        assertEquals(Map.of("id", 10), detached[0]);
+        assertEquals(Map.of("id", 11), values[0]);
+        assertSame(values[1], detached[1]);
+        Object[] plain = {"br", 7};
+        assertSame(plain, ContextView.detach(plain));
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.featureflagsdkjava.domain.application.targeting;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class Murmur3Test {
+
+    @Test
+    void hash32_shouldMatchReferenceValues() {
+        assertEquals(0, Murmur3.hash32("", ""));
+        assertEquals(613153351, Murmur3.hash32("hello", ""));
+        assertEquals(776992547, Murmur3.hash32("The quick brown", " fox jumps over the lazy dog"));
+        assertEquals(-169060993, Murmur3.hash32("checkout-flow", "user-42"));
+    }
+
+    @Test
+    void hash32_shouldHashUtf8Bytes_ofBothStringsTogether() {
+        assertEquals(2012645220, Murmur3.hash32("flagé€\uD83D", "\uDE00user"));
+
+        String text = "ação-€-😀-\uD800-x";
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        for (int split = 0; split <= text.length(); split++) {
+            assertEquals(Murmur3.hash32(new String(bytes, StandardCharsets.UTF_8), ""),
+                    Murmur3.hash32(text.substring(0, split), text.substring(split)), "split at " + split);
+        }
+    }
+}
@@ -0,0 +1,412 @@
+package br.com.featureflagsdkjava.domain.application.targeting;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.openfeature.sdk.exceptions.ParseError;
+import io.github.jamsesso.jsonlogic.JsonLogic;
+import io.github.jamsesso.jsonlogic.JsonLogicException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TargetingEngineTest {
+
+    private final JsonLogic jsonLogic = new JsonLogic();
+    private final TargetingEngine targetingEngine = new TargetingEngine(jsonLogic);
+
+    private final List<Map<String, Object>> contexts = List.of(
+            Map.of(),
+            Map.of("locale", "br", "age", 17, "plan", "pro", "score", 7.5),
+            Map.of("locale", "ca", "age", 30, "plan", "free", "admin", true),
+            Map.of("locale", "us", "age", "42", "user", Map.of("org", Map.of("id", 10)), "tags", List.of("beta", 3)));
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"if\": [{\"in\": [{\"var\": \"locale\"}, [\"br\", \"ca\"]]}, \"true\"]}",
+            "{\"if\": [{\"in\": [\"posts/2\", {\"var\": \"URI\"}]}, \"CLOUD\"]}",
+            "{\"==\": [{\"var\": \"age\"}, 30]}",
+            "{\"==\": [{\"var\": \"age\"}, \"42\"]}",
+            "{\"!=\": [{\"var\": \"plan\"}, \"pro\"]}",
+            "{\"===\": [{\"var\": \"age\"}, 17]}",
+            "{\"!==\": [{\"var\": \"locale\"}, \"us\"]}",
+            "{\"and\": [{\">=\": [{\"var\": \"age\"}, 18]}, {\"==\": [{\"var\": \"plan\"}, \"free\"]}]}",
+            "{\"or\": [{\"var\": \"admin\"}, {\"<\": [{\"var\": \"score\"}, 5]}, \"fallback\"]}",
+            "{\"<\": [10, {\"var\": \"age\"}, 40]}",
+            "{\"<=\": [{\"var\": \"age\"}, \"42\"]}",
+            "{\">\": [{\"var\": \"user.org.id\"}, 5]}",
+            "{\"if\": [{\"var\": \"admin\"}, \"on\", {\"in\": [\"beta\", {\"var\": \"tags\"}]}, \"beta\", \"off\"]}",
+            "{\"in\": [{\"var\": \"locale\"}, \"brazil\"]}",
+            "{\"var\": [\"missing.path\", \"default\"]}",
+            "{\"var\": \"tags.1\"}",
+            "{\"!\": [{\"var\": \"admin\"}]}",
+            "{\"!!\": [{\"var\": \"plan\"}]}",
+            "{\"if\": [{\"==\": [{\"%\": [{\"var\": \"age\"}, 2]}, 0]}, \"even\", \"odd\"]}",
+            "{\"cat\": [\"plan-\", {\"var\": [\"plan\", \"none\"]}]}",
+            "{\"if\": [{\"missing\": [\"plan\"]}, \"anonymous\", \"known\"]}",
+            "[1, {\"var\": \"age\"}, \"x\"]",
+            "\"constant\""
+    })
+    void compile_shouldEvaluateLikeJsonLogic(String targeting) throws JsonLogicException {
+        TargetingRule rule = targetingEngine.compile("testFlag", targeting);
+
+        for (Map<String, Object> context : contexts) {
+            assertEquals(jsonLogic.apply(targeting, context), rule.evaluate(context), targeting + " with " + context);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"if\": [",
+            "{\"unknown\": [1, 2]}",
+            "{\"and\": []}",
+            "{\"==\": [1]}",
+            "{\">\": [1, 2, 3]}",
+            "{\"if\": [{\"var\": \"a\", \"other\": 1}, true]}",
+            "{\"map\": [{\"var\": \"tags\"}, {\"nope\": []}]}",
+            "{\"fractional\": []}",
+            "{\"fractional\": [{\"var\": \"userId\"}]}",
+            "{\"fractional\": [[\"on\", 0], [\"off\", 0]]}",
+            "{\"fractional\": [[\"on\", -1], [\"off\", 2]]}",
+            "{\"fractional\": [[\"on\", 0.5], [\"off\", 0.5]]}",
+            "{\"bucket\": [[\"on\", 50, 1]]}"
+    })
+    void compile_shouldRejectMalformedRules(String targeting) {
+        assertThrows(ParseError.class, () -> targetingEngine.compile("testFlag", targeting));
+    }
+
+    @Test
+    void compile_shouldReturnNoTargeting_whenRuleIsEmpty() throws JsonLogicException {
+        assertNull(targetingEngine.compile("testFlag", "{}").evaluate(Map.of()));
+        assertNull(targetingEngine.compile("testFlag", null).evaluate(Map.of()));
+    }
+
+    @Test
+    void compile_shouldAcceptCustomOperators_whenRegistered() throws JsonLogicException {
+        targetingEngine.addOperation("double", args -> ((Number) args[0]).doubleValue() * 2);
+
+        TargetingRule rule = targetingEngine.compile("testFlag", "{\"double\": [{\"var\": \"age\"}]}");
+
+        assertEquals(60.0, rule.evaluate(Map.of("age", 30)));
+    }
+
+    @Test
+    void load_shouldLeaveOutFlagsWithInvalidTargeting() {
+        Flag valid = Flag.builder().name("valid").targeting("{\"var\": \"plan\"}").build();
+        Flag invalid = Flag.builder().name("invalid").targeting("{\"var\": ").build();
+
+        List<Flag> loaded = targetingEngine.load(List.of(valid, invalid));
+
+        assertEquals(List.of(valid), loaded);
+    }
+
+    @Test
+    void load_shouldCompilePreParsedTargeting() throws Exception {
+        Flag flag = Flag.builder().name("testFlag").targeting("{\"var\": \"plan\"}").build();
+
+        targetingEngine.load(List.of(flag), Map.of("testFlag", new ObjectMapper().readTree("{\"var\": \"locale\"}")));
+
+        assertEquals("br", targetingEngine.ruleFor(flag).evaluate(Map.of("plan", "gold", "locale", "br")));
+    }
+
+    @Test
+    void apply_shouldCompilePreParsedTargeting() throws Exception {
+        Flag flag = Flag.builder().name("testFlag").targeting("{\"var\": \"plan\"}").build();
+
+        targetingEngine.apply(List.of(flag), List.of(), Map.of("testFlag", new ObjectMapper().readTree("{\"var\": \"locale\"}")));
+
+        assertEquals("br", targetingEngine.ruleFor(flag).evaluate(Map.of("plan", "gold", "locale", "br")));
+    }
+
+    @Test
+    void ruleFor_shouldReuseCompiledRule_untilTargetingChanges() {
+        Flag flag = Flag.builder().name("testFlag").targeting("{\"var\": \"plan\"}").build();
+        targetingEngine.load(List.of(flag));
+
+        TargetingRule loaded = targetingEngine.ruleFor(flag);
+        assertSame(loaded, targetingEngine.ruleFor(flag));
+        assertSame(loaded, targetingEngine.ruleFor(Flag.builder().name("testFlag").targeting("{\"var\": \"plan\"}").build()));
+        assertNotSame(loaded, targetingEngine.ruleFor(Flag.builder().name("testFlag").targeting("{\"var\": \"locale\"}").build()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"if\": [{\"in\": [{\"var\": \"locale\"}, [\"br\", \"ca\"]]}, \"true\"]}",
+            "{\"and\": [{\">=\": [{\"var\": \"age\"}, 18]}, {\"==\": [{\"var\": \"plan\"}, \"free\"]}]}",
+            "{\">\": [{\"var\": \"user.org.id\"}, 5]}",
+            "{\"==\": [{\"var\": [\"missing.path\", \"none\"]}, {\"var\": [\"plan\", \"none\"]}]}",
+            "{\"if\": [{\"missing\": [\"plan\"]}, \"anonymous\", \"known\"]}",
+            "{\"some\": [{\"var\": \"tags\"}, {\"==\": [{\"var\": \"\"}, \"beta\"]}]}"
+    })
+    void ruleFor_shouldEvaluateLikeJsonLogic_whenResultsAreCached(String targeting) throws JsonLogicException {
+        TargetingEngine cachingEngine = new TargetingEngine(jsonLogic, 100);
+        Flag flag = Flag.builder().name("testFlag").targeting(targeting).build();
+        cachingEngine.load(List.of(flag));
+        TargetingRule rule = cachingEngine.ruleFor(flag);
+
+        for (int pass = 0; pass < 2; pass++) {
+            for (Map<String, Object> context : contexts) {
+                assertEquals(jsonLogic.apply(targeting, context), rule.evaluate(context), targeting + " with " + context);
+            }
+        }
+    }
+
+    @Test
+    void ruleFor_shouldReuseResult_whenReferencedAttributesAreEqual() throws JsonLogicException {
+        TargetingEngine cachingEngine = new TargetingEngine(jsonLogic, 100);
+        Flag flag = Flag.builder().name("testFlag").targeting("{\"in\": [{\"var\": \"locale\"}, [\"br\", \"ca\"]]}").build();
+        cachingEngine.load(List.of(flag));
+        TargetingRule rule = cachingEngine.ruleFor(flag);
+        TargetingResultCache cache = cachingEngine.resultCache().orElseThrow();
+
+        rule.evaluate(Map.of("locale", "br", "userId", "1"));
+        rule.evaluate(Map.of("locale", "br", "userId", "2"));
+        rule.evaluate(Map.of("locale", "us", "userId", "3"));
+
+        assertEquals(1, cache.hitCount());
+        assertEquals(2, cache.missCount());
+    }
+
+    @Test
+    void ruleFor_shouldNotCache_whenRuleReadsUntrackedData() throws JsonLogicException {
+        TargetingEngine cachingEngine = new TargetingEngine(jsonLogic, 100);
+        Flag flag = Flag.builder().name("testFlag").targeting("{\"missing\": [\"plan\"]}").build();
+        cachingEngine.load(List.of(flag));
+
+        cachingEngine.ruleFor(flag).evaluate(Map.of("plan", "pro"));
+
+        assertEquals(0, cachingEngine.resultCache().orElseThrow().missCount());
+    }
+
+    @Test
+    void load_shouldDropCachedResults() throws JsonLogicException {
+        TargetingEngine cachingEngine = new TargetingEngine(jsonLogic, 100);
+        Flag flag = Flag.builder().name("testFlag").targeting("{\"var\": \"plan\"}").build();
+        cachingEngine.load(List.of(flag));
+        cachingEngine.ruleFor(flag).evaluate(Map.of("plan", "pro"));
+
+        flag.setTargeting("{\"==\": [{\"var\": \"plan\"}, \"pro\"]}");
+        cachingEngine.load(List.of(flag));
+
+        assertEquals(0, cachingEngine.resultCache().orElseThrow().size());
+        assertEquals(true, cachingEngine.ruleFor(flag).evaluate(Map.of("plan", "pro")));
+    }
+
+    @Test
+    void resultCache_shouldStayWithinMaxSize() throws JsonLogicException {
+        TargetingEngine cachingEngine = new TargetingEngine(jsonLogic, 16);
+        Flag flag = Flag.builder().name("testFlag").targeting("{\"var\": \"userId\"}").build();
+        cachingEngine.load(List.of(flag));
+        TargetingRule rule = cachingEngine.ruleFor(flag);
+
+        for (int i = 0; i < 1000; i++) rule.evaluate(Map.of("userId", i));
+
+        TargetingResultCache cache = cachingEngine.resultCache().orElseThrow();
+        assertTrue(cache.size() <= 16);
+        assertEquals(1000 - cache.size(), cache.evictionCount());
+    }
+
+    @Test
+    void variantsFor_shouldReuseConvertedVariants_ofTheLoadedFlag() {
+        Flag flag = Flag.builder().name("testFlag").type(Flag.Type.NUMBER).defaultVariant("one")
+                        .variants(Map.of("one", 1, "half", 0.5, "text", "2")).build();
+        targetingEngine.load(List.of(flag));
+
+        FlagVariants loaded = targetingEngine.variantsFor(flag);
+        assertSame(loaded, targetingEngine.variantsFor(flag));
+        assertEquals(List.of("text"), loaded.mismatches());
+        assertEquals(1, loaded.defaultEvaluation(FlagVariants.ValueType.INTEGER).getValue());
+        assertEquals(1.0, loaded.defaultEvaluation(FlagVariants.ValueType.DOUBLE).getValue());
+        assertNull(loaded.targetingEvaluation("half", FlagVariants.ValueType.INTEGER));
+        assertNull(loaded.targetingEvaluation("text", FlagVariants.ValueType.DOUBLE));
+    }
+
+    @Test
+    void compiled_shouldCompileACopyOfTheFlagReadAgain_keepingItsRule() {
+        Flag flag = Flag.builder().name("testFlag").type(Flag.Type.BOOLEAN).defaultVariant("off")
+                        .targeting("{\"var\": \"plan\"}").variants(Map.of("on", true, "off", false)).build();
+        targetingEngine.load(List.of(flag));
+        CompiledFlag loaded = targetingEngine.compiled(flag);
+
+        Flag copy = Flag.builder().name("testFlag").type(Flag.Type.BOOLEAN).defaultVariant("off")
+                        .targeting("{\"var\": \"plan\"}").variants(Map.of("on", false, "off", false)).build();
+        CompiledFlag compiledCopy = targetingEngine.compiled(copy);
+
+        assertNotSame(loaded, compiledCopy);
+        assertSame(loaded.rule(), compiledCopy.rule());
+        assertEquals(false, compiledCopy.variants().targetingEvaluation("on", FlagVariants.ValueType.BOOLEAN).getValue());
+        assertSame(compiledCopy, targetingEngine.compiled(copy));
+    }
+
+    @Test
+    void apply_shouldSwapTheIndex_andLeaveOutDeletedAndInvalidFlags() {
+        Flag kept = Flag.builder().name("kept").targeting("{\"var\": \"plan\"}").build();
+        Flag deleted = Flag.builder().name("deleted").build();
+        targetingEngine.load(List.of(kept, deleted));
+        CompiledFlagIndex before = targetingEngine.index();
+
+        Flag added = Flag.builder().name("added").build();
+        Flag invalid = Flag.builder().name("kept").targeting("{\"var\": ").build();
+        List<Flag> applied = targetingEngine.apply(List.of(added, invalid), List.of("deleted"));
+
+        assertEquals(List.of(added), applied);
+        CompiledFlagIndex after = targetingEngine.index();
+        assertNotSame(before, after);
+        assertEquals(1, after.size());
+        assertNotNull(after.get("added"));
+        assertNull(after.get("kept"));
+        assertNull(after.get("deleted"));
+        assertEquals(2, before.size());
+        assertNotNull(before.get("deleted"));
+    }
+
+    @Test
+    void load_shouldLeaveOutFlagsOnAPrerequisiteCycle_andFlagsGatedOnThem() {
+        Flag first = Flag.builder().name("first").prerequisites(List.of(new Flag.Prerequisite("second", null))).build();
+        Flag second = Flag.builder().name("second").prerequisites(List.of(new Flag.Prerequisite("first", null))).build();
+        Flag gated = Flag.builder().name("gated").prerequisites(List.of(new Flag.Prerequisite("first", List.of("on")))).build();
+        Flag base = Flag.builder().name("base").build();
+        Flag valid = Flag.builder().name("valid").prerequisites(List.of(new Flag.Prerequisite("base", null))).build();
+
+        List<Flag> loaded = targetingEngine.load(List.of(first, second, gated, base, valid));
+
+        assertEquals(List.of(base, valid), loaded);
+        assertEquals(2, targetingEngine.index().size());
+        assertNull(targetingEngine.index().get("first"));
+
+        Flag cycle = Flag.builder().name("base").prerequisites(List.of(new Flag.Prerequisite("valid", null))).build();
+        assertEquals(List.of(), targetingEngine.apply(List.of(cycle), List.of()));
+        assertEquals(0, targetingEngine.index().size());
+    }
+
+    @Test
+    void compiled_shouldKeepItsPrerequisites_whenTheFlagsListChangesInPlace() {
+        List<Flag.Prerequisite> prerequisites = new ArrayList<>(List.of(new Flag.Prerequisite("base", new ArrayList<>(List.of("on")))));
+        Flag flag = Flag.builder().name("gated").prerequisites(prerequisites).build();
+        targetingEngine.load(List.of(Flag.builder().name("base").build(), flag));
+        CompiledFlag compiled = targetingEngine.compiled(flag);
+
+        prerequisites.get(0).getVariants().clear();
+        prerequisites.add(new Flag.Prerequisite("other", null));
+
+        assertEquals(List.of(new CompiledFlag.Prerequisite("base", Set.of("on"))), compiled.prerequisites());
+        assertSame(compiled, targetingEngine.compiled(flag));
+    }
+
+    @Test
+    void compiled_shouldKeepItsView_whenTheFlagChangesAfterwards() {
+        Flag flag = Flag.builder().name("testFlag").state(Flag.State.ENABLED).defaultVariant("on")
+                        .variants(Map.of("on", true)).build();
+        targetingEngine.load(List.of(flag));
+        CompiledFlag compiled = targetingEngine.compiled(flag);
+        assertSame(compiled, targetingEngine.index().get("testFlag"));
+
+        flag.setState(Flag.State.DISABLED);
+
+        assertTrue(compiled.isEnabled());
+        assertSame(compiled, targetingEngine.compiled(flag));
+        assertTrue(targetingEngine.index().get("testFlag").isEnabled());
+    }
+
+    @Test
+    void compiled_shouldKeepFlagsThatWereNotLoadedOutOfTheIndex_andCompileThemOnce() {
+        CompiledFlagIndex before = targetingEngine.index();
+        Flag flag = Flag.builder().name("testFlag").state(Flag.State.ENABLED).targeting("{\"var\": \"plan\"}")
+                        .defaultVariant("on").variants(Map.of("on", true)).build();
+
+        CompiledFlag compiled = targetingEngine.compiled(flag);
+
+        assertSame(before, targetingEngine.index());
+        assertSame(compiled, targetingEngine.compiled(flag));
+
+        for (int i = 0; i < TargetingEngine.UNINDEXED_MAX_SIZE; i++) {
+            targetingEngine.compiled(Flag.builder().name("other-" + i).build());
+        }
+        assertNotSame(compiled, targetingEngine.compiled(flag));
+    }
+
+    @Test
+    void prerequisitesOf_shouldPlanFlagsThatWereNotLoaded() {
+        Flag base = Flag.builder().name("base").build();
+        Flag middle = Flag.builder().name("middle").prerequisites(List.of(new Flag.Prerequisite("base", null))).build();
+        Flag top = Flag.builder().name("top").prerequisites(List.of(new Flag.Prerequisite("middle", null),
+                new Flag.Prerequisite("base", null), new Flag.Prerequisite("missing", null))).build();
+        targetingEngine.load(List.of(base));
+
+        CompiledFlag compiledMiddle = targetingEngine.compiled(middle);
+        List<CompiledFlag> plan = targetingEngine.prerequisitesOf(targetingEngine.compiled(top));
+
+        assertEquals(List.of(targetingEngine.index().get("base"), compiledMiddle), plan);
+    }
+
+    @Test
+    void fractional_shouldSplitTargetingKeysByWeight() throws JsonLogicException {
+        TargetingRule rule = targetingEngine.compile("checkout-flow",
+                "{\"fractional\": [[\"control\", 75], [\"treatment\", 25]]}");
+
+        Map<Object, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 20_000; i++) {
+            counts.merge(rule.evaluate(Map.of("targetingKey", "user-" + i)), 1, Integer::sum);
+        }
+
+        assertEquals(Set.of("control", "treatment"), counts.keySet());
+        assertEquals(15_000, counts.get("control"), 300);
+        assertEquals(5_000, counts.get("treatment"), 300);
+    }
+
+    @Test
+    void fractional_shouldBeDeterministic_andSaltedByFlagName() throws JsonLogicException {
+        String targeting = "{\"fractional\": [[\"a\"], [\"b\"], [\"c\"], [\"d\"]]}";
+        TargetingRule rule = targetingEngine.compile("flag-1", targeting);
+        TargetingRule sameFlag = new TargetingEngine(new JsonLogic()).compile("flag-1", targeting);
+        TargetingRule otherFlag = targetingEngine.compile("flag-2", targeting);
+
+        int differences = 0;
+        for (int i = 0; i < 100; i++) {
+            Map<String, Object> context = Map.of("targetingKey", "user-" + i);
+            assertEquals(rule.evaluate(context), sameFlag.evaluate(context));
+            if (!rule.evaluate(context).equals(otherFlag.evaluate(context))) differences++;
+        }
+        assertTrue(differences > 50, "flags share buckets for " + (100 - differences) + " of 100 users");
+        assertEquals(variantOf(Murmur3.hash32("flag-1", "user-7"), "a", "b", "c", "d"),
+                rule.evaluate(Map.of("targetingKey", "user-7")));
+    }
+
+    @Test
+    void fractional_shouldHashExplicitKey_andReturnNull_whenKeyIsMissing() throws JsonLogicException {
+        TargetingRule rule = targetingEngine.compile("testFlag",
+                "{\"bucket\": [{\"var\": \"orgId\"}, [\"on\", 1], [\"off\", 1]]}");
+
+        assertEquals(variantOf(Murmur3.hash32("", "org-9"), "on", "off"), rule.evaluate(Map.of("orgId", "org-9")));
+        assertNull(rule.evaluate(Map.of("targetingKey", "user-1")));
+        assertNull(targetingEngine.compile("testFlag", "{\"fractional\": [[\"on\"]]}").evaluate(Map.of()));
+
+        String nested = "{\"cat\": [\"v-\", {\"fractional\": [{\"var\": \"orgId\"}, [\"on\", 1], [\"off\", 1]]}]}";
+        Map<String, Object> context = Map.of("orgId", "org-9");
+        assertEquals(jsonLogic.apply(nested, context), targetingEngine.compile("testFlag", nested).evaluate(context));
+        assertEquals("v-" + rule.evaluate(context), jsonLogic.apply(nested, context));
+    }
+
+    @Test
+    void ruleFor_shouldNotCache_whenRuleIsFractional() throws JsonLogicException {
+        TargetingEngine cachingEngine = new TargetingEngine(jsonLogic, 100);
+        Flag flag = Flag.builder().name("testFlag").targeting("{\"fractional\": [[\"on\"], [\"off\"]]}").build();
+        cachingEngine.load(List.of(flag));
+
+        cachingEngine.ruleFor(flag).evaluate(Map.of("targetingKey", "user-1"));
+
+        assertEquals(0, cachingEngine.resultCache().orElseThrow().missCount());
+    }
+
+    private static String variantOf(int hash, String... variants) {
+        long point = (hash & 0xFFFFFFFFL) * variants.length >>> 32;
+        return variants[(int) point];
+    }
+}
@@ -0,0 +1,485 @@
+package br.com.featureflagsdkjava.domain.openfeature.providers.customprovider;
+
+import br.com.featureflagsdkjava.domain.application.openfeature.OpenFeatureConfig;
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.HookFactory;
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.customprovider.OpenFeatureCustomProvider;
+import br.com.featureflagsdkjava.domain.application.targeting.TargetingEngine;
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagSnapshot;
+import br.com.featureflagsdkjava.domain.ports.FeatureFlagQueryPort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.openfeature.sdk.*;
+import dev.openfeature.sdk.exceptions.FlagNotFoundError;
+import io.github.jamsesso.jsonlogic.JsonLogic;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+@ExtendWith({MockitoExtension.class, OutputCaptureExtension.class})
+class OpenFeatureCustomProviderTest {
+
+    @Mock
+    private FeatureFlagQueryPort featureFlagQueryPort;
+    private Client client;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private FeatureProvider customProvider;
+    private TargetingEngine targetingEngine;
+
+    @BeforeEach
+    void beforeAll() {
+        this.targetingEngine = new TargetingEngine(new JsonLogic());
+        this.customProvider  =
+                new OpenFeatureCustomProvider(featureFlagQueryPort, targetingEngine);
+
+        client = new OpenFeatureConfig().buildOpenFeatureClient(customProvider, List.of(HookFactory.createHook()));
+        assertNotNull(client);
+    }
+
+    @Test
+    void getMetadata_shouldReturnCorrectName() {
+        assertEquals("CustomProvider", customProvider.getMetadata().getName());
+    }
+
+    @Test
+    void getBooleanEvaluationWithHook_flagNotFound_shouldReturnDefaultValueWithErrorReason(CapturedOutput logConsole) {
+        String flagName = "testFlag";
+        Boolean defaultValue = true;
+        EvaluationContext evaluationContext = new ImmutableContext();
+        when(featureFlagQueryPort.findByFlagName(flagName)).thenThrow(new FlagNotFoundError("Mocked Exception"));
+
+        Boolean booleanValue = client.getBooleanValue(flagName, defaultValue, evaluationContext);
+
+        assertHooks(flagName, Reason.ERROR, logConsole);
+        assertEquals(defaultValue, booleanValue);
+    }
+
+    @Test
+    void getBooleanStaticEvaluationWithHook_shouldReturnDefaultValueWithStaticReason(CapturedOutput logConsole) throws JsonProcessingException {
+        String flagName = "testFlag";
+        Boolean defaultValue = true;
+        Flag basicBooleanFlag = getBasicBooleanFlag();
+
+        when(featureFlagQueryPort.findByFlagName(flagName)).thenReturn(Optional.of(basicBooleanFlag));
+
+        Boolean booleanValue = client.getBooleanValue(flagName, defaultValue);
+
+        assertHooks(flagName, Reason.STATIC, logConsole);
+        assertEquals(false, booleanValue);
+    }
+
+    private void assertHooks(String flagName, Reason reason, CapturedOutput logConsole) {
+        String logConsoleStr = logConsole.toString();
+        assertTrue(logConsoleStr.contains(HookFactory.STARTING_FLAG_EVALUATION.replace("{}", flagName)));
+        assertTrue(logConsoleStr.contains(HookFactory.FINALIZING_FLAG_EVALUATION.replace("{}", flagName)));
+        if (!reason.equals(Reason.ERROR)) {
+            assertTrue(logConsoleStr.contains(
+                HookFactory.FLAG_EVALUATED_SUCCESSFULLY
+                           .replaceFirst("\\{}", flagName).replace("{}.", "")));
+            return;
+        }
+        assertTrue(logConsoleStr.contains(
+            HookFactory.FLAG_EVALUATION_FAILED_EXCEPTION
+                       .replaceFirst("\\{}", flagName).replace("{}", "")));
+    }
+
+    @Test
+    void getBooleanEvaluation_flagDisabled_shouldReturnDefaultValueWithErrorReason() {
+        String flagName = "testFlag";
+        Boolean defaultValue = true;
+        EvaluationContext evaluationContext = new ImmutableContext();
+
+        when(featureFlagQueryPort.findByFlagName(flagName)).thenThrow(new FlagNotFoundError("Disabled flag"));
+
+        FlagEvaluationDetails<Boolean> booleanDetails = client.getBooleanDetails(flagName, defaultValue, evaluationContext);
+
+        assertEquals(defaultValue, booleanDetails.getValue());
+        assertEquals(Reason.ERROR.toString(), booleanDetails.getReason());
+    }
+
+    @Test
+    void getBooleanEvaluation_missingDefaultVariant_shouldReturnDefaultValueWithErrorReason() {
+        String flagName = "testFlag";
+        Boolean defaultValue = true;
+        EvaluationContext evaluationContext = new ImmutableContext();
+        Flag flag = Flag.builder().name(flagName).state(Flag.State.ENABLED).variants(Map.of("on", "true")).build();
+        when(featureFlagQueryPort.findByFlagName(flagName)).thenReturn(Optional.of(flag));
+
+        FlagEvaluationDetails<Boolean> booleanDetails = client.getBooleanDetails(flagName, defaultValue, evaluationContext);
+
+        assertEquals(defaultValue, booleanDetails.getValue());
+        assertEquals(Reason.ERROR.toString(), booleanDetails.getReason());
+    }
+
+    @Test
+    void getStaticEvaluation_shouldReturnVariantValueWithStaticReason() throws JsonProcessingException {
+        String flagName = "testFlag";
+
+        assertEvaluation(flagName, "String", "2", "2");
+        assertEvaluation(flagName, "Integer", 2, 2);
+        assertEvaluation(flagName, "Double", 2.0, 2.0);
+        assertEvaluation(flagName, "Boolean", false, false);
+    }
+
+    private <T> void assertEvaluation(String flagName, String type, T defaultValue, T expectedValue) throws JsonProcessingException {
+        Flag flag = getBasicStaticFlag(type);
+        when(featureFlagQueryPort.findByFlagName(flagName)).thenReturn(Optional.of(flag));
+
+        FlagEvaluationDetails<?> evaluation;
+        if (defaultValue instanceof String s) {
+            evaluation = client.getStringDetails(flagName, s, null);
+        } else if (defaultValue instanceof Integer i) {
+            evaluation = client.getIntegerDetails(flagName, i, null);
+        } else if (defaultValue instanceof Double d) {
+            evaluation = client.getDoubleDetails(flagName, d, null);
+        } else if (defaultValue instanceof Boolean b) {
+            evaluation = client.getBooleanDetails(flagName, b, null);
+        } else {
+            throw new IllegalArgumentException("Unsupported type: " + type);
+        }
+
+        assertEquals(expectedValue, evaluation.getValue());
+        assertEquals(Reason.DEFAULT.toString(), evaluation.getReason());
+    }
+
+    @Test
+    void getBooleanEvaluation_staticEvaluation_invalidVariantValue_shouldReturnDefaultValueWithErrorReason() {
+        String flagName = "testFlag";
+        Boolean defaultValue = false;
+        EvaluationContext evaluationContext = new ImmutableContext();
+        Flag flag = Flag.builder()
+                        .name(flagName)
+                        .state(Flag.State.ENABLED)
+                        .defaultVariant("invalid")
+                        .variants(Map.of("invalid", "not a boolean"))
+                        .build();
+        when(featureFlagQueryPort.findByFlagName(flagName)).thenReturn(Optional.of(flag));
+
+        ProviderEvaluation<Boolean> evaluation = customProvider.getBooleanEvaluation(flagName, defaultValue, evaluationContext);
+
+        assertEquals(defaultValue, evaluation.getValue());
+        assertEquals(Reason.ERROR.toString(), evaluation.getReason());
+        assertNull(evaluation.getVariant());
+    }
+
+    @Test
+    void getBooleanEvaluation_staticEvaluation_shouldReturnSharedImmutableEvaluation() throws JsonProcessingException {
+        String flagName = "testFlag";
+        Flag flag = getBasicStaticFlag("Boolean");
+        when(featureFlagQueryPort.findByFlagName(flagName)).thenReturn(Optional.of(flag));
+
+        ProviderEvaluation<Boolean> first = customProvider.getBooleanEvaluation(flagName, true, null);
+        ProviderEvaluation<Boolean> second = customProvider.getBooleanEvaluation(flagName, true, null);
+
+        assertSame(first, second);
+        assertEquals(false, first.getValue());
+        assertEquals("2", first.getVariant());
+        assertThrows(UnsupportedOperationException.class, () -> first.setValue(true));
+    }
+
+    @Test
+    void getIntegerAndDoubleEvaluation_numberFlag_shouldConvertVariant() throws JsonProcessingException {
+        String flagName = "testFlag";
+        Flag flag = getBasicStaticFlag("Integer");
+        flag.setType(Flag.Type.NUMBER);
+        when(featureFlagQueryPort.findByFlagName(flagName)).thenReturn(Optional.of(flag));
+
+        assertEquals(2, customProvider.getIntegerEvaluation(flagName, 0, null).getValue());
+        assertEquals(2.0, customProvider.getDoubleEvaluation(flagName, 0.0, null).getValue());
+    }
+
+    @Test
+    void getDoubleEvaluation_variantOfWrongType_shouldReturnDefaultValueWithTypeMismatch() throws JsonProcessingException {
+        String flagName = "testFlag";
+        Flag flag = getBasicStaticFlag("String");
+        flag.setType(Flag.Type.NUMBER);
+        when(featureFlagQueryPort.findByFlagName(flagName)).thenReturn(Optional.of(flag));
+
+        ProviderEvaluation<Double> evaluation = customProvider.getDoubleEvaluation(flagName, 0.5, null);
+
+        assertEquals(0.5, evaluation.getValue());
+        assertEquals(Reason.ERROR.toString(), evaluation.getReason());
+        assertEquals(ErrorCode.TYPE_MISMATCH, evaluation.getErrorCode());
+    }
+
+    @Test
+    void getBooleanEvaluation_dynamicEvaluation_targetingMatch_shouldReturnVariantValueWithTargetingReasonAndVariant() throws JsonProcessingException {
+        String flagName = "testFlag";
+        Boolean defaultValue = false;
+
+        ImmutableContext evaluationContext = new ImmutableContext("user", Map.of("locale", new Value("br")));
+        Flag flag = getDynamicFlag();
+        when(featureFlagQueryPort.findByFlagName(flagName)).thenReturn(Optional.of(flag));
+
+        ProviderEvaluation<Boolean> evaluation = customProvider.getBooleanEvaluation(flagName, defaultValue, evaluationContext);
+
+        assertTrue(evaluation.getValue());
+        assertEquals(Reason.TARGETING_MATCH.toString(), evaluation.getReason());
+        assertEquals("true", evaluation.getVariant());
+    }
+
+    @Test
+    void getBooleanEvaluation_dynamicEvaluation_noMatch_shouldReturnDefaultValue() throws JsonProcessingException {
+        String flagName = "testFlag";
+        Boolean defaultValue = false;
+
+        ImmutableContext evaluationContext = new ImmutableContext("user", Map.of("locale", new Value("ar")));
+        Flag flag = getDynamicFlag();
+        when(featureFlagQueryPort.findByFlagName(flagName)).thenReturn(Optional.of(flag));
+
+        ProviderEvaluation<Boolean> evaluation = customProvider.getBooleanEvaluation(flagName, defaultValue, evaluationContext);
+
+        assertFalse(evaluation.getValue());
+        assertEquals(Reason.DEFAULT.toString(), evaluation.getReason());
+        assertEquals("false", evaluation.getVariant());
+    }
+
+    @Test
+    void getStringEvaluation_fractionalRollout_shouldBucketByTargetingKey() {
+        String flagName = "rolloutFlag";
+        Flag flag = Flag.builder().name(flagName).type(Flag.Type.STRING).state(Flag.State.ENABLED).defaultVariant("off")
+                        .variants(Map.of("on", "new", "off", "old"))
+                        .targeting("{\"fractional\": [[\"on\", 50], [\"off\", 50]]}").build();
+        when(featureFlagQueryPort.findByFlagName(flagName)).thenReturn(Optional.of(flag));
+
+        Map<String, Integer> variants = new HashMap<>();
+        for (int i = 0; i < 200; i++) {
+            ImmutableContext evaluationContext = new ImmutableContext("user-" + i);
+            ProviderEvaluation<String> evaluation = customProvider.getStringEvaluation(flagName, "none", evaluationContext);
+            assertEquals(evaluation.getValue(), customProvider.getStringEvaluation(flagName, "none", evaluationContext).getValue());
+            variants.merge(evaluation.getVariant(), 1, Integer::sum);
+        }
+
+        assertEquals(2, variants.size());
+        assertEquals("old", customProvider.getStringEvaluation(flagName, "none", new ImmutableContext()).getValue());
+    }
+
+    @Test
+    void evaluateAll_shouldEvaluateEveryFlagAgainstSnapshot_andKeepRequestedOrder(CapturedOutput logConsole) throws JsonProcessingException {
+        Flag dynamicFlag = getDynamicFlag();
+        dynamicFlag.setName("dynamic");
+        dynamicFlag.setType(Flag.Type.BOOLEAN);
+        Flag stringFlag = getBasicStaticFlag("String");
+        stringFlag.setType(Flag.Type.STRING);
+        when(featureFlagQueryPort.currentSnapshot()).thenReturn(Optional.of(FlagSnapshot.of(1L, List.of(dynamicFlag, stringFlag))));
+        ImmutableContext evaluationContext = new ImmutableContext("user", Map.of("locale", new Value("br")));
+        ReflectionTestUtils.setField(customProvider, "loggingEnabled", true);
+
+        Map<String, ProviderEvaluation<?>> evaluations = ((OpenFeatureCustomProvider) customProvider)
+                .evaluateAll(List.of("basic-static", "missing", "dynamic"), evaluationContext);
+
+        assertEquals(List.of("basic-static", "missing", "dynamic"), List.copyOf(evaluations.keySet()));
+        assertEquals("2", evaluations.get("basic-static").getValue());
+        assertEquals(Reason.DEFAULT.toString(), evaluations.get("basic-static").getReason());
+        assertEquals(true, evaluations.get("dynamic").getValue());
+        assertEquals(Reason.TARGETING_MATCH.toString(), evaluations.get("dynamic").getReason());
+        assertNull(evaluations.get("missing").getValue());
+        assertEquals(ErrorCode.FLAG_NOT_FOUND, evaluations.get("missing").getErrorCode());
+        verify(featureFlagQueryPort, never()).findByFlagName(anyString());
+        assertTrue(logConsole.toString().contains(HookFactory.BATCH_EVALUATED.replaceFirst("\\{}", "3").replace("{}", "1")));
+    }
+
+    @Test
+    void evaluateAll_shouldNotLog_whenLoggingIsDisabled(CapturedOutput logConsole) throws JsonProcessingException {
+        Flag stringFlag = getBasicStaticFlag("String");
+        stringFlag.setType(Flag.Type.STRING);
+        when(featureFlagQueryPort.currentSnapshot()).thenReturn(Optional.of(FlagSnapshot.of(1L, List.of(stringFlag))));
+
+        ((OpenFeatureCustomProvider) customProvider).evaluateAll(List.of("basic-static"), new ImmutableContext("user"));
+
+        assertFalse(logConsole.toString().contains(HookFactory.STARTING_BATCH_EVALUATION.replace("{}", "1")));
+        assertFalse(logConsole.toString().contains(HookFactory.BATCH_EVALUATED.replaceFirst("\\{}", "1").replace("{}", "0")));
+    }
+
+    @Test
+    void evaluateAll_withoutFlagNames_shouldEvaluateEveryKnownFlag_whenNoSnapshotIsAvailable() throws JsonProcessingException {
+        Flag flag = getBasicStaticFlag("Integer");
+        flag.setType(Flag.Type.NUMBER);
+        when(featureFlagQueryPort.findAll()).thenReturn(List.of(flag));
+
+        Map<String, ProviderEvaluation<?>> evaluations = ((OpenFeatureCustomProvider) customProvider)
+                .evaluateAll(new ImmutableContext());
+
+        assertEquals(1, evaluations.size());
+        assertEquals(2, evaluations.get("basic-static").getValue());
+        verify(featureFlagQueryPort, never()).findByFlagName(anyString());
+    }
+
+    @Test
+    void evaluateAll_shouldFetchAllFlagsInOneLookup_whenNoSnapshotIsAvailable() throws JsonProcessingException {
+        Flag flag = getBasicStaticFlag("Boolean");
+        flag.setType(Flag.Type.BOOLEAN);
+        List<String> flagNames = List.of("basic-static", "missing");
+        when(featureFlagQueryPort.findByFlagNames(flagNames)).thenReturn(Map.of("basic-static", flag));
+
+        Map<String, ProviderEvaluation<?>> evaluations = ((OpenFeatureCustomProvider) customProvider)
+                .evaluateAll(flagNames, new ImmutableContext());
+
+        assertEquals(false, evaluations.get("basic-static").getValue());
+        assertEquals(ErrorCode.FLAG_NOT_FOUND, evaluations.get("missing").getErrorCode());
+        verify(featureFlagQueryPort, never()).findByFlagName(anyString());
+    }
+
+    @Test
+    void getBooleanEvaluation_shouldResolveFlagFromTheCompiledIndex_withoutLookingItUp() {
+        targetingEngine.load(List.of(gatingFlag("beta", "\"true\"")));
+
+        ProviderEvaluation<Boolean> evaluation = customProvider.getBooleanEvaluation("beta", false, new ImmutableContext("user"));
+
+        assertTrue(evaluation.getValue());
+        verify(featureFlagQueryPort, never()).findByFlagName(anyString());
+    }
+
+    @Test
+    void getBooleanEvaluation_prerequisiteMet_shouldEvaluateTargeting() {
+        Flag beta = gatingFlag("beta", "{\"in\": [{\"var\": \"locale\"}, [\"br\", \"ca\"]]}");
+        Flag checkout = gatedFlag("checkout", "\"true\"", new Flag.Prerequisite("beta", List.of("true")));
+        when(featureFlagQueryPort.currentSnapshot()).thenReturn(Optional.of(FlagSnapshot.of(1L, targetingEngine.load(List.of(beta, checkout)))));
+
+        ProviderEvaluation<Boolean> met = customProvider.getBooleanEvaluation("checkout", false,
+                new ImmutableContext("user", Map.of("locale", new Value("br"))));
+        ProviderEvaluation<Boolean> unmet = customProvider.getBooleanEvaluation("checkout", true,
+                new ImmutableContext("user", Map.of("locale", new Value("us"))));
+
+        assertTrue(met.getValue());
+        assertEquals(Reason.TARGETING_MATCH.toString(), met.getReason());
+        assertFalse(unmet.getValue());
+        assertEquals(Reason.DEFAULT.toString(), unmet.getReason());
+        assertEquals("false", unmet.getVariant());
+    }
+
+    @Test
+    void evaluateAll_prerequisiteDag_shouldEvaluateEveryFlagOncePerContext() {
+        // 30 levels of two flags, each gated on both flags of the level below: 2^30 paths lead to the bottom level
+        AtomicInteger evaluations = new AtomicInteger();
+        targetingEngine.addOperation("tick", args -> {
+            evaluations.incrementAndGet();
+            return "true";
+        });
+        List<Flag> flags = new ArrayList<>();
+        for (int level = 0; level < 30; level++) {
+            for (String side : List.of("a", "b")) {
+                Flag.Prerequisite[] prerequisites = level == 0 ? new Flag.Prerequisite[0] : new Flag.Prerequisite[]{
+                        new Flag.Prerequisite("level-" + (level - 1) + "-a", List.of("true")),
+                        new Flag.Prerequisite("level-" + (level - 1) + "-b", null)};
+                flags.add(gatedFlag("level-" + level + "-" + side, "{\"tick\": [{\"var\": \"locale\"}]}", prerequisites));
+            }
+        }
+        when(featureFlagQueryPort.currentSnapshot()).thenReturn(Optional.of(FlagSnapshot.of(1L, targetingEngine.load(flags))));
+        ImmutableContext evaluationContext = new ImmutableContext("user", Map.of("locale", new Value("br")));
+
+        ProviderEvaluation<Boolean> top = customProvider.getBooleanEvaluation("level-29-a", false, evaluationContext);
+
+        assertTrue(top.getValue());
+        assertEquals(59, evaluations.get());
+
+        evaluations.set(0);
+        Map<String, ProviderEvaluation<?>> all = ((OpenFeatureCustomProvider) customProvider)
+                .evaluateAll(List.of("level-29-a", "level-29-b"), evaluationContext);
+
+        assertEquals(true, all.get("level-29-b").getValue());
+        assertEquals(60, evaluations.get());
+    }
+
+    @Test
+    void getBooleanEvaluation_shouldLookPrerequisitesUp_whenNoSnapshotIsAvailable() {
+        Flag beta = gatingFlag("beta", "\"false\"");
+        Flag checkout = gatedFlag("checkout", "\"true\"", new Flag.Prerequisite("beta", List.of("true")));
+        when(featureFlagQueryPort.findByFlagName("checkout")).thenReturn(Optional.of(checkout));
+        when(featureFlagQueryPort.findByFlagNames(List.of("beta"))).thenReturn(Map.of("beta", beta));
+
+        ProviderEvaluation<Boolean> evaluation = customProvider.getBooleanEvaluation("checkout", true, new ImmutableContext("user"));
+
+        assertFalse(evaluation.getValue());
+        assertEquals(Reason.DEFAULT.toString(), evaluation.getReason());
+    }
+
+    private static Flag gatingFlag(String name, String targeting) {
+        return gatedFlag(name, targeting);
+    }
+
+    private static Flag gatedFlag(String name, String targeting, Flag.Prerequisite... prerequisites) {
+        return Flag.builder().name(name).type(Flag.Type.BOOLEAN).state(Flag.State.ENABLED).defaultVariant("false")
+                   .variants(Map.of("true", true, "false", false)).targeting(targeting)
+                   .prerequisites(prerequisites.length == 0 ? null : List.of(prerequisites)).build();
+    }
+
+    private Flag getBasicStaticFlag(String type) throws JsonProcessingException {
+        String strFlag = """
+                {
+                  "id" : 1,
+                  "name" : "basic-static",
+                  "state" : "ENABLED",
+                  "defaultVariant" : "2",
+                  "variants" : {
+                    "1" : ${default},
+                    "2" : ${other}
+                  },
+                  "targeting" : "{}"
+                }
+                """;
+        switch (type) {
+            case "String" -> strFlag = strFlag.replace("${default}", "\"1\"")
+                                                  .replace("${other}", "\"2\"");
+            case "Integer" -> strFlag = strFlag.replace("${default}", "1")
+                                                  .replace("${other}", "2");
+            case "Double" -> strFlag = strFlag.replace("${default}", "1.0")
+                                                  .replace("${other}", "2.0");
+            default -> strFlag = strFlag.replace("${default}", "true")
+                                        .replace("${other}", "false");
+        }
+        return mapper.readValue(strFlag, Flag.class);
+    }
+
+    private Flag getBasicBooleanFlag() throws JsonProcessingException {
+        String strFlag = """
+                {
+                  "id" : 1,
+                  "name" : "basic-boolean",
+                  "state" : "ENABLED",
+                  "defaultVariant" : "false",
+                  "variants" : {
+                    "true" : true,
+                    "false" : false
+                  },
+                  "targeting" : "{ \\"if\\": [ { \\"in\\": [ \\"posts/2\\", { \\"var\\": \\"URI\\" } ] }, \\"CLOUD\\" ] }"
+                }
+                """;
+        return mapper.readValue(strFlag, Flag.class);
+    }
+
+    private Flag getDynamicFlag() throws JsonProcessingException {
+        String strFlag = """
+                 {
+                      "state": "ENABLED",
+                      "defaultVariant": "false",
+                      "variants": {
+                        "true": true,
+                        "false": false
+                      },
+                      "targeting": "{ \\"if\\": [ { \\"in\\": [ { \\"var\\": \\"locale\\" }, [ \\"br\\", \\"ca\\" ] ] }, \\"true\\" ] }"
+                      }
+                """;
+        return mapper.readValue(strFlag, Flag.class);
+    }
+}
@@ -0,0 +1,134 @@
+package br.com.featureflagsdkjava.domain.openfeature.providers.customprovider;
+
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.customprovider.OpenFeatureCustomProvider;
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.customprovider.ReactiveFeatureFlagEvaluator;
+import br.com.featureflagsdkjava.domain.application.targeting.TargetingEngine;
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagSnapshot;
+import br.com.featureflagsdkjava.domain.ports.FeatureFlagQueryPort;
+import br.com.featureflagsdkjava.domain.ports.ReactiveFeatureFlagQueryPort;
+import dev.openfeature.sdk.ErrorCode;
+import dev.openfeature.sdk.ImmutableContext;
+import dev.openfeature.sdk.ProviderEvaluation;
+import dev.openfeature.sdk.Reason;
+import dev.openfeature.sdk.Value;
+import io.github.jamsesso.jsonlogic.JsonLogic;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveFeatureFlagEvaluatorTest {
+
+    @Mock
+    private FeatureFlagQueryPort featureFlagQueryPort;
+    @Mock
+    private ReactiveFeatureFlagQueryPort reactiveFeatureFlagQueryPort;
+    private ReactiveFeatureFlagEvaluator evaluator;
+
+    private final ImmutableContext evaluationContext = new ImmutableContext("user", Map.of("locale", new Value("br")));
+
+    @BeforeEach
+    void setUp() {
+        OpenFeatureCustomProvider provider = new OpenFeatureCustomProvider(featureFlagQueryPort, new TargetingEngine(new JsonLogic()));
+        evaluator = new ReactiveFeatureFlagEvaluator(provider, reactiveFeatureFlagQueryPort);
+    }
+
+    @Test
+    void getBooleanEvaluation_shouldReadSnapshot_withoutLookup() {
+        when(featureFlagQueryPort.currentSnapshot()).thenReturn(Optional.of(FlagSnapshot.of(1L, List.of(localeFlag("testFlag")))));
+
+        ProviderEvaluation<Boolean> evaluation = evaluator.getBooleanEvaluation("testFlag", false, evaluationContext).block();
+
+        assertTrue(evaluation.getValue());
+        assertEquals(Reason.TARGETING_MATCH.toString(), evaluation.getReason());
+        verifyNoInteractions(reactiveFeatureFlagQueryPort);
+        verify(featureFlagQueryPort, never()).findByFlagName(anyString());
+    }
+
+    @Test
+    void getBooleanEvaluation_shouldLookUpFlag_onSubscription_whenThereIsNoSnapshot() {
+        when(featureFlagQueryPort.currentSnapshot()).thenReturn(Optional.empty());
+        when(reactiveFeatureFlagQueryPort.findByFlagName("testFlag")).thenReturn(Mono.just(localeFlag("testFlag")));
+
+        Mono<ProviderEvaluation<Boolean>> evaluation = evaluator.getBooleanEvaluation("testFlag", false, evaluationContext);
+        verifyNoInteractions(reactiveFeatureFlagQueryPort);
+
+        assertTrue(evaluation.block().getValue());
+        verify(featureFlagQueryPort, never()).findByFlagName(anyString());
+    }
+
+    @Test
+    void getStringEvaluation_shouldReturnDefaultValueWithErrorCode_whenFlagIsMissingOrLookupFails() {
+        when(featureFlagQueryPort.currentSnapshot()).thenReturn(Optional.empty());
+        when(reactiveFeatureFlagQueryPort.findByFlagName("missingFlag")).thenReturn(Mono.empty());
+        when(reactiveFeatureFlagQueryPort.findByFlagName("testFlag")).thenReturn(Mono.error(new IllegalStateException("timeout")));
+
+        ProviderEvaluation<String> missing = evaluator.getStringEvaluation("missingFlag", "default", evaluationContext).block();
+        ProviderEvaluation<String> failed = evaluator.getStringEvaluation("testFlag", "default", evaluationContext).block();
+
+        assertEquals("default", missing.getValue());
+        assertEquals(ErrorCode.FLAG_NOT_FOUND, missing.getErrorCode());
+        assertEquals("default", failed.getValue());
+        assertEquals(ErrorCode.GENERAL, failed.getErrorCode());
+    }
+
+    @Test
+    void evaluateAll_shouldFetchFlagsInOneLookup_whenThereIsNoSnapshot() {
+        when(featureFlagQueryPort.currentSnapshot()).thenReturn(Optional.empty());
+        when(reactiveFeatureFlagQueryPort.findByFlagNames(List.of("flag1", "flag2", "missingFlag")))
+                .thenReturn(Flux.just(localeFlag("flag1"), localeFlag("flag2")));
+
+        Map<String, ProviderEvaluation<?>> evaluations =
+                evaluator.evaluateAll(List.of("flag1", "flag2", "missingFlag"), evaluationContext).block();
+
+        assertEquals(List.of("flag1", "flag2", "missingFlag"), List.copyOf(evaluations.keySet()));
+        assertEquals(true, evaluations.get("flag1").getValue());
+        assertEquals(ErrorCode.FLAG_NOT_FOUND, evaluations.get("missingFlag").getErrorCode());
+    }
+
+    @Test
+    void getBooleanEvaluation_shouldFetchPrerequisitesThroughTheReactivePort_whenThereIsNoSnapshot() {
+        Flag checkout = localeFlag("checkout");
+        checkout.setPrerequisites(List.of(new Flag.Prerequisite("beta", List.of("on"))));
+        Flag beta = localeFlag("beta");
+        beta.setPrerequisites(List.of(new Flag.Prerequisite("alpha", null)));
+        when(featureFlagQueryPort.currentSnapshot()).thenReturn(Optional.empty());
+        when(reactiveFeatureFlagQueryPort.findByFlagName("checkout")).thenReturn(Mono.just(checkout));
+        when(reactiveFeatureFlagQueryPort.findByFlagNames(List.of("beta"))).thenReturn(Flux.just(beta));
+        when(reactiveFeatureFlagQueryPort.findByFlagNames(List.of("alpha"))).thenReturn(Flux.just(localeFlag("alpha")));
+
+        ProviderEvaluation<Boolean> met = evaluator.getBooleanEvaluation("checkout", false, evaluationContext).block();
+        ProviderEvaluation<Boolean> unmet = evaluator.getBooleanEvaluation("checkout", true,
+                new ImmutableContext("user", Map.of("locale", new Value("us")))).block();
+
+        assertTrue(met.getValue());
+        assertEquals(Reason.TARGETING_MATCH.toString(), met.getReason());
+        assertFalse(unmet.getValue());
+        assertEquals(Reason.DEFAULT.toString(), unmet.getReason());
+        verify(featureFlagQueryPort, never()).findByFlagNames(any());
+    }
+
+    private static Flag localeFlag(String flagName) {
+        return Flag.builder()
+                   .name(flagName)
+                   .type(Flag.Type.BOOLEAN)
+                   .state(Flag.State.ENABLED)
+                   .defaultVariant("off")
+                   .variants(Map.of("on", true, "off", false))
+                   .targeting("{\"if\": [{\"in\": [{\"var\": \"locale\"}, [\"br\", \"ca\"]]}, \"on\", \"off\"]}")
+                   .build();
+    }
+}
@@ -0,0 +1,344 @@
+package br.com.featureflagsdkjava.infra.adapters.cache;
+
+import br.com.featureflagsdkjava.domain.application.targeting.TargetingEngine;
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagDelta;
+import br.com.featureflagsdkjava.domain.model.FlagSnapshot;
+import br.com.featureflagsdkjava.domain.ports.FeatureFlagQueryPort;
+import br.com.featureflagsdkjava.domain.ports.FlagSnapshotStorePort;
+import br.com.featureflagsdkjava.domain.ports.SharedFlagSnapshotPort;
+import br.com.featureflagsdkjava.domain.ports.SharedFlagSnapshotPort.SharedSnapshot;
+import br.com.featureflagsdkjava.infra.adapters.file.FileSharedFlagSnapshotAdapter;
+import io.github.jamsesso.jsonlogic.JsonLogic;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingFeatureFlagQueryAdapterTest {
+
+    @Mock
+    private FeatureFlagQueryPort delegate;
+
+    @Mock
+    private FlagSnapshotStorePort snapshotStore;
+
+    @Mock
+    private SharedFlagSnapshotPort sharedSnapshot;
+
+    private CachingFeatureFlagQueryAdapter cachingAdapter;
+
+    @BeforeEach
+    void setUp() {
+        cachingAdapter = new CachingFeatureFlagQueryAdapter(
+                delegate, new TargetingEngine(new JsonLogic()), Duration.ofHours(1), Duration.ZERO, Optional.empty(), Optional.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        cachingAdapter.stop();
+    }
+
+    @Test
+    void findByFlagName_shouldServeFromSnapshot_whenSnapshotIsLoaded() {
+        // Arrange
+        Flag flag = Flag.builder().name("testFlag").type(Flag.Type.BOOLEAN).build();
+        when(delegate.findChangesSince(0L)).thenReturn(Optional.of(FlagDelta.full(1L, List.of(flag))));
+        cachingAdapter.start();
+
+        // Act
+        Optional<Flag> first = cachingAdapter.findByFlagName("testFlag");
+        Optional<Flag> second = cachingAdapter.findByFlagName("testFlag");
+        Optional<Flag> missing = cachingAdapter.findByFlagName("otherFlag");
+
+        // Assert
+        assertEquals(Optional.of(flag), first);
+        assertEquals(Optional.of(flag), second);
+        assertTrue(missing.isEmpty());
+        verify(delegate, times(1)).findChangesSince(0L);
+        verify(delegate, never()).findByFlagName(anyString());
+    }
+
+    @Test
+    void findFlagsByType_shouldReturnIndexedFlags_whenSnapshotIsLoaded() {
+        // Arrange
+        Flag booleanFlag = Flag.builder().name("booleanFlag").type(Flag.Type.BOOLEAN).build();
+        Flag stringFlag = Flag.builder().name("stringFlag").type(Flag.Type.STRING).build();
+        when(delegate.findChangesSince(0L)).thenReturn(Optional.of(FlagDelta.full(1L, List.of(booleanFlag, stringFlag))));
+        cachingAdapter.start();
+
+        // Act
+        List<Flag> stringFlags = cachingAdapter.findFlagsByType(Flag.Type.STRING);
+        List<Flag> numberFlags = cachingAdapter.findFlagsByType(Flag.Type.NUMBER);
+
+        // Assert
+        assertEquals(List.of(stringFlag), stringFlags);
+        assertTrue(numberFlags.isEmpty());
+        assertEquals(2, cachingAdapter.findAll().size());
+        verify(delegate, never()).findFlagsByType(any());
+    }
+
+    @Test
+    void findByFlagName_shouldDelegate_whenInitialLoadFailed() {
+        // Arrange
+        Flag flag = Flag.builder().name("testFlag").build();
+        when(delegate.findChangesSince(anyLong())).thenThrow(new RuntimeException("Service unavailable"));
+        when(delegate.findByFlagName("testFlag")).thenReturn(Optional.of(flag));
+        cachingAdapter.start();
+
+        // Act
+        Optional<Flag> actual = cachingAdapter.findByFlagName("testFlag");
+
+        // Assert
+        assertEquals(Optional.of(flag), actual);
+        assertTrue(cachingAdapter.currentSnapshot().isEmpty());
+    }
+
+    @Test
+    void refresh_shouldKeepPreviousSnapshot_whenDelegateFails() {
+        // Arrange
+        Flag flag = Flag.builder().name("testFlag").build();
+        when(delegate.findChangesSince(anyLong()))
+                .thenReturn(Optional.of(FlagDelta.full(1L, List.of(flag))))
+                .thenThrow(new RuntimeException("Service unavailable"));
+        cachingAdapter.start();
+
+        // Act
+        boolean refreshed = cachingAdapter.refresh();
+
+        // Assert
+        assertFalse(refreshed);
+        assertEquals(Optional.of(flag), cachingAdapter.findByFlagName("testFlag"));
+        assertEquals(1L, cachingAdapter.currentSnapshot().orElseThrow().getVersion());
+    }
+
+    @Test
+    void refresh_shouldPublishNewSnapshot_whenFlagsChange() {
+        // Arrange
+        Flag original = Flag.builder().name("testFlag").defaultVariant("off").build();
+        Flag updated = Flag.builder().name("testFlag").defaultVariant("on").build();
+        when(delegate.findChangesSince(anyLong()))
+                .thenReturn(Optional.of(FlagDelta.full(1L, List.of(original))))
+                .thenReturn(Optional.of(FlagDelta.full(2L, List.of(updated))));
+        cachingAdapter.start();
+
+        // Act
+        boolean refreshed = cachingAdapter.refresh();
+
+        // Assert
+        assertTrue(refreshed);
+        assertEquals("on", cachingAdapter.findByFlagName("testFlag").orElseThrow().getDefaultVariant());
+        assertEquals(2L, cachingAdapter.currentSnapshot().orElseThrow().getVersion());
+        verify(delegate).findChangesSince(1L);
+    }
+
+    @Test
+    void refresh_shouldKeepSnapshot_whenDelegateReportsNoChanges() {
+        // Arrange
+        Flag flag = Flag.builder().name("testFlag").build();
+        when(delegate.findChangesSince(0L)).thenReturn(Optional.of(FlagDelta.full(7L, List.of(flag))));
+        when(delegate.findChangesSince(7L)).thenReturn(Optional.empty());
+        cachingAdapter.start();
+        FlagSnapshot loaded = cachingAdapter.currentSnapshot().orElseThrow();
+        Instant loadSyncedAt = cachingAdapter.lastSyncedAt().orElseThrow();
+
+        // Act
+        boolean refreshed = cachingAdapter.refresh();
+
+        // Assert
+        assertTrue(refreshed);
+        assertSame(loaded, cachingAdapter.currentSnapshot().orElseThrow());
+        assertFalse(cachingAdapter.lastSyncedAt().orElseThrow().isBefore(loadSyncedAt));
+        verify(delegate, never()).findAll();
+    }
+
+    @Test
+    void refresh_shouldApplyDelta_whenDelegateReturnsOnlyChanges() {
+        // Arrange
+        Flag kept = Flag.builder().name("kept").build();
+        Flag removed = Flag.builder().name("removed").build();
+        Flag added = Flag.builder().name("added").build();
+        FlagDelta delta = FlagDelta.builder().version(4L).flags(List.of(added)).deleted(List.of("removed")).build();
+        when(delegate.findChangesSince(0L)).thenReturn(Optional.of(FlagDelta.full(3L, List.of(kept, removed))));
+        when(delegate.findChangesSince(3L)).thenReturn(Optional.of(delta));
+        cachingAdapter.start();
+
+        // Act
+        cachingAdapter.refresh();
+
+        // Assert
+        assertTrue(cachingAdapter.findByFlagName("kept").isPresent());
+        assertTrue(cachingAdapter.findByFlagName("added").isPresent());
+        assertTrue(cachingAdapter.findByFlagName("removed").isEmpty());
+        assertEquals(4L, cachingAdapter.currentSnapshot().orElseThrow().getVersion());
+    }
+
+    @Test
+    void refresh_shouldLeaveOutFlags_whenTargetingDoesNotCompile() {
+        // Arrange
+        Flag valid = Flag.builder().name("validFlag").targeting("{\"==\": [{\"var\": \"plan\"}, \"pro\"]}").build();
+        Flag malformed = Flag.builder().name("malformedFlag").targeting("{\"unknown\": [1]}").build();
+        when(delegate.findChangesSince(0L)).thenReturn(Optional.of(FlagDelta.full(1L, List.of(valid, malformed))));
+
+        // Act
+        cachingAdapter.start();
+
+        // Assert
+        assertTrue(cachingAdapter.findByFlagName("validFlag").isPresent());
+        assertTrue(cachingAdapter.findByFlagName("malformedFlag").isEmpty());
+    }
+
+    @Test
+    void start_shouldServeStoredSnapshot_whenDelegateIsUnavailable() {
+        // Arrange
+        Flag flag = Flag.builder().name("testFlag").build();
+        Instant storedAt = Instant.parse("2024-01-01T00:00:00Z");
+        when(snapshotStore.load()).thenReturn(Optional.of(FlagSnapshot.of(5L, List.of(flag), storedAt)));
+        when(delegate.findChangesSince(5L)).thenThrow(new RuntimeException("Service unavailable"));
+        CachingFeatureFlagQueryAdapter adapter = new CachingFeatureFlagQueryAdapter(
+                delegate, new TargetingEngine(new JsonLogic()), Duration.ofHours(1), Duration.ZERO, Optional.of(snapshotStore), Optional.empty());
+
+        // Act
+        adapter.start();
+
+        // Assert
+        try {
+            assertEquals(Optional.of(flag), adapter.findByFlagName("testFlag"));
+            assertEquals(storedAt, adapter.currentSnapshot().orElseThrow().getLoadedAt());
+            assertTrue(adapter.lastSyncedAt().isEmpty());
+            verify(delegate, never()).findByFlagName(anyString());
+            verify(snapshotStore, never()).save(any());
+        } finally {
+            adapter.stop();
+        }
+    }
+
+    @Test
+    void refresh_shouldSaveSnapshot_whenNewSnapshotIsPublished() {
+        // Arrange
+        Flag flag = Flag.builder().name("testFlag").build();
+        when(delegate.findChangesSince(0L)).thenReturn(Optional.of(FlagDelta.full(3L, List.of(flag))));
+        CachingFeatureFlagQueryAdapter adapter = new CachingFeatureFlagQueryAdapter(
+                delegate, new TargetingEngine(new JsonLogic()), Duration.ofHours(1), Duration.ZERO, Optional.of(snapshotStore), Optional.empty());
+
+        // Act
+        adapter.start();
+
+        // Assert
+        try {
+            verify(snapshotStore, timeout(2000)).save(argThat(saved -> saved.getVersion() == 3L && saved.size() == 1));
+        } finally {
+            adapter.stop();
+        }
+    }
+
+    @Test
+    void refresh_shouldServeSharedSnapshot_whileWithinItsTtl() {
+        // Arrange
+        Flag flag = Flag.builder().name("testFlag").build();
+        when(sharedSnapshot.read()).thenReturn(Optional.of(new SharedSnapshot(FlagSnapshot.of(6L, List.of(flag)), Instant.now())));
+        CachingFeatureFlagQueryAdapter adapter = new CachingFeatureFlagQueryAdapter(
+                delegate, new TargetingEngine(new JsonLogic()), Duration.ofHours(1), Duration.ZERO, Optional.empty(), Optional.of(sharedSnapshot));
+
+        // Act
+        adapter.start();
+
+        // Assert
+        try {
+            assertEquals(Optional.of(flag), adapter.findByFlagName("testFlag"));
+            assertEquals(6L, adapter.currentSnapshot().orElseThrow().getVersion());
+            assertEquals(1L, adapter.stats().sharedRefreshes());
+            verifyNoInteractions(delegate);
+            verify(sharedSnapshot, never()).tryAcquireRefresh();
+        } finally {
+            adapter.stop();
+        }
+    }
+
+    @Test
+    void refresh_shouldLoadFromDelegateAndShare_whenSharedSnapshotIsStaleAndLeaseIsFree() {
+        // Arrange
+        Flag stale = Flag.builder().name("staleFlag").build();
+        Flag fresh = Flag.builder().name("freshFlag").build();
+        when(sharedSnapshot.read()).thenReturn(Optional.of(new SharedSnapshot(
+                FlagSnapshot.of(2L, List.of(stale), Instant.now().minusSeconds(120)), Instant.now().minusSeconds(60))));
+        when(sharedSnapshot.tryAcquireRefresh()).thenReturn(Optional.of(() -> {}));
+        when(delegate.findChangesSince(2L)).thenReturn(Optional.of(FlagDelta.full(3L, List.of(fresh))));
+        CachingFeatureFlagQueryAdapter adapter = new CachingFeatureFlagQueryAdapter(
+                delegate, new TargetingEngine(new JsonLogic()), Duration.ofHours(1), Duration.ZERO, Optional.empty(), Optional.of(sharedSnapshot));
+
+        // Act
+        adapter.start();
+
+        // Assert
+        try {
+            assertTrue(adapter.findByFlagName("freshFlag").isPresent());
+            verify(sharedSnapshot).write(argThat(shared -> shared.getVersion() == 3L), any());
+        } finally {
+            adapter.stop();
+        }
+    }
+
+    @Test
+    void refresh_shouldKeepSharedSnapshot_whenAnotherProcessHoldsTheLease() {
+        // Arrange
+        Flag stale = Flag.builder().name("staleFlag").build();
+        when(sharedSnapshot.read()).thenReturn(Optional.of(new SharedSnapshot(
+                FlagSnapshot.of(2L, List.of(stale)), Instant.now().minusSeconds(60))));
+        when(sharedSnapshot.tryAcquireRefresh()).thenReturn(Optional.empty());
+        CachingFeatureFlagQueryAdapter adapter = new CachingFeatureFlagQueryAdapter(
+                delegate, new TargetingEngine(new JsonLogic()), Duration.ofHours(1), Duration.ZERO, Optional.empty(), Optional.of(sharedSnapshot));
+
+        // Act
+        adapter.start();
+
+        // Assert
+        try {
+            assertTrue(adapter.refresh());
+            assertTrue(adapter.findByFlagName("staleFlag").isPresent());
+            verifyNoInteractions(delegate);
+        } finally {
+            adapter.stop();
+        }
+    }
+
+    @Test
+    void refresh_shouldReachDelegateOncePerNode_whenProcessesShareSnapshotFile(@TempDir Path directory) {
+        // Arrange
+        Flag flag = Flag.builder().name("testFlag").build();
+        when(delegate.findChangesSince(0L)).thenReturn(Optional.of(FlagDelta.full(1L, List.of(flag))));
+        List<CachingFeatureFlagQueryAdapter> processes = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            processes.add(new CachingFeatureFlagQueryAdapter(delegate, new TargetingEngine(new JsonLogic()), Duration.ofHours(1),
+                    Duration.ZERO, Optional.empty(), Optional.of(new FileSharedFlagSnapshotAdapter(directory.resolve("shared.json")))));
+        }
+
+        // Act
+        processes.forEach(CachingFeatureFlagQueryAdapter::start);
+
+        // Assert
+        try {
+            for (CachingFeatureFlagQueryAdapter process : processes) {
+                assertEquals(Optional.of(flag), process.findByFlagName("testFlag"));
+                assertTrue(process.refresh());
+            }
+            verify(delegate, times(1)).findChangesSince(anyLong());
+        } finally {
+            processes.forEach(CachingFeatureFlagQueryAdapter::stop);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.featureflagsdkjava.infra.adapters.cache;
+
+import br.com.featureflagsdkjava.domain.application.targeting.TargetingEngine;
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagDelta;
+import br.com.featureflagsdkjava.domain.ports.FeatureFlagQueryPort;
+import io.github.jamsesso.jsonlogic.JsonLogic;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FlagCacheMetricsTest {
+
+    @Mock
+    private FeatureFlagQueryPort delegate;
+
+    private CachingFeatureFlagQueryAdapter cachingAdapter;
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        cachingAdapter = new CachingFeatureFlagQueryAdapter(
+                delegate, new TargetingEngine(new JsonLogic()), Duration.ofHours(1), Duration.ZERO, Optional.empty(), Optional.empty());
+        new FlagCacheMetrics(cachingAdapter).bindTo(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cachingAdapter.stop();
+    }
+
+    @Test
+    void bindTo_shouldReportLookupsAndSnapshotState() {
+        // Arrange
+        Flag flag = Flag.builder().name("testFlag").type(Flag.Type.BOOLEAN).build();
+        when(delegate.findChangesSince(0L)).thenReturn(Optional.of(FlagDelta.full(7L, List.of(flag))));
+        cachingAdapter.start();
+
+        // Act
+        cachingAdapter.findByFlagName("testFlag");
+        cachingAdapter.findByFlagName("testFlag");
+        cachingAdapter.findByFlagName("otherFlag");
+
+        // Assert
+        assertEquals(2.0, registry.get(FlagCacheMetrics.LOOKUPS).tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get(FlagCacheMetrics.LOOKUPS).tag("result", "miss").functionCounter().count());
+        assertEquals(1.0, registry.get(FlagCacheMetrics.SIZE).gauge().value());
+        assertEquals(7.0, registry.get(FlagCacheMetrics.VERSION).gauge().value());
+        assertEquals(1.0, registry.get(FlagCacheMetrics.REFRESH).functionTimer().count());
+        assertTrue(registry.get(FlagCacheMetrics.AGE).gauge().value() >= 0);
+    }
+
+    @Test
+    void bindTo_shouldCountFailedRefreshes() {
+        // Arrange
+        when(delegate.findChangesSince(0L)).thenThrow(new IllegalStateException("service down"));
+
+        // Act
+        cachingAdapter.start();
+
+        // Assert
+        assertEquals(1.0, registry.get(FlagCacheMetrics.REFRESH_FAILURES).functionCounter().count());
+        assertEquals(0.0, registry.get(FlagCacheMetrics.REFRESH).functionTimer().count());
+        assertEquals(0.0, registry.get(FlagCacheMetrics.SIZE).gauge().value());
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.featureflagsdkjava.infra.adapters.file;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileFlagSnapshotStoreAdapterTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void load_shouldReturnSavedSnapshot() throws IOException {
+        // Arrange
+        Path snapshotFile = directory.resolve("flags/snapshot.json");
+        FileFlagSnapshotStoreAdapter store = new FileFlagSnapshotStoreAdapter(snapshotFile);
+        Flag flag = Flag.builder()
+                        .name("testFlag")
+                        .state(Flag.State.ENABLED)
+                        .type(Flag.Type.NUMBER)
+                        .defaultVariant("low")
+                        .variants(Map.of("low", 1, "high", 2.5))
+                        .targeting("{\"==\": [{\"var\": \"plan\"}, \"pro\"]}")
+                        .build();
+        Instant loadedAt = Instant.parse("2024-01-01T10:15:30Z");
+
+        // Act
+        store.save(FlagSnapshot.of(7L, List.of(flag), loadedAt));
+        Optional<FlagSnapshot> loaded = store.load();
+
+        // Assert
+        assertTrue(loaded.isPresent());
+        assertEquals(7L, loaded.get().getVersion());
+        assertEquals(loadedAt, loaded.get().getLoadedAt());
+        assertEquals(Optional.of(flag), loaded.get().find("testFlag"));
+        try (var files = Files.list(snapshotFile.getParent())) {
+            assertEquals(List.of(snapshotFile), files.toList(), "temporary files should not be left behind");
+        }
+    }
+
+    @Test
+    void save_shouldReplacePreviousSnapshot() {
+        // Arrange
+        FileFlagSnapshotStoreAdapter store = new FileFlagSnapshotStoreAdapter(directory.resolve("snapshot.json"));
+        store.save(FlagSnapshot.of(1L, List.of(Flag.builder().name("oldFlag").build())));
+
+        // Act
+        store.save(FlagSnapshot.of(2L, List.of(Flag.builder().name("newFlag").build())));
+
+        // Assert
+        FlagSnapshot loaded = store.load().orElseThrow();
+        assertEquals(2L, loaded.getVersion());
+        assertTrue(loaded.find("oldFlag").isEmpty());
+        assertTrue(loaded.find("newFlag").isPresent());
+    }
+
+    @Test
+    void load_shouldReturnEmpty_whenFileIsMissingOrUnreadable() throws IOException {
+        // Arrange
+        Path snapshotFile = directory.resolve("snapshot.json");
+        FileFlagSnapshotStoreAdapter store = new FileFlagSnapshotStoreAdapter(snapshotFile);
+
+        // Act
+        Optional<FlagSnapshot> missing = store.load();
+        Files.writeString(snapshotFile, "{\"version\": 3, \"flags\": [");
+        Optional<FlagSnapshot> truncated = store.load();
+
+        // Assert
+        assertTrue(missing.isEmpty());
+        assertTrue(truncated.isEmpty());
+    }
+}
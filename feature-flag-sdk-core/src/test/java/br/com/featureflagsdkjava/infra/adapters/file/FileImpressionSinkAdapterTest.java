@@ -0,0 +1,35 @@
+package br.com.featureflagsdkjava.infra.adapters.file;
+
+import br.com.featureflagsdkjava.domain.model.Impression;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileImpressionSinkAdapterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void send_shouldAppendOneJsonLinePerImpression() throws Exception {
+        Path file = directory.resolve("nested/impressions.jsonl");
+        FileImpressionSinkAdapter sink = new FileImpressionSinkAdapter(file);
+        Impression first = new Impression("flagA", "user-1", "on", "TARGETING_MATCH", 1L);
+        Impression second = new Impression("flagB", null, "off", "STATIC", 2L);
+
+        sink.send(List.of(first));
+        sink.send(List.of(second));
+
+        List<String> lines = Files.readAllLines(file);
+        ObjectMapper mapper = new ObjectMapper();
+        assertEquals(2, lines.size());
+        assertEquals(first, mapper.readValue(lines.get(0), Impression.class));
+        assertEquals(second, mapper.readValue(lines.get(1), Impression.class));
+    }
+}
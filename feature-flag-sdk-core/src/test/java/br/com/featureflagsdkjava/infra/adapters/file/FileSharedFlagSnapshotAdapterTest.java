@@ -0,0 +1,82 @@
+package br.com.featureflagsdkjava.infra.adapters.file;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagSnapshot;
+import br.com.featureflagsdkjava.domain.ports.SharedFlagSnapshotPort.RefreshLease;
+import br.com.featureflagsdkjava.domain.ports.SharedFlagSnapshotPort.SharedSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileSharedFlagSnapshotAdapterTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void read_shouldReturnWhatAnotherProcessShared() {
+        // Arrange
+        Path sharedFile = directory.resolve("node/shared-snapshot.json");
+        FileSharedFlagSnapshotAdapter writer = new FileSharedFlagSnapshotAdapter(sharedFile);
+        FileSharedFlagSnapshotAdapter reader = new FileSharedFlagSnapshotAdapter(sharedFile);
+        Flag flag = Flag.builder().name("testFlag").type(Flag.Type.BOOLEAN).targeting("{\"var\": \"beta\"}").build();
+        Instant loadedAt = Instant.parse("2024-01-01T10:00:00Z");
+        Instant refreshedAt = Instant.parse("2024-01-01T10:05:00Z");
+
+        // Act
+        Optional<SharedSnapshot> missing = reader.read();
+        writer.write(FlagSnapshot.of(4L, List.of(flag), loadedAt), refreshedAt);
+        SharedSnapshot shared = reader.read().orElseThrow();
+
+        // Assert
+        assertTrue(missing.isEmpty());
+        assertEquals(4L, shared.snapshot().getVersion());
+        assertEquals(loadedAt, shared.snapshot().getLoadedAt());
+        assertEquals(refreshedAt, shared.refreshedAt());
+        assertEquals(Optional.of(flag), shared.snapshot().find("testFlag"));
+    }
+
+    @Test
+    void read_shouldParseFileAgainOnlyWhenItWasReplaced() {
+        // Arrange
+        FileSharedFlagSnapshotAdapter shared = new FileSharedFlagSnapshotAdapter(directory.resolve("shared-snapshot.json"));
+        shared.write(FlagSnapshot.of(1L, List.of(Flag.builder().name("oldFlag").build())), Instant.now());
+        SharedSnapshot first = shared.read().orElseThrow();
+
+        // Act
+        SharedSnapshot unchanged = shared.read().orElseThrow();
+        shared.write(FlagSnapshot.of(2L, List.of(Flag.builder().name("newFlag").build())), Instant.now());
+        SharedSnapshot replaced = shared.read().orElseThrow();
+
+        // Assert
+        assertSame(first, unchanged);
+        assertEquals(2L, replaced.snapshot().getVersion());
+        assertTrue(replaced.snapshot().find("newFlag").isPresent());
+    }
+
+    @Test
+    void tryAcquireRefresh_shouldGrantOneLeaseAtATime() {
+        // Arrange
+        Path sharedFile = directory.resolve("shared-snapshot.json");
+        FileSharedFlagSnapshotAdapter first = new FileSharedFlagSnapshotAdapter(sharedFile);
+        FileSharedFlagSnapshotAdapter second = new FileSharedFlagSnapshotAdapter(sharedFile);
+
+        // Act
+        Optional<RefreshLease> lease = first.tryAcquireRefresh();
+        Optional<RefreshLease> contended = second.tryAcquireRefresh();
+        lease.orElseThrow().close();
+        Optional<RefreshLease> released = second.tryAcquireRefresh();
+
+        // Assert
+        assertTrue(lease.isPresent());
+        assertTrue(contended.isEmpty());
+        assertTrue(released.isPresent());
+        released.get().close();
+    }
+}
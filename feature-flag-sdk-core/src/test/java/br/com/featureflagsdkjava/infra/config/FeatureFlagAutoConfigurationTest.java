@@ -0,0 +1,173 @@
+package br.com.featureflagsdkjava.infra.config;
+
+import br.com.featureflagsdkjava.domain.application.impressions.ImpressionMetrics;
+import br.com.featureflagsdkjava.domain.application.impressions.ImpressionPipeline;
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.ImpressionHook;
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.MetricsHook;
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.customprovider.OpenFeatureCustomProvider;
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.customprovider.ProviderReadinessPublisher;
+import br.com.featureflagsdkjava.domain.application.targeting.TargetingEngine;
+import br.com.featureflagsdkjava.domain.application.targeting.TargetingResultCacheMetrics;
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.ports.FeatureFlagQueryPort;
+import br.com.featureflagsdkjava.domain.ports.FlagSnapshotStorePort;
+import br.com.featureflagsdkjava.domain.ports.ImpressionSinkPort;
+import br.com.featureflagsdkjava.infra.adapters.cache.CachingFeatureFlagQueryAdapter;
+import br.com.featureflagsdkjava.infra.adapters.cache.FlagCacheMetrics;
+import br.com.featureflagsdkjava.infra.adapters.file.FileImpressionSinkAdapter;
+import dev.openfeature.sdk.Client;
+import dev.openfeature.sdk.FeatureProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeatureFlagAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withInitializer(context -> context.getBeanFactory()
+                                               .setConversionService(ApplicationConversionService.getSharedInstance()))
+            .withConfiguration(AutoConfigurations.of(FeatureFlagAutoConfiguration.class))
+            .withPropertyValues("feature.flag.cache.refresh-interval=1h");
+
+    @Test
+    void shouldPutFlagCacheInFrontOfTheConfiguredSource() {
+        contextRunner.withUserConfiguration(InMemorySourceConfig.class).run(context -> {
+            assertInstanceOf(CachingFeatureFlagQueryAdapter.class, context.getBean(FeatureFlagQueryPort.class));
+            assertInstanceOf(OpenFeatureCustomProvider.class, context.getBean(FeatureProvider.class));
+            assertNotNull(context.getBean(Client.class));
+            assertTrue(context.getBean(FeatureFlagQueryPort.class).findByFlagName("testFlag").isPresent());
+            assertTrue(context.getBeansOfType(FlagSnapshotStorePort.class).isEmpty());
+            assertTrue(context.getBean(OpenFeatureCustomProvider.class).readiness().isReady());
+            assertNotNull(context.getBean(ProviderReadinessPublisher.class));
+        });
+    }
+
+    @Test
+    void shouldLetTheApplicationAcceptTraffic_whenTheProviderIsWarm() {
+        contextRunner.withUserConfiguration(InMemorySourceConfig.class)
+                     .withBean(ApplicationAvailabilityBean.class)
+                     .run(context -> {
+                         AvailabilityChangeEvent.publish(context, ReadinessState.ACCEPTING_TRAFFIC);
+                         assertEquals(ReadinessState.ACCEPTING_TRAFFIC,
+                                      context.getBean(ApplicationAvailability.class).getReadinessState());
+                     });
+    }
+
+    @Test
+    void shouldNotTieReadinessToTheProvider_whenDisabled() {
+        contextRunner.withUserConfiguration(InMemorySourceConfig.class)
+                     .withPropertyValues("feature.flag.provider.readiness.enabled=false")
+                     .run(context -> assertTrue(context.getBeansOfType(ProviderReadinessPublisher.class).isEmpty()));
+    }
+
+    @Test
+    void shouldUseSourceDirectly_whenCacheIsDisabled() {
+        contextRunner.withUserConfiguration(InMemorySourceConfig.class)
+                     .withPropertyValues("feature.flag.cache.enabled=false")
+                     .run(context -> {
+                         assertTrue(context.getBeansOfType(CachingFeatureFlagQueryAdapter.class).isEmpty());
+                         assertNotNull(context.getBean(FeatureProvider.class));
+                     });
+    }
+
+    @Test
+    void shouldNotRegisterProvider_whenNoSourceIsConfigured() {
+        contextRunner.run(context -> {
+            assertTrue(context.getBeansOfType(FeatureFlagQueryPort.class).isEmpty());
+            assertTrue(context.getBeansOfType(FeatureProvider.class).isEmpty());
+        });
+    }
+
+    @Test
+    void shouldRegisterMetrics_whenMeterRegistryIsAvailable() {
+        contextRunner.withUserConfiguration(InMemorySourceConfig.class, MeterRegistryConfig.class).run(context -> {
+            assertNotNull(context.getBean(MetricsHook.class));
+            assertNotNull(context.getBean(FlagCacheMetrics.class));
+            assertNotNull(context.getBean(TargetingResultCacheMetrics.class));
+            assertTrue(context.getBean(TargetingEngine.class).resultCache().isPresent());
+            assertTrue(context.getBean(Client.class).getHooks().contains(context.getBean(MetricsHook.class)));
+            assertFalse(context.containsBean("flagLoggingHook"));
+        });
+    }
+
+    @Test
+    void shouldRegisterLoggingHook_whenLoggingIsEnabled() {
+        contextRunner.withUserConfiguration(InMemorySourceConfig.class)
+                     .withPropertyValues("feature.flag.logging.enabled=true", "feature.flag.logging.sample-rate=0.1")
+                     .run(context -> {
+                         assertTrue(context.getBeansOfType(MetricsHook.class).isEmpty());
+                         assertTrue(context.getBean(Client.class).getHooks().contains(context.getBean("flagLoggingHook")));
+                     });
+    }
+
+    @Test
+    void shouldRecordImpressions_whenEnabledWithAFileSink() {
+        contextRunner.withUserConfiguration(InMemorySourceConfig.class, MeterRegistryConfig.class)
+                     .withPropertyValues("feature.flag.impressions.enabled=true", "feature.flag.impressions.sink=file",
+                             "feature.flag.impressions.file.path=${java.io.tmpdir}/feature-flags-test/impressions.jsonl")
+                     .run(context -> {
+                         assertInstanceOf(FileImpressionSinkAdapter.class, context.getBean(ImpressionSinkPort.class));
+                         assertNotNull(context.getBean(ImpressionPipeline.class));
+                         assertNotNull(context.getBean(ImpressionMetrics.class));
+                         assertTrue(context.getBean(Client.class).getHooks().contains(context.getBean(ImpressionHook.class)));
+                     });
+    }
+
+    @Test
+    void shouldNotRecordImpressions_withoutASink() {
+        contextRunner.withUserConfiguration(InMemorySourceConfig.class)
+                     .withPropertyValues("feature.flag.impressions.enabled=true")
+                     .run(context -> {
+                         assertTrue(context.getBeansOfType(ImpressionPipeline.class).isEmpty());
+                         assertTrue(context.getBeansOfType(ImpressionHook.class).isEmpty());
+                     });
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class MeterRegistryConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class InMemorySourceConfig {
+
+        @Bean
+        FeatureFlagQueryPort inMemoryFlagSource() {
+            Flag flag = Flag.builder().name("testFlag").type(Flag.Type.BOOLEAN).build();
+            return new FeatureFlagQueryPort() {
+                @Override
+                public List<Flag> findAll() {
+                    return List.of(flag);
+                }
+
+                @Override
+                public List<Flag> findFlagsByType(Flag.Type flagType) {
+                    return List.of(flag);
+                }
+
+                @Override
+                public Optional<Flag> findByFlagName(String flagName) {
+                    return Optional.of(flag).filter(f -> f.getName().equals(flagName));
+                }
+            };
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package br.com.featureflagsdkjava.infra.config;
 
-import br.com.featureflagsdkjava.infra.adapters.http.FeatureFlagServiceProxy;
-import br.com.featureflagsdkjava.infra.adapters.http.HttpInterfaceConfig;
+import br.com.featureflagsdkjava.domain.application.targeting.TargetingEngine;
 import io.github.jamsesso.jsonlogic.JsonLogic;
 import org.junit.jupiter.api.Test;
 
@@ -14,4 +13,11 @@ class JsonLogicConfigTest {
         JsonLogic jsonLogic = new JsonLogicConfig().buildJsonLogicBean();
         assertNotNull(jsonLogic);
     }
+
+    @Test
+    void shouldReturnTargetingEngineBean() {
+        JsonLogicConfig config = new JsonLogicConfig();
+        TargetingEngine targetingEngine = config.buildTargetingEngineBean(config.buildJsonLogicBean());
+        assertNotNull(targetingEngine);
+    }
 }
\ No newline at end of file
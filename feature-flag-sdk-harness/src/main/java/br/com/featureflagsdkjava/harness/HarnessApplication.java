@@ -0,0 +1,44 @@
+package br.com.featureflagsdkjava.harness;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Application the load runs against: the SDK wired by its own auto-configuration to the stub flag service, with the
+ * real {@code WebClient} (or {@code RestClient}) calls, flag cache, circuit breaker and fallbacks.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+public class HarnessApplication {
+
+    /**
+     * Starts the application against {@code serviceUrl}. The defaults refresh the flag cache every second and open
+     * the circuit breaker after a few failed lookups, so short runs see both; any of them can be overridden through
+     * {@code args} ({@code --name=value}) or system properties. SDK logging is off, since every lookup that falls
+     * back during an outage logs an error.
+     */
+    public static ConfigurableApplicationContext start(String serviceUrl, String... args) {
+        Map<String, Object> defaults = new HashMap<>();
+        defaults.put("feature.flag.service.url", serviceUrl);
+        defaults.put("feature.flag.cache.refresh-interval", "1s");
+        defaults.put("feature.flag.cache.refresh-jitter", "0s");
+        defaults.put("resilience4j.circuitbreaker.instances.featureFlagServiceImpl.sliding-window-size", "20");
+        defaults.put("resilience4j.circuitbreaker.instances.featureFlagServiceImpl.minimum-number-of-calls", "10");
+        defaults.put("resilience4j.circuitbreaker.instances.featureFlagServiceImpl.failure-rate-threshold", "50");
+        defaults.put("resilience4j.circuitbreaker.instances.featureFlagServiceImpl.wait-duration-in-open-state", "2s");
+        defaults.put("logging.level.br.com.featureflagsdkjava", "off");
+
+        return new SpringApplicationBuilder(HarnessApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(defaults)
+                .properties("spring.main.banner-mode=off")
+                .run(args);
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.featureflagsdkjava.harness;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import dev.openfeature.sdk.EvaluationContext;
+import dev.openfeature.sdk.ImmutableContext;
+import dev.openfeature.sdk.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Boolean flags served by the stub flag service: a third without targeting, a third with a rule on the context and
+ * a third rolled out to a percentage of users, so a run goes through every evaluation path.
+ */
+public final class HarnessFlags {
+
+    private static final String LOCALE_RULE = "{ \"if\": [ { \"in\": [ { \"var\": \"locale\" }, [ \"br\", \"ca\" ] ] }, \"on\", \"off\" ] }";
+    private static final String ROLLOUT_RULE = "{ \"fractional\": [ [\"on\", 10], [\"off\", 90] ] }";
+    private static final String[] LOCALES = {"br", "ca", "us", "pt"};
+
+    private HarnessFlags() {}
+
+    public static List<Flag> generate(int count) {
+        List<Flag> flags = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String targeting = switch (i % 3) {
+                case 1 -> LOCALE_RULE;
+                case 2 -> ROLLOUT_RULE;
+                default -> null;
+            };
+            flags.add(Flag.builder()
+                          .id((long) i)
+                          .name(name(i))
+                          .type(Flag.Type.BOOLEAN)
+                          .state(Flag.State.ENABLED)
+                          .defaultVariant("off")
+                          .variants(Map.of("on", true, "off", false))
+                          .targeting(targeting)
+                          .build());
+        }
+        return flags;
+    }
+
+    public static String name(int index) {
+        return "harness-flag-" + index;
+    }
+
+    /**
+     * @return the context of user number {@code user}, with one of a few locales
+     */
+    public static EvaluationContext context(int user) {
+        return new ImmutableContext("user-" + user, Map.of("locale", new Value(LOCALES[user % LOCALES.length])));
+    }
+}
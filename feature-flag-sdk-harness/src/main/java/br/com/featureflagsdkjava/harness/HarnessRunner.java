@@ -0,0 +1,77 @@
+package br.com.featureflagsdkjava.harness;
+
+import dev.openfeature.sdk.Client;
+import dev.openfeature.sdk.OpenFeatureAPI;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Entry point of {@code harness.jar}. Starts a {@link StubFlagServer}, the SDK against it, then runs the same
+ * {@link LoadPlan} once per thread count and prints a row of {@link LoadResult} for each. Options, as
+ * {@code --name=value}:
+ * <ul>
+ *     <li>{@code flags} (1000): size of the flag set</li>
+ *     <li>{@code latency} (5ms) and {@code error-rate} (0): injected into every flag service request</li>
+ *     <li>{@code threads} (1,4,16,64): thread counts to run with</li>
+ *     <li>{@code duration} (10s) and {@code warm-up} (5s, with the highest thread count, not reported)</li>
+ *     <li>{@code outage}: {@code <start>+<length>} flag service outages in every run, comma separated</li>
+ *     <li>{@code unknown-flag-rate} (0.01) and {@code users} (10000), see {@link LoadPlan}</li>
+ * </ul>
+ * Every argument is also handed to Spring, so SDK settings such as {@code --feature.flag.service.client=rest-client}
+ * apply too.
+ */
+public final class HarnessRunner {
+
+    private HarnessRunner() {}
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = options(args);
+        int flagCount = Integer.parseInt(options.getOrDefault("flags", "1000"));
+        Duration latency = DurationStyle.detectAndParse(options.getOrDefault("latency", "5ms"));
+        double errorRate = Double.parseDouble(options.getOrDefault("error-rate", "0"));
+        int[] threadCounts = Arrays.stream(options.getOrDefault("threads", "1,4,16,64").split(","))
+                                   .map(String::trim).mapToInt(Integer::parseInt).toArray();
+        List<LoadPlan.Outage> outages = new ArrayList<>();
+        for (String outage : options.getOrDefault("outage", "").split(",")) {
+            if (!outage.isBlank()) outages.add(LoadPlan.Outage.parse(outage));
+        }
+        LoadPlan plan = new LoadPlan(1, DurationStyle.detectAndParse(options.getOrDefault("duration", "10s")), outages,
+                Double.parseDouble(options.getOrDefault("unknown-flag-rate", "0.01")),
+                Integer.parseInt(options.getOrDefault("users", "10000")));
+        Duration warmUp = DurationStyle.detectAndParse(options.getOrDefault("warm-up", "5s"));
+
+        try (StubFlagServer server = StubFlagServer.start(HarnessFlags.generate(flagCount))
+                                                   .latency(latency)
+                                                   .errorRate(errorRate);
+             ConfigurableApplicationContext context = HarnessApplication.start(server.url(), args)) {
+            LoadDriver driver = new LoadDriver(context.getBean(Client.class), server, flagCount);
+            System.out.printf("flags=%d latency=%s error-rate=%s duration=%s outages=%s unknown-flag-rate=%s%n",
+                    flagCount, latency, errorRate, plan.duration(), outages, plan.unknownFlagRate());
+
+            if (!warmUp.isZero()) {
+                driver.run(new LoadPlan(Arrays.stream(threadCounts).max().orElse(1), warmUp, List.of(),
+                        plan.unknownFlagRate(), plan.users()));
+            }
+            System.out.println(LoadResult.header());
+            for (int threads : threadCounts) {
+                System.out.println(driver.run(plan.withThreads(threads)).row());
+            }
+        } finally {
+            OpenFeatureAPI.getInstance().shutdown();
+        }
+    }
+
+    private static Map<String, String> options(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            int separator = arg.indexOf('=');
+            if (separator < 0) throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,144 @@
+package br.com.featureflagsdkjava.harness;
+
+import dev.openfeature.sdk.Client;
+import dev.openfeature.sdk.ErrorCode;
+import dev.openfeature.sdk.EvaluationContext;
+import dev.openfeature.sdk.FlagEvaluationDetails;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluates the {@link HarnessFlags} through an OpenFeature {@link Client} from several threads at once, records
+ * the latency of every evaluation in an HdrHistogram and counts the requests the {@link StubFlagServer} behind the
+ * client received meanwhile. Outages of the plan are injected into the server while the threads run.
+ */
+public final class LoadDriver {
+
+    private static final long HIGHEST_LATENCY = TimeUnit.SECONDS.toNanos(60);
+    private static final int UNKNOWN_FLAGS = 1_000;
+
+    private final Client client;
+    private final StubFlagServer server;
+    private final int flagCount;
+
+    public LoadDriver(Client client, StubFlagServer server, int flagCount) {
+        this.client = client;
+        this.server = server;
+        this.flagCount = flagCount;
+    }
+
+    public LoadResult run(LoadPlan plan) throws InterruptedException {
+        List<Caller> callers = new ArrayList<>(plan.threads());
+        CountDownLatch started = new CountDownLatch(1);
+        for (int i = 0; i < plan.threads(); i++) callers.add(new Caller(plan, started, i));
+
+        ScheduledExecutorService outages = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "load-driver-outages");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long requestsBefore = server.requests();
+        long failuresBefore = server.failures();
+        long begin = System.nanoTime();
+        long deadline = begin + plan.duration().toNanos();
+        try {
+            for (LoadPlan.Outage outage : plan.outages()) {
+                outages.schedule(() -> server.outage(true), outage.start().toNanos(), TimeUnit.NANOSECONDS);
+                outages.schedule(() -> server.outage(false),
+                        outage.start().plus(outage.length()).toNanos(), TimeUnit.NANOSECONDS);
+            }
+            for (Caller caller : callers) caller.start(deadline);
+            started.countDown();
+            for (Caller caller : callers) caller.thread.join();
+        } finally {
+            outages.shutdownNow();
+            server.outage(false);
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        Histogram latencies = new Histogram(HIGHEST_LATENCY, 3);
+        long evaluations = 0, errors = 0, outageEvaluations = 0, outageErrors = 0;
+        for (Caller caller : callers) {
+            latencies.add(caller.latencies);
+            evaluations += caller.evaluations;
+            errors += caller.errors;
+            outageEvaluations += caller.outageEvaluations;
+            outageErrors += caller.outageErrors;
+        }
+        return new LoadResult(plan.threads(), Duration.ofNanos(elapsed), evaluations, errors,
+                outageEvaluations, outageErrors,
+                micros(latencies.getValueAtPercentile(50)), micros(latencies.getValueAtPercentile(99)),
+                micros(latencies.getValueAtPercentile(99.9)), micros(latencies.getMaxValue()),
+                server.requests() - requestsBefore, server.failures() - failuresBefore);
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1_000.0;
+    }
+
+    /**
+     * One calling thread. Its counters are only read after the thread was joined.
+     */
+    private final class Caller {
+
+        private final LoadPlan plan;
+        private final CountDownLatch started;
+        private final Thread thread;
+        private final Histogram latencies = new Histogram(HIGHEST_LATENCY, 3);
+        private long deadline;
+        private long evaluations;
+        private long errors;
+        private long outageEvaluations;
+        private long outageErrors;
+
+        private Caller(LoadPlan plan, CountDownLatch started, int index) {
+            this.plan = plan;
+            this.started = started;
+            this.thread = new Thread(this::call, "load-driver-" + index);
+        }
+
+        private void start(long deadline) {
+            this.deadline = deadline;
+            thread.start();
+        }
+
+        private void call() {
+            try {
+                started.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (System.nanoTime() < deadline) {
+                boolean unknown = random.nextDouble() < plan.unknownFlagRate();
+                String flagName = unknown
+                        ? "unknown-flag-" + random.nextInt(UNKNOWN_FLAGS)
+                        : HarnessFlags.name(random.nextInt(flagCount));
+                EvaluationContext context = HarnessFlags.context(random.nextInt(plan.users()));
+                boolean outage = server.isInOutage();
+
+                long start = System.nanoTime();
+                FlagEvaluationDetails<Boolean> details = client.getBooleanDetails(flagName, false, context);
+                latencies.recordValue(Math.min(System.nanoTime() - start, HIGHEST_LATENCY));
+
+                boolean failed = details.getErrorCode() != null
+                        && !(unknown && details.getErrorCode() == ErrorCode.FLAG_NOT_FOUND);
+                evaluations++;
+                if (failed) errors++;
+                if (outage) {
+                    outageEvaluations++;
+                    if (failed) outageErrors++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.featureflagsdkjava.harness;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * One load run: {@code threads} callers evaluate flags back to back for {@code duration}, while the flag service is
+ * taken down during each of the {@code outages}.
+ *
+ * @param unknownFlagRate fraction of evaluations, from 0 to 1, asking for a flag the service does not have; those
+ *                        are looked up by name past the snapshot, through the circuit breaker
+ * @param users           number of distinct targeting keys the evaluation contexts are drawn from
+ */
+public record LoadPlan(int threads, Duration duration, List<Outage> outages, double unknownFlagRate, int users) {
+
+    public LoadPlan {
+        if (threads < 1) throw new IllegalArgumentException("threads must be positive: " + threads);
+        if (users < 1) throw new IllegalArgumentException("users must be positive: " + users);
+        outages = List.copyOf(outages);
+    }
+
+    public LoadPlan withThreads(int threads) {
+        return new LoadPlan(threads, duration, outages, unknownFlagRate, users);
+    }
+
+    /**
+     * The flag service answers 503 from {@code start} after the run began, for {@code length}.
+     */
+    public record Outage(Duration start, Duration length) {
+
+        /**
+         * Parses {@code <start>+<length>}, e.g. {@code 10s+5s}.
+         */
+        public static Outage parse(String value) {
+            int separator = value.indexOf('+');
+            if (separator < 0) throw new IllegalArgumentException("Outage must be <start>+<length>: " + value);
+            return new Outage(DurationStyle.detectAndParse(value.substring(0, separator).trim()),
+                    DurationStyle.detectAndParse(value.substring(separator + 1).trim()));
+        }
+    }
+}
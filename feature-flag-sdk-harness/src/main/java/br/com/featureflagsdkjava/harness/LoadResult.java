@@ -0,0 +1,47 @@
+package br.com.featureflagsdkjava.harness;
+
+import java.time.Duration;
+
+/**
+ * Outcome of one {@link LoadPlan}. Latencies are in microseconds, measured around each {@code getBooleanDetails}
+ * call; errors are evaluations that came back with an error code, not counting {@code FLAG_NOT_FOUND} for the flags
+ * the plan asked for on purpose.
+ *
+ * @param outageEvaluations evaluations started while the flag service was down
+ * @param outageErrors      errors among {@code outageEvaluations}
+ * @param serviceRequests   requests the flag service received during the run
+ * @param serviceFailures   of which answered with an injected 500 or 503
+ */
+public record LoadResult(int threads, Duration elapsed, long evaluations, long errors,
+                         long outageEvaluations, long outageErrors,
+                         double p50, double p99, double p999, double max,
+                         long serviceRequests, long serviceFailures) {
+
+    public double evaluationsPerSecond() {
+        return perSecond(evaluations);
+    }
+
+    public double serviceRequestsPerSecond() {
+        return perSecond(serviceRequests);
+    }
+
+    public static String header() {
+        return String.format("%7s %12s %10s %10s %10s %10s %8s %8s %12s %10s",
+                "threads", "evals/s", "p50 us", "p99 us", "p999 us", "max us", "errors", "outage", "service qps", "failed");
+    }
+
+    /**
+     * One row of the table {@link #header()} heads; {@code outage} shows errors over evaluations during outages.
+     */
+    public String row() {
+        return String.format("%7d %12.0f %10.1f %10.1f %10.1f %10.1f %8d %8s %12.1f %10d",
+                threads, evaluationsPerSecond(), p50, p99, p999, max, errors,
+                outageEvaluations == 0 ? "-" : outageErrors + "/" + outageEvaluations,
+                serviceRequestsPerSecond(), serviceFailures);
+    }
+
+    private double perSecond(long count) {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : count * 1e9 / nanos;
+    }
+}
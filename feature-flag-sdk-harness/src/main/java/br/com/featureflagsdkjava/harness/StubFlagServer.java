@@ -0,0 +1,275 @@
+package br.com.featureflagsdkjava.harness;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagDelta;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process flag service answering the endpoints {@code FeatureFlagServiceProxy} calls: {@code GET /flags} (full,
+ * conditional, {@code ?since=} and {@code ?name=}), {@code GET /flags/byType}, {@code GET /flags/{flagName}} and
+ * {@code POST /impressions}. Runs on the JDK HTTP server, on a random local port.
+ * <p>
+ * Failures are injected per request: every request waits {@link #latency(Duration)} before it is answered, a
+ * {@link #errorRate(double)} fraction of them fails with 500, and during an {@link #outage(boolean)} every request
+ * fails with 503 straight away. All of them can be changed while the server runs.
+ */
+@Slf4j
+public final class StubFlagServer implements AutoCloseable {
+
+    public static final String SNAPSHOT_VERSION_HEADER = "X-Flags-Version";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+
+    private volatile Catalog catalog;
+    private volatile Duration latency = Duration.ZERO;
+    private volatile double errorRate;
+    private volatile boolean outage;
+
+    private StubFlagServer(List<Flag> flags) throws IOException {
+        this.catalog = catalog(1, flags);
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "stub-flag-server-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+    }
+
+    /**
+     * Starts a server holding {@code flags}.
+     */
+    public static StubFlagServer start(List<Flag> flags) throws IOException {
+        StubFlagServer stub = new StubFlagServer(flags);
+        stub.server.start();
+        return stub;
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public StubFlagServer latency(Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * @param errorRate fraction of requests, from 0 to 1, answered with 500
+     */
+    public StubFlagServer errorRate(double errorRate) {
+        this.errorRate = errorRate;
+        return this;
+    }
+
+    public StubFlagServer outage(boolean outage) {
+        this.outage = outage;
+        return this;
+    }
+
+    public boolean isInOutage() {
+        return outage;
+    }
+
+    /**
+     * Replaces the flag set; the snapshot version and ETag change, so the next conditional read gets the new flags.
+     */
+    public void flags(List<Flag> flags) {
+        catalog = catalog(catalog.version() + 1, flags);
+    }
+
+    public List<Flag> flags() {
+        return List.copyOf(catalog.flags().values());
+    }
+
+    public long version() {
+        return catalog.version();
+    }
+
+    /**
+     * @return requests received so far, failed ones included
+     */
+    public long requests() {
+        return requests.sum();
+    }
+
+    /**
+     * @return requests answered with an injected 500 or 503
+     */
+    public long failures() {
+        return failures.sum();
+    }
+
+    /**
+     * @return conditional reads answered with 304
+     */
+    public long notModified() {
+        return notModified.sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.increment();
+        try (InputStream body = exchange.getRequestBody()) {
+            body.transferTo(OutputStream.nullOutputStream());
+            if (outage) {
+                fail(exchange, 503);
+                return;
+            }
+            pause();
+            double rate = errorRate;
+            if (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate) {
+                fail(exchange, 500);
+                return;
+            }
+            route(exchange);
+        } catch (IllegalArgumentException e) {
+            log.debug("Bad request {}: {}", exchange.getRequestURI(), e.getMessage());
+            send(exchange, 400, null, null);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        Map<String, List<String>> query = query(exchange.getRequestURI().getRawQuery());
+        Catalog current = catalog;
+
+        if (method.equals("POST") && path.equals("/impressions")) {
+            send(exchange, 202, null, null);
+        } else if (!method.equals("GET")) {
+            send(exchange, 405, null, null);
+        } else if (path.equals("/flags")) {
+            flags(exchange, current, query);
+        } else if (path.equals("/flags/byType")) {
+            Flag.Type type = Flag.Type.valueOf(first(query, "flagType").toUpperCase(Locale.ROOT));
+            send(exchange, 200, null, mapper.writeValueAsBytes(
+                    current.flags().values().stream().filter(flag -> flag.getType() == type).toList()));
+        } else if (path.startsWith("/flags/")) {
+            Flag flag = current.flags().get(URLDecoder.decode(path.substring("/flags/".length()), StandardCharsets.UTF_8));
+            if (flag == null) {
+                send(exchange, 404, null, null);
+            } else {
+                send(exchange, 200, null, mapper.writeValueAsBytes(flag));
+            }
+        } else {
+            send(exchange, 404, null, null);
+        }
+    }
+
+    private void flags(HttpExchange exchange, Catalog current, Map<String, List<String>> query) throws IOException {
+        List<String> names = query.get("name");
+        if (names != null) {
+            send(exchange, 200, null, mapper.writeValueAsBytes(
+                    names.stream().map(current.flags()::get).filter(Objects::nonNull).toList()));
+            return;
+        }
+
+        if (current.eTag().equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            notModified.increment();
+            send(exchange, 304, current, null);
+        } else if (query.containsKey("since")) {
+            FlagDelta delta = FlagDelta.full(current.version(), List.copyOf(current.flags().values()));
+            send(exchange, 200, current, mapper.writeValueAsBytes(delta));
+        } else {
+            send(exchange, 200, current, current.body());
+        }
+    }
+
+    private void pause() {
+        long nanos = latency.toNanos();
+        if (nanos <= 0) return;
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void fail(HttpExchange exchange, int status) throws IOException {
+        failures.increment();
+        send(exchange, status, null, null);
+    }
+
+    private static void send(HttpExchange exchange, int status, Catalog versioned, byte[] body) throws IOException {
+        if (versioned != null) {
+            exchange.getResponseHeaders().set("ETag", versioned.eTag());
+            exchange.getResponseHeaders().set(SNAPSHOT_VERSION_HEADER, Long.toString(versioned.version()));
+        }
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private static Map<String, List<String>> query(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) return Map.of();
+        Map<String, List<String>> parameters = new HashMap<>();
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = URLDecoder.decode(separator < 0 ? pair : pair.substring(0, separator), StandardCharsets.UTF_8);
+            String value = separator < 0 ? "" : URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+            List<String> values = parameters.computeIfAbsent(name, key -> new ArrayList<>());
+            for (String item : value.split(",")) values.add(item);
+        }
+        return parameters;
+    }
+
+    private static String first(Map<String, List<String>> query, String name) {
+        List<String> values = query.get(name);
+        if (values == null || values.isEmpty()) throw new IllegalArgumentException("Missing " + name);
+        return values.get(0);
+    }
+
+    private Catalog catalog(long version, List<Flag> flags) {
+        Map<String, Flag> byName = new LinkedHashMap<>();
+        for (Flag flag : flags) byName.put(flag.getName(), flag);
+        try {
+            return new Catalog(version, "\"v" + version + "\"", Collections.unmodifiableMap(byName),
+                    mapper.writeValueAsBytes(byName.values()));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Flags cannot be serialized", e);
+        }
+    }
+
+    /**
+     * One version of the flag set, with its {@code GET /flags} body serialized once.
+     */
+    private record Catalog(long version, String eTag, Map<String, Flag> flags, byte[] body) {}
+}
@@ -0,0 +1,82 @@
+package br.com.featureflagsdkjava.harness;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.infra.adapters.http.FeatureFlagServiceProxy;
+import dev.openfeature.sdk.Client;
+import dev.openfeature.sdk.OpenFeatureAPI;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HarnessApplicationTest {
+
+    private static final int FLAGS = 50;
+
+    private static StubFlagServer server;
+    private static ConfigurableApplicationContext context;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        server = StubFlagServer.start(HarnessFlags.generate(FLAGS)).latency(Duration.ofMillis(2));
+        context = HarnessApplication.start(server.url(), "--feature.flag.cache.refresh-interval=100ms");
+    }
+
+    @AfterAll
+    static void tearDown() {
+        context.close();
+        OpenFeatureAPI.getInstance().shutdown();
+        server.close();
+    }
+
+    @Test
+    void shouldAnswerEveryServiceClientCall() {
+        FeatureFlagServiceProxy serviceClient = context.getBean(FeatureFlagServiceProxy.class);
+        int flags = server.flags().size();
+
+        assertEquals(flags, serviceClient.findAll().size());
+        assertEquals(flags, serviceClient.findFlagsByType(Flag.Type.BOOLEAN).size());
+        assertTrue(serviceClient.findFlagsByType(Flag.Type.STRING).isEmpty());
+        assertEquals("harness-flag-7", serviceClient.findByFlagName("harness-flag-7").getName());
+        assertEquals(2, serviceClient.findByFlagNames(List.of("harness-flag-1", "harness-flag-2", "missing")).size());
+        assertTrue(serviceClient.findChangesSince(1, null).getBody().isFull());
+    }
+
+    @Test
+    void shouldKeepServingTheSnapshot_whenTheFlagServiceIsDown() throws Exception {
+        LoadDriver driver = new LoadDriver(context.getBean(Client.class), server, FLAGS);
+        LoadPlan plan = new LoadPlan(4, Duration.ofMillis(1500),
+                List.of(new LoadPlan.Outage(Duration.ofMillis(300), Duration.ofMillis(700))), 0.01, 1_000);
+
+        LoadResult result = driver.run(plan);
+
+        assertTrue(result.evaluations() > 0);
+        assertTrue(result.outageEvaluations() > 0);
+        assertEquals(0, result.errors());
+        assertTrue(result.serviceRequests() > 0);
+        assertTrue(result.serviceFailures() > 0);
+        assertTrue(result.p50() <= result.p99() && result.p99() <= result.p999() && result.p999() <= result.max());
+        assertFalse(server.isInOutage());
+    }
+
+    @Test
+    void shouldPickUpFlagChanges_throughConditionalRefreshes() throws Exception {
+        Client client = context.getBean(Client.class);
+        assertFalse(client.getBooleanValue("harness-flag-" + FLAGS, false));
+
+        server.flags(HarnessFlags.generate(FLAGS + 1));
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (client.getBooleanDetails("harness-flag-" + FLAGS, true).getErrorCode() != null
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        assertNull(client.getBooleanDetails("harness-flag-" + FLAGS, true).getErrorCode());
+        assertTrue(server.notModified() > 0);
+    }
+}
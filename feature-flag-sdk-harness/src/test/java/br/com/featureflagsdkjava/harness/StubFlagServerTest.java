@@ -0,0 +1,85 @@
+package br.com.featureflagsdkjava.harness;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StubFlagServerTest {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private StubFlagServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = StubFlagServer.start(HarnessFlags.generate(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void shouldServeFlagEndpoints() throws Exception {
+        HttpResponse<String> all = get("/flags", null);
+        assertEquals(200, all.statusCode());
+        assertEquals(5, mapper.readTree(all.body()).size());
+        assertEquals("1", all.headers().firstValue(StubFlagServer.SNAPSHOT_VERSION_HEADER).orElseThrow());
+
+        assertEquals(5, mapper.readTree(get("/flags/byType?flagType=BOOLEAN", null).body()).size());
+        assertEquals(2, mapper.readTree(get("/flags?name=harness-flag-1&name=harness-flag-3&name=missing", null).body()).size());
+        assertEquals("harness-flag-2", mapper.readTree(get("/flags/harness-flag-2", null).body()).get("name").asText());
+        assertEquals(404, get("/flags/missing", null).statusCode());
+    }
+
+    @Test
+    void shouldAnswerNotModified_untilFlagsChange() throws Exception {
+        String eTag = get("/flags", null).headers().firstValue("ETag").orElseThrow();
+
+        assertEquals(304, get("/flags", eTag).statusCode());
+        assertEquals(304, get("/flags?since=1", eTag).statusCode());
+
+        server.flags(HarnessFlags.generate(7));
+        HttpResponse<String> delta = get("/flags?since=1", eTag);
+        JsonNode body = mapper.readTree(delta.body());
+        assertEquals(200, delta.statusCode());
+        assertTrue(body.get("full").asBoolean());
+        assertEquals(2, body.get("version").asLong());
+        assertEquals(7, body.get("flags").size());
+        assertEquals(2, server.notModified());
+    }
+
+    @Test
+    void shouldInjectOutagesErrorsAndLatency() throws Exception {
+        server.outage(true);
+        assertEquals(503, get("/flags", null).statusCode());
+
+        server.outage(false).errorRate(1);
+        assertEquals(500, get("/flags", null).statusCode());
+
+        server.errorRate(0).latency(Duration.ofMillis(50));
+        long start = System.nanoTime();
+        assertEquals(200, get("/flags", null).statusCode());
+        assertTrue(System.nanoTime() - start >= Duration.ofMillis(50).toNanos());
+
+        assertEquals(3, server.requests());
+        assertEquals(2, server.failures());
+    }
+
+    private HttpResponse<String> get(String path, String eTag) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(server.url() + path));
+        if (eTag != null) request.header("If-None-Match", eTag);
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.featureflagsdkjava.infra.adapters.http;
+
+import br.com.featureflagsdkjava.domain.ports.FeatureFlagQueryPort;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Registers the flag service as the flag source when {@code feature.flag.service.url} is set, and as the impression
+ * sink when {@code feature.flag.impressions.sink=http}.
+ */
+@AutoConfiguration(beforeName = "br.com.featureflagsdkjava.infra.config.FeatureFlagAutoConfiguration")
+@ConditionalOnClass(WebClient.class)
+@ConditionalOnProperty(prefix = "feature.flag.service", name = "url")
+@ConditionalOnMissingBean(FeatureFlagQueryPort.class)
+@Import({HttpInterfaceConfig.class, RestFeatureFlagQueryAdapter.class, ReactiveRestFeatureFlagQueryAdapter.class,
+        HttpImpressionSinkAdapter.class})
+public class FeatureFlagHttpAutoConfiguration {}
@@ -0,0 +1,76 @@
+package br.com.featureflagsdkjava.infra.adapters.http;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagDelta;
+import br.com.featureflagsdkjava.domain.model.Impression;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.service.annotation.GetExchange;
+import org.springframework.web.service.annotation.PostExchange;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Blocking view of the flag service endpoints, backed by {@code WebClient} or {@code RestClient} depending on
+ * {@code feature.flag.service.client}.
+ */
+public interface FeatureFlagServiceProxy {
+    @GetExchange("/flags")
+    List<Flag> findAll();
+
+    /**
+     * Conditional variant of {@link #findAll()}; the service answers 304 with no body when the ETag still matches.
+     */
+    @GetExchange("/flags")
+    ResponseEntity<List<Flag>> findAllIfNoneMatch(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String eTag);
+
+    /**
+     * Flags changed or deleted after the given snapshot version.
+     */
+    @GetExchange("/flags")
+    ResponseEntity<FlagDelta> findChangesSince(
+            @RequestParam("since") long version,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String eTag);
+
+    /**
+     * Conditional {@code GET /flags} returning the raw body, in the encoding negotiated through {@code Accept}; read
+     * with {@link FlagStreamReader}.
+     */
+    @GetExchange("/flags")
+    ResponseEntity<byte[]> findAllEncoded(
+            @RequestHeader(HttpHeaders.ACCEPT) String accept,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String eTag);
+
+    /**
+     * Raw-body variant of {@link #findChangesSince}, in the encoding negotiated through {@code Accept}.
+     */
+    @GetExchange("/flags")
+    ResponseEntity<byte[]> findChangesSinceEncoded(
+            @RequestParam("since") long version,
+            @RequestHeader(HttpHeaders.ACCEPT) String accept,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String eTag);
+
+    @GetExchange("/flags/byType")
+    List<Flag> findFlagsByType(@RequestParam("flagType") Flag.Type flagType);
+
+    @GetExchange("/flags/{flagName}")
+    Flag findByFlagName(@PathVariable("flagName") String flagName);
+
+    /**
+     * The named flags that exist; names the service does not know are left out of the response.
+     */
+    @GetExchange("/flags")
+    List<Flag> findByFlagNames(@RequestParam("name") Collection<String> flagNames);
+
+    /**
+     * Hands a batch of impressions to the flag service.
+     */
+    @PostExchange("/impressions")
+    void sendImpressions(@RequestBody List<Impression> impressions);
+}
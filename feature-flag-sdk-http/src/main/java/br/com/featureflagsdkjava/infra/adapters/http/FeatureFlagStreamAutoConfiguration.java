@@ -0,0 +1,13 @@
+package br.com.featureflagsdkjava.infra.adapters.http;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Subscribes the flag cache to the flag service's change stream. Runs after the flag cache is registered.
+ */
+@AutoConfiguration(afterName = "br.com.featureflagsdkjava.infra.config.FeatureFlagAutoConfiguration")
+@ConditionalOnBean(ReactiveFeatureFlagServiceProxy.class)
+@Import(FlagChangeStreamSubscriber.class)
+public class FeatureFlagStreamAutoConfiguration {}
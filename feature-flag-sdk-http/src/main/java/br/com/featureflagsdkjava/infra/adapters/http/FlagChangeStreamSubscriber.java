@@ -0,0 +1,132 @@
+package br.com.featureflagsdkjava.infra.adapters.http;
+
+import br.com.featureflagsdkjava.domain.model.FlagChangeEvent;
+import br.com.featureflagsdkjava.infra.adapters.cache.CachingFeatureFlagQueryAdapter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the local flag snapshot current by applying the changes pushed on the flag service's event stream.
+ * The stream starts after the version of the loaded snapshot, reconnects on its own and resumes after the last
+ * applied version; a full snapshot reload only happens when the service reports a gap or asks for a resync.
+ * Malformed events are logged and skipped without ending the subscription. Requires the flag cache to be enabled.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "feature.flag.stream.enabled", havingValue = "true")
+@ConditionalOnBean(CachingFeatureFlagQueryAdapter.class)
+public class FlagChangeStreamSubscriber {
+
+    private static final long NO_VERSION = 0L;
+
+    private final ReactiveFeatureFlagServiceProxy serviceClient;
+    private final CachingFeatureFlagQueryAdapter flagStore;
+    private final Duration minBackoff;
+    private final Duration maxBackoff;
+    private final AtomicLong lastVersion = new AtomicLong(NO_VERSION);
+
+    private Disposable subscription;
+
+    public FlagChangeStreamSubscriber(
+            ReactiveFeatureFlagServiceProxy serviceClient,
+            CachingFeatureFlagQueryAdapter flagStore,
+            @Value("${feature.flag.stream.min-backoff:1s}") Duration minBackoff,
+            @Value("${feature.flag.stream.max-backoff:30s}") Duration maxBackoff) {
+        this.serviceClient = serviceClient;
+        this.flagStore = flagStore;
+        this.minBackoff = minBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @PostConstruct
+    public void start() {
+        flagStore.currentSnapshot().ifPresent(snapshot -> lastVersion.compareAndSet(NO_VERSION, snapshot.getVersion()));
+        subscription = changes()
+                .publishOn(Schedulers.boundedElastic())
+                .subscribe(this::onEvent, e -> log.error("Flag change stream terminated: {}", e.getMessage()));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) subscription.dispose();
+    }
+
+    public long getLastVersion() {
+        return lastVersion.get();
+    }
+
+    Flux<FlagChangeEvent> changes() {
+        return Flux.defer(() -> serviceClient.streamChanges(resumeVersion()))
+                   .doOnError(e -> log.warn("Flag change stream interrupted: {}", e.getMessage()))
+                   .retryWhen(Retry.backoff(Long.MAX_VALUE, minBackoff).maxBackoff(maxBackoff).transientErrors(true))
+                   .repeatWhen(completed -> completed.delayElements(minBackoff));
+    }
+
+    /**
+     * Applies one event. Nothing is thrown out of it: an exception here would cancel the subscription, which is past
+     * the retry, and leave the snapshot without changes until restart. A skipped event that carried a change shows
+     * up as a gap on the next one, which reloads the snapshot.
+     */
+    void onEvent(FlagChangeEvent event) {
+        if (!isWellFormed(event)) {
+            log.warn("Skipping malformed flag change event: {}", event);
+            return;
+        }
+        try {
+            handle(event);
+        } catch (RuntimeException e) {
+            log.error("Unable to apply flag change event {}: {}", event.getVersion(), e.toString());
+        }
+    }
+
+    private void handle(FlagChangeEvent event) {
+        long last = lastVersion.get();
+
+        if (event.getType() == FlagChangeEvent.Type.RESYNC) {
+            resync(event.getVersion());
+            return;
+        }
+        if (last != NO_VERSION && event.getVersion() <= last) return;
+        if (last != NO_VERSION && event.getVersion() > last + 1) {
+            log.info("Missed flag changes between versions {} and {}, reloading snapshot", last, event.getVersion());
+            resync(event.getVersion());
+            return;
+        }
+
+        if (flagStore.apply(event)) {
+            lastVersion.set(event.getVersion());
+        } else {
+            resync(event.getVersion());
+        }
+    }
+
+    private static boolean isWellFormed(FlagChangeEvent event) {
+        if (event == null || event.getType() == null) return false;
+        return switch (event.getType()) {
+            case UPSERT -> event.getFlag() != null && event.getFlag().getName() != null;
+            case DELETE -> event.getFlagName() != null;
+            case RESYNC -> true;
+        };
+    }
+
+    private void resync(long version) {
+        if (flagStore.refresh()) lastVersion.set(version);
+    }
+
+    private Long resumeVersion() {
+        long last = lastVersion.get();
+        return last == NO_VERSION ? null : last;
+    }
+}
@@ -0,0 +1,99 @@
+package br.com.featureflagsdkjava.infra.adapters.http;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Collects flag lookups from concurrent callers for a short window and resolves them with a single bulk fetch.
+ * A batch is sent when the window elapses or as soon as it reaches the maximum size, whichever comes first.
+ */
+@Slf4j
+class FlagLookupBatcher {
+
+    private final Function<Set<String>, Map<String, Flag>> bulkFetch;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+    private final Object lock = new Object();
+
+    private Map<String, CompletableFuture<Optional<Flag>>> pending = new HashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    FlagLookupBatcher(Function<Set<String>, Map<String, Flag>> bulkFetch, Duration window, int maxBatchSize) {
+        this.bulkFetch = bulkFetch;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "feature-flag-lookup-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    CompletableFuture<Optional<Flag>> lookup(String flagName) {
+        Map<String, CompletableFuture<Optional<Flag>>> full = null;
+        CompletableFuture<Optional<Flag>> lookup;
+
+        synchronized (lock) {
+            lookup = pending.computeIfAbsent(flagName, name -> new CompletableFuture<>());
+            if (pending.size() >= maxBatchSize) {
+                full = takePending();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = scheduler.schedule(this::flushPending, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (full != null) send(full);
+        return lookup;
+    }
+
+    void close() {
+        scheduler.shutdownNow();
+        Map<String, CompletableFuture<Optional<Flag>>> remaining;
+        synchronized (lock) {
+            remaining = takePending();
+        }
+        remaining.values().forEach(lookup -> lookup.cancel(false));
+    }
+
+    private void flushPending() {
+        Map<String, CompletableFuture<Optional<Flag>>> batch;
+        synchronized (lock) {
+            batch = takePending();
+        }
+        send(batch);
+    }
+
+    private Map<String, CompletableFuture<Optional<Flag>>> takePending() {
+        Map<String, CompletableFuture<Optional<Flag>>> batch = pending;
+        pending = new HashMap<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void send(Map<String, CompletableFuture<Optional<Flag>>> batch) {
+        if (batch.isEmpty()) return;
+        try {
+            Map<String, Flag> flags = bulkFetch.apply(batch.keySet());
+            batch.forEach((flagName, lookup) -> lookup.complete(Optional.ofNullable(flags.get(flagName))));
+            log.debug("Resolved {} flag lookups in one request", batch.size());
+        } catch (RuntimeException e) {
+            batch.values().forEach(lookup -> lookup.completeExceptionally(e));
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package br.com.featureflagsdkjava.infra.adapters.http;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagDelta;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads flags token by token from a JSON, Smile or CBOR body, straight into {@link Flag}s: no intermediate tree or
+ * map is built for the flags themselves. When reading a snapshot or a delta, targeting rules are parsed into a tree in
+ * the same pass (whether the service sends them as a JSON string or as an object) and handed to the targeting engine
+ * through {@link FlagDelta#getTargetingTrees()}, so loading a snapshot parses every rule once. Unknown fields are
+ * skipped.
+ */
+final class FlagStreamReader {
+
+    private static final int EXPECTED_FLAGS = 64;
+    private static final TypeReference<List<Flag.Prerequisite>> PREREQUISITES = new TypeReference<>() {};
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    List<Flag> readFlags(byte[] body, MediaType contentType) {
+        try (JsonParser parser = parser(body, contentType)) {
+            return readFlagArray(parser, parser.nextToken(), null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read flags from the flag service response: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads a complete flag set, with the targeting trees of its flags.
+     */
+    FlagDelta readSnapshot(long version, byte[] body, MediaType contentType) {
+        try (JsonParser parser = parser(body, contentType)) {
+            Map<String, JsonNode> trees = new HashMap<>();
+            FlagDelta delta = FlagDelta.full(version, readFlagArray(parser, parser.nextToken(), trees));
+            delta.setTargetingTrees(trees);
+            return delta;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read flags from the flag service response: " + e.getMessage(), e);
+        }
+    }
+
+    FlagDelta readDelta(byte[] body, MediaType contentType) {
+        try (JsonParser parser = parser(body, contentType)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            FlagDelta delta = new FlagDelta();
+            Map<String, JsonNode> trees = new HashMap<>();
+            delta.setTargetingTrees(trees);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "version" -> delta.setVersion(parser.getValueAsLong());
+                    case "full" -> delta.setFull(parser.getValueAsBoolean());
+                    case "flags" -> delta.setFlags(readFlagArray(parser, value, trees));
+                    case "deleted" -> delta.setDeleted(readNames(parser, value));
+                    default -> parser.skipChildren();
+                }
+            }
+            return delta;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read flag changes from the flag service response: " + e.getMessage(), e);
+        }
+    }
+
+    private JsonParser parser(byte[] body, MediaType contentType) throws IOException {
+        JsonParser parser = SnapshotFormat.ofContentType(contentType).factory().createParser(body);
+        parser.setCodec(mapper);
+        return parser;
+    }
+
+    /**
+     * @param trees where the parsed targeting trees go, by flag name; null when they are not needed
+     */
+    private List<Flag> readFlagArray(JsonParser parser, JsonToken token, Map<String, JsonNode> trees) throws IOException {
+        if (token == JsonToken.VALUE_NULL) return List.of();
+        expect(parser, token, JsonToken.START_ARRAY);
+
+        List<Flag> flags = new ArrayList<>(EXPECTED_FLAGS);
+        JsonToken next;
+        while ((next = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (next == JsonToken.VALUE_NULL) continue;
+            flags.add(readFlag(parser, next, trees));
+        }
+        return flags;
+    }
+
+    private Flag readFlag(JsonParser parser, JsonToken token, Map<String, JsonNode> trees) throws IOException {
+        expect(parser, token, JsonToken.START_OBJECT);
+        Flag flag = new Flag();
+        JsonNode tree = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) continue;
+            switch (field) {
+                case "id" -> flag.setId(parser.getValueAsLong());
+                case "name" -> flag.setName(parser.getText());
+                case "state" -> flag.setState(Flag.State.valueOf(parser.getText()));
+                case "type" -> flag.setType(Flag.Type.valueOf(parser.getText()));
+                case "defaultVariant" -> flag.setDefaultVariant(parser.getText());
+                case "variants" -> flag.setVariants(readVariants(parser));
+                case "targeting" -> tree = readTargeting(parser, value, flag, trees != null);
+                case "prerequisites" -> flag.setPrerequisites(mapper.readValue(parser, PREREQUISITES));
+                default -> parser.skipChildren();
+            }
+        }
+        if (tree != null && flag.getName() != null) trees.put(flag.getName(), tree);
+        return flag;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readVariants(JsonParser parser) throws IOException {
+        return mapper.readValue(parser, Map.class);
+    }
+
+    /**
+     * A string is kept as the flag's targeting and, when {@code parse} is set, parsed as JSON; a malformed one is left
+     * to the targeting engine, which reports it. An object is serialized back to JSON text for
+     * {@link Flag#getTargeting()}.
+     *
+     * @return the parsed targeting, or null when there is none or it was not parsed
+     */
+    private JsonNode readTargeting(JsonParser parser, JsonToken token, Flag flag, boolean parse) throws IOException {
+        if (token == JsonToken.VALUE_STRING) {
+            String targeting = parser.getText();
+            flag.setTargeting(targeting);
+            if (!parse || targeting.isBlank()) return null;
+            try {
+                return mapper.readTree(targeting);
+            } catch (JsonProcessingException e) {
+                return null;
+            }
+        }
+
+        JsonNode tree = mapper.readTree(parser);
+        flag.setTargeting(mapper.writeValueAsString(tree));
+        return parse ? tree : null;
+    }
+
+    private static List<String> readNames(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) return List.of();
+        expect(parser, token, JsonToken.START_ARRAY);
+
+        List<String> names = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.VALUE_NULL) names.add(parser.getText());
+        }
+        return names;
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.featureflagsdkjava.infra.adapters.http;
+
+import br.com.featureflagsdkjava.domain.model.Impression;
+import br.com.featureflagsdkjava.domain.ports.ImpressionSinkPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Posts impression batches to {@code POST /impressions} on the flag service, through the same client, timeouts
+ * and connection pool as the flag lookups.
+ */
+@Component
+@ConditionalOnProperty(name = "feature.flag.impressions.sink", havingValue = "http")
+@ConditionalOnMissingBean(ImpressionSinkPort.class)
+public class HttpImpressionSinkAdapter implements ImpressionSinkPort {
+
+    private final FeatureFlagServiceProxy serviceClient;
+
+    public HttpImpressionSinkAdapter(FeatureFlagServiceProxy serviceClient) {
+        this.serviceClient = serviceClient;
+    }
+
+    @Override
+    public void send(List<Impression> impressions) {
+        serviceClient.sendImpressions(impressions);
+    }
+}
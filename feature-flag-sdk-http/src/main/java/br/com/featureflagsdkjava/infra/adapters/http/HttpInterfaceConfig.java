@@ -0,0 +1,78 @@
+package br.com.featureflagsdkjava.infra.adapters.http;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.support.WebClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+import java.time.Duration;
+
+@Configuration
+public class HttpInterfaceConfig {
+
+    private static final String REST_CLIENT = "rest-client";
+
+    @Value("${feature.flag.service.url}")
+    private String featureFlagServiceUrl;
+
+    @Value("${feature.flag.service.client:web-client}")
+    private String client = "web-client";
+
+    @Value("${feature.flag.service.connect-timeout:2s}")
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    @Value("${feature.flag.service.read-timeout:5s}")
+    private Duration readTimeout = Duration.ofSeconds(5);
+
+    @Value("${feature.flag.service.max-connections:64}")
+    private int maxConnections = 64;
+
+    @Value("${feature.flag.service.http2:true}")
+    private boolean http2 = true;
+
+    @Value("${feature.flag.service.compression:true}")
+    private boolean compression = true;
+
+    @Value("${feature.flag.service.max-response-size:16MB}")
+    private DataSize maxResponseSize = DataSize.ofMegabytes(16);
+
+    /**
+     * Blocking client used by the flag cache and lookups. With {@code feature.flag.service.client=rest-client} it
+     * runs on {@link RestClientTransport} and honours the timeout, connection, HTTP/2 and compression settings.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public FeatureFlagServiceProxy featureFlagClient() {
+        if (REST_CLIENT.equalsIgnoreCase(client)) {
+            return HttpServiceProxyFactory
+                    .builderFor(RestClientAdapter.create(RestClientTransport.create(
+                            featureFlagServiceUrl, connectTimeout, readTimeout, maxConnections, http2, compression)))
+                    .build()
+                    .createClient(FeatureFlagServiceProxy.class);
+        }
+        return webClientProxyFactory().createClient(FeatureFlagServiceProxy.class);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ReactiveFeatureFlagServiceProxy reactiveFeatureFlagClient() {
+        return webClientProxyFactory().createClient(ReactiveFeatureFlagServiceProxy.class);
+    }
+
+    private HttpServiceProxyFactory webClientProxyFactory() {
+        WebClient webClient = WebClient.builder()
+                                       .baseUrl(featureFlagServiceUrl)
+                                       .codecs(codecs -> codecs.defaultCodecs()
+                                                               .maxInMemorySize((int) maxResponseSize.toBytes()))
+                                       .build();
+
+        return HttpServiceProxyFactory
+                .builderFor(WebClientAdapter.create(webClient))
+                .build();
+    }
+}
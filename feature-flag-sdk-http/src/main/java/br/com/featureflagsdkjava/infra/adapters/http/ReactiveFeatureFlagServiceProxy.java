@@ -0,0 +1,39 @@
+package br.com.featureflagsdkjava.infra.adapters.http;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagChangeEvent;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.service.annotation.GetExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Non-blocking view of the flag service endpoints, used by {@link ReactiveRestFeatureFlagQueryAdapter} and the
+ * change stream. Always backed by {@code WebClient}.
+ */
+public interface ReactiveFeatureFlagServiceProxy {
+    @GetExchange("/flags")
+    Flux<Flag> findAll();
+
+    @GetExchange("/flags/byType")
+    Flux<Flag> findFlagsByType(@RequestParam("flagType") Flag.Type flagType);
+
+    @GetExchange("/flags/{flagName}")
+    Mono<Flag> findByFlagName(@PathVariable("flagName") String flagName);
+
+    /**
+     * The named flags that exist; names the service does not know are left out of the response.
+     */
+    @GetExchange("/flags")
+    Flux<Flag> findByFlagNames(@RequestParam("name") Collection<String> flagNames);
+
+    /**
+     * Server-sent events stream of flag changes, resuming after {@code since} when it is given.
+     */
+    @GetExchange(value = "/flags/changes", accept = MediaType.TEXT_EVENT_STREAM_VALUE)
+    Flux<FlagChangeEvent> streamChanges(@RequestParam(value = "since", required = false) Long since);
+}
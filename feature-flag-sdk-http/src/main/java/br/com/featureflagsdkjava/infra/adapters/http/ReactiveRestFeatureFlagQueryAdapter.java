@@ -0,0 +1,76 @@
+package br.com.featureflagsdkjava.infra.adapters.http;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.ports.ReactiveFeatureFlagQueryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads flags from the flag service without blocking. Like {@link RestFeatureFlagQueryAdapter}, concurrent lookups
+ * for the same name share a single request, and lookups that fail are logged and complete empty so a flag service
+ * outage turns into default values rather than errors.
+ */
+@Slf4j
+@Service("reactiveRestFeatureFlagQuery")
+@ConditionalOnMissingBean(ReactiveFeatureFlagQueryPort.class)
+public class ReactiveRestFeatureFlagQueryAdapter implements ReactiveFeatureFlagQueryPort {
+
+    private final ReactiveFeatureFlagServiceProxy serviceClient;
+    private final Map<String, Mono<Flag>> inFlightLookups = new ConcurrentHashMap<>();
+
+    public ReactiveRestFeatureFlagQueryAdapter(ReactiveFeatureFlagServiceProxy serviceClient) {
+        this.serviceClient = serviceClient;
+    }
+
+    @Override
+    public Flux<Flag> findAll() {
+        return serviceClient.findAll();
+    }
+
+    @Override
+    public Flux<Flag> findFlagsByType(Flag.Type flagType) {
+        return serviceClient.findFlagsByType(flagType);
+    }
+
+    @Override
+    public Mono<Flag> findByFlagName(String flagName) {
+        if (flagName == null) return Mono.empty();
+        return inFlightLookups.computeIfAbsent(flagName, this::fetchByFlagName);
+    }
+
+    @Override
+    public Flux<Flag> findByFlagNames(Collection<String> flagNames) {
+        Set<String> names = new HashSet<>(flagNames);
+        names.remove(null);
+        if (names.isEmpty()) return Flux.empty();
+
+        return serviceClient.findByFlagNames(names)
+                            .filter(flag -> flag != null && names.contains(flag.getName()))
+                            .onErrorResume(e -> {
+                                log.error("Fallback triggered when trying to fetch {} flags due to: {}", names.size(), e.toString());
+                                return Flux.empty();
+                            });
+    }
+
+    /**
+     * The shared lookup replays its result to every subscriber and leaves the in-flight map once it completes, so
+     * later lookups go to the flag service again.
+     */
+    private Mono<Flag> fetchByFlagName(String flagName) {
+        return serviceClient.findByFlagName(flagName)
+                            .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty())
+                            .onErrorResume(e -> {
+                                log.error("Fallback triggered when trying to fetch flag {} due to: {}", flagName, e.toString());
+                                return Mono.empty();
+                            })
+                            .doFinally(signal -> inFlightLookups.remove(flagName))
+                            .cache();
+    }
+}
@@ -0,0 +1,198 @@
+package br.com.featureflagsdkjava.infra.adapters.http;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Blocking transport for the flag service: a {@link RestClient} over the JDK {@link HttpClient}. Calls block the
+ * calling thread instead of waiting on a Reactor thread, which makes them cheap on virtual threads (Java 21).
+ * <p>
+ * The JDK client has no pool size setting, so {@code maxConnections} bounds the requests in flight instead; each one
+ * holds a permit until its response is closed. With HTTP/2, requests to the flag service are multiplexed over a
+ * single connection. Compression asks for gzip responses and inflates them, which the JDK client does not do itself.
+ */
+final class RestClientTransport {
+
+    private RestClientTransport() {}
+
+    static RestClient create(String baseUrl, Duration connectTimeout, Duration readTimeout, int maxConnections,
+                             boolean http2, boolean compression) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                                          .connectTimeout(connectTimeout)
+                                          .version(http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                                          .followRedirects(HttpClient.Redirect.NORMAL)
+                                          .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+
+        RestClient.Builder builder = RestClient.builder()
+                                               .baseUrl(baseUrl)
+                                               .requestFactory(requestFactory)
+                                               .requestInterceptor(new ReadTimeout(readTimeout));
+        if (maxConnections > 0) {
+            builder.requestInterceptor(new ConcurrencyLimit(maxConnections, connectTimeout.plus(readTimeout)));
+        }
+        if (compression) builder.requestInterceptor(new GzipDecompression());
+        return builder.build();
+    }
+
+    /**
+     * Lets at most {@code permits} requests wait on the flag service at once; a request that cannot get a permit
+     * within {@code maxWait} fails like a timed-out one.
+     */
+    static final class ConcurrencyLimit implements ClientHttpRequestInterceptor {
+
+        private final Semaphore permits;
+        private final long maxWaitNanos;
+
+        ConcurrencyLimit(int permits, Duration maxWait) {
+            this.permits = new Semaphore(permits);
+            this.maxWaitNanos = maxWait.toNanos();
+        }
+
+        @Override
+        public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+            try {
+                if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                    throw new IOException("No connection to the flag service available within " + Duration.ofNanos(maxWaitNanos));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for a connection to the flag service");
+            }
+
+            AtomicBoolean released = new AtomicBoolean();
+            Runnable release = () -> {
+                if (released.compareAndSet(false, true)) permits.release();
+            };
+            try {
+                return new DelegatingResponse(execution.execute(request, body), release);
+            } catch (IOException | RuntimeException e) {
+                release.run();
+                throw e;
+            }
+        }
+
+        int availablePermits() {
+            return permits.availablePermits();
+        }
+    }
+
+    /**
+     * The JDK request factory enforces the read timeout by cancelling the exchange, which surfaces as a
+     * {@link CancellationException}; it is turned into the {@link HttpTimeoutException} other transports throw, so
+     * {@link RestClient} reports it as an I/O error.
+     */
+    static final class ReadTimeout implements ClientHttpRequestInterceptor {
+
+        private final Duration readTimeout;
+
+        ReadTimeout(Duration readTimeout) {
+            this.readTimeout = readTimeout;
+        }
+
+        @Override
+        public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+            try {
+                return execution.execute(request, body);
+            } catch (CancellationException e) {
+                HttpTimeoutException timeout = new HttpTimeoutException("No response from the flag service within " + readTimeout);
+                timeout.initCause(e);
+                throw timeout;
+            }
+        }
+    }
+
+    static final class GzipDecompression implements ClientHttpRequestInterceptor {
+
+        @Override
+        public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+            request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+            ClientHttpResponse response = execution.execute(request, body);
+            if (!"gzip".equalsIgnoreCase(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING))
+                    || response.getHeaders().getContentLength() == 0
+                    || response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)
+                    || response.getStatusCode().isSameCodeAs(HttpStatus.NO_CONTENT)) {
+                return response;
+            }
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(response.getHeaders());
+            headers.remove(HttpHeaders.CONTENT_ENCODING);
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+            return new DelegatingResponse(response, () -> {}) {
+                private InputStream body;
+
+                @Override
+                public HttpHeaders getHeaders() {
+                    return headers;
+                }
+
+                @Override
+                public InputStream getBody() throws IOException {
+                    if (body == null) body = new GZIPInputStream(response.getBody());
+                    return body;
+                }
+            };
+        }
+    }
+
+    private static class DelegatingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final Runnable onClose;
+
+        DelegatingResponse(ClientHttpResponse delegate, Runnable onClose) {
+            this.delegate = delegate;
+            this.onClose = onClose;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                onClose.run();
+            }
+        }
+    }
+}
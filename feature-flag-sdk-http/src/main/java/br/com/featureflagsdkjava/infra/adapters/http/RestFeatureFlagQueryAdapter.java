@@ -0,0 +1,280 @@
+package br.com.featureflagsdkjava.infra.adapters.http;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagDelta;
+import br.com.featureflagsdkjava.domain.ports.FeatureFlagQueryPort;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service("restFeatureFlagQuery")
+public class RestFeatureFlagQueryAdapter implements FeatureFlagQueryPort {
+
+    public static final String SNAPSHOT_VERSION_HEADER = "X-Flags-Version";
+    static final String CIRCUIT_BREAKER = "featureFlagServiceImpl";
+    private static final int NOT_FOUND_CACHE_PURGE_THRESHOLD = 1_000;
+
+    private final FeatureFlagServiceProxy serviceClient;
+    private final CircuitBreaker circuitBreaker;
+
+    @Value("${feature.flag.sync.delta-enabled:false}")
+    private boolean deltaSyncEnabled;
+
+    @Value("${feature.flag.sync.format:json}")
+    private String format = "json";
+
+    @Value("${feature.flag.lookup.not-found-ttl:10s}")
+    private Duration notFoundTtl = Duration.ofSeconds(10);
+
+    @Value("${feature.flag.lookup.batching.enabled:false}")
+    private boolean batchingEnabled;
+
+    @Value("${feature.flag.lookup.batching.window:2ms}")
+    private Duration batchWindow = Duration.ofMillis(2);
+
+    @Value("${feature.flag.lookup.batching.max-size:64}")
+    private int maxBatchSize = 64;
+
+    private SnapshotFormat snapshotFormat = SnapshotFormat.JSON;
+    private final FlagStreamReader flagReader = new FlagStreamReader();
+    private FlagLookupBatcher lookupBatcher;
+    private final Map<String, CompletableFuture<Optional<Flag>>> inFlightLookups = new ConcurrentHashMap<>();
+    private final Map<String, Long> notFoundUntil = new ConcurrentHashMap<>();
+    private volatile String lastETag;
+
+    public RestFeatureFlagQueryAdapter(FeatureFlagServiceProxy serviceClient) {
+        this(serviceClient, null);
+    }
+
+    /**
+     * @param circuitBreakerRegistry where the {@value #CIRCUIT_BREAKER} circuit breaker, configured under
+     *                               {@code resilience4j.circuitbreaker.instances}, comes from; null uses defaults
+     */
+    @Autowired
+    public RestFeatureFlagQueryAdapter(FeatureFlagServiceProxy serviceClient, @Nullable CircuitBreakerRegistry circuitBreakerRegistry) {
+        this.serviceClient = serviceClient;
+        this.circuitBreaker = (circuitBreakerRegistry != null ? circuitBreakerRegistry : CircuitBreakerRegistry.ofDefaults())
+                .circuitBreaker(CIRCUIT_BREAKER);
+    }
+
+    @PostConstruct
+    public void start() {
+        snapshotFormat = SnapshotFormat.of(format);
+        if (batchingEnabled) {
+            lookupBatcher = new FlagLookupBatcher(names -> circuitBreaker.executeSupplier(() -> fetchByFlagNames(names)),
+                    batchWindow, maxBatchSize);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (lookupBatcher != null) lookupBatcher.close();
+    }
+
+    @Override
+    public List<Flag> findAll() {
+        if (snapshotFormat.isBinary()) {
+            ResponseEntity<byte[]> response = serviceClient.findAllEncoded(snapshotFormat.accept(), null);
+            return isNotModified(response) ? List.of() : readFlags(response);
+        }
+        List<Flag> flags = serviceClient.findAll();
+        return flags == null ? List.of() : flags;
+    }
+
+    @Override
+    public List<Flag> findFlagsByType(Flag.Type flagType) {
+        return serviceClient.findFlagsByType(flagType);
+    }
+
+    /**
+     * Uses {@code GET /flags?since=<version>} when delta sync is enabled and the version is known,
+     * and a conditional {@code GET /flags} otherwise. Both cost a 304 and no parsing when nothing changed.
+     * With a binary {@code feature.flag.sync.format}, the body is asked for in that encoding and read by
+     * {@link FlagStreamReader}.
+     */
+    @Override
+    public Optional<FlagDelta> findChangesSince(long version) {
+        if (snapshotFormat.isBinary()) return findEncodedChangesSince(version);
+
+        if (deltaSyncEnabled && version > 0) {
+            ResponseEntity<FlagDelta> response = serviceClient.findChangesSince(version, lastETag);
+            if (isNotModified(response)) return Optional.empty();
+
+            lastETag = response.getHeaders().getETag();
+            return Optional.of(response.getBody());
+        }
+
+        ResponseEntity<List<Flag>> response = serviceClient.findAllIfNoneMatch(lastETag);
+        if (isNotModified(response)) return Optional.empty();
+
+        lastETag = response.getHeaders().getETag();
+        return Optional.of(FlagDelta.full(snapshotVersion(response), response.getBody()));
+    }
+
+    private Optional<FlagDelta> findEncodedChangesSince(long version) {
+        if (deltaSyncEnabled && version > 0) {
+            ResponseEntity<byte[]> response = serviceClient.findChangesSinceEncoded(version, snapshotFormat.accept(), lastETag);
+            if (isNotModified(response)) return Optional.empty();
+
+            lastETag = response.getHeaders().getETag();
+            return Optional.of(flagReader.readDelta(response.getBody(), response.getHeaders().getContentType()));
+        }
+
+        ResponseEntity<byte[]> response = serviceClient.findAllEncoded(snapshotFormat.accept(), lastETag);
+        if (isNotModified(response)) return Optional.empty();
+
+        lastETag = response.getHeaders().getETag();
+        return Optional.of(flagReader.readSnapshot(snapshotVersion(response), response.getBody(),
+                response.getHeaders().getContentType()));
+    }
+
+    private List<Flag> readFlags(ResponseEntity<byte[]> response) {
+        return flagReader.readFlags(response.getBody(), response.getHeaders().getContentType());
+    }
+
+    /**
+     * Concurrent lookups for the same name share a single request to the flag service, and names the service
+     * does not know are remembered for {@code feature.flag.lookup.not-found-ttl} so they are not fetched again.
+     * With batching enabled, lookups from concurrent callers are sent together through {@link #findByFlagNames}.
+     * <p>
+     * Only the request actually sent goes through the circuit breaker: callers that joined a shared lookup get its
+     * result, or its fallback, without being recorded, so one failed request counts as one failure.
+     */
+    public Optional<Flag> findByFlagName(String flagName) {
+        if (flagName == null || isKnownMissing(flagName)) return Optional.empty();
+
+        CompletableFuture<Optional<Flag>> lookup = new CompletableFuture<>();
+        CompletableFuture<Optional<Flag>> inFlight = inFlightLookups.putIfAbsent(flagName, lookup);
+        try {
+            if (inFlight != null) return awaitLookup(inFlight);
+        } catch (RuntimeException e) {
+            return findFlagByNameFallback(flagName, e);
+        }
+
+        try {
+            Optional<Flag> flag = lookupBatcher == null
+                    ? circuitBreaker.executeSupplier(() -> fetchByFlagName(flagName))
+                    : awaitLookup(lookupBatcher.lookup(flagName));
+            lookup.complete(flag);
+            return flag;
+        } catch (RuntimeException e) {
+            lookup.completeExceptionally(e);
+            return findFlagByNameFallback(flagName, e);
+        } finally {
+            inFlightLookups.remove(flagName, lookup);
+        }
+    }
+
+    @Override
+    public Map<String, Flag> findByFlagNames(Collection<String> flagNames) {
+        Set<String> unknown = new HashSet<>();
+        for (String flagName : flagNames) {
+            if (flagName != null && !isKnownMissing(flagName)) unknown.add(flagName);
+        }
+        if (unknown.isEmpty()) return Map.of();
+        try {
+            return circuitBreaker.executeSupplier(() -> fetchByFlagNames(unknown));
+        } catch (RuntimeException e) {
+            return findFlagsByNamesFallback(unknown, e);
+        }
+    }
+
+    public Optional<Flag> findFlagByNameFallback(String flagName, Throwable e) {
+        log.error("Fallback triggered when trying to fetch flag {} due to: {}", flagName, e);
+        return Optional.empty();
+    }
+
+    public Map<String, Flag> findFlagsByNamesFallback(Collection<String> flagNames, Throwable e) {
+        log.error("Fallback triggered when trying to fetch {} flags due to: {}", flagNames.size(), e);
+        return Map.of();
+    }
+
+    private Optional<Flag> fetchByFlagName(String flagName) {
+        Flag flag;
+        try {
+            flag = serviceClient.findByFlagName(flagName);
+        } catch (WebClientResponseException.NotFound | HttpClientErrorException.NotFound e) {
+            flag = null;
+        }
+
+        if (flag == null) {
+            rememberMissing(flagName);
+            return Optional.empty();
+        }
+        return Optional.of(flag);
+    }
+
+    private Map<String, Flag> fetchByFlagNames(Set<String> flagNames) {
+        List<Flag> found = serviceClient.findByFlagNames(flagNames);
+        Map<String, Flag> flags = new HashMap<>();
+        if (found != null) {
+            for (Flag flag : found) {
+                if (flag != null && flagNames.contains(flag.getName())) flags.put(flag.getName(), flag);
+            }
+        }
+        for (String flagName : flagNames) {
+            if (!flags.containsKey(flagName)) rememberMissing(flagName);
+        }
+        return flags;
+    }
+
+    private boolean isKnownMissing(String flagName) {
+        Long until = notFoundUntil.get(flagName);
+        if (until == null) return false;
+        if (until - System.nanoTime() > 0) return true;
+
+        notFoundUntil.remove(flagName, until);
+        return false;
+    }
+
+    private void rememberMissing(String flagName) {
+        if (notFoundTtl.isZero() || notFoundTtl.isNegative()) return;
+
+        long now = System.nanoTime();
+        if (notFoundUntil.size() >= NOT_FOUND_CACHE_PURGE_THRESHOLD) {
+            notFoundUntil.values().removeIf(until -> until - now <= 0);
+        }
+        notFoundUntil.put(flagName, now + notFoundTtl.toNanos());
+    }
+
+    private static Optional<Flag> awaitLookup(CompletableFuture<Optional<Flag>> lookup) {
+        try {
+            return lookup.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private static boolean isNotModified(ResponseEntity<?> response) {
+        return response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED) || response.getBody() == null;
+    }
+
+    private static long snapshotVersion(ResponseEntity<?> response) {
+        String version = response.getHeaders().getFirst(SNAPSHOT_VERSION_HEADER);
+        if (version == null) return 0L;
+        try {
+            return Long.parseLong(version.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring non-numeric {} header: {}", SNAPSHOT_VERSION_HEADER, version);
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.featureflagsdkjava.infra.adapters.http;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+/**
+ * Encodings the flag service can answer flag reads with ({@code feature.flag.sync.format}). The binary formats need
+ * {@code jackson-dataformat-smile} or {@code jackson-dataformat-cbor} on the classpath; their factories are only
+ * loaded when the format is used.
+ */
+enum SnapshotFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    SMILE(new MediaType("application", "x-jackson-smile")),
+    CBOR(MediaType.APPLICATION_CBOR);
+
+    private final MediaType mediaType;
+    private volatile JsonFactory factory;
+
+    SnapshotFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    static SnapshotFormat of(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported feature.flag.sync.format: " + name + " (json, smile or cbor)");
+        }
+    }
+
+    /**
+     * The format of a response, after its {@code Content-Type}; JSON when it is missing or not a binary format, for
+     * services that ignore the {@code Accept} header.
+     */
+    static SnapshotFormat ofContentType(MediaType contentType) {
+        if (contentType != null) {
+            for (SnapshotFormat format : values()) {
+                if (format.mediaType.isCompatibleWith(contentType)) return format;
+            }
+        }
+        return JSON;
+    }
+
+    boolean isBinary() {
+        return this != JSON;
+    }
+
+    /**
+     * {@code Accept} header asking for this format, with JSON as a fallback.
+     */
+    String accept() {
+        if (!isBinary()) return mediaType.toString();
+        return mediaType + ", " + MediaType.APPLICATION_JSON + ";q=0.9";
+    }
+
+    JsonFactory factory() {
+        JsonFactory current = factory;
+        if (current == null) {
+            current = switch (this) {
+                case JSON -> new JsonFactory();
+                case SMILE -> Smile.factory();
+                case CBOR -> Cbor.factory();
+            };
+            factory = current;
+        }
+        return current;
+    }
+
+    private static final class Smile {
+        static JsonFactory factory() {
+            return new SmileFactory();
+        }
+    }
+
+    private static final class Cbor {
+        static JsonFactory factory() {
+            return new CBORFactory();
+        }
+    }
+}
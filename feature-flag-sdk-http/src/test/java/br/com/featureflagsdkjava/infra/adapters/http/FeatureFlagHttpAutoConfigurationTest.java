@@ -0,0 +1,52 @@
+package br.com.featureflagsdkjava.infra.adapters.http;
+
+import br.com.featureflagsdkjava.domain.application.openfeature.providers.customprovider.ReactiveFeatureFlagEvaluator;
+import br.com.featureflagsdkjava.domain.ports.FeatureFlagQueryPort;
+import br.com.featureflagsdkjava.domain.ports.ReactiveFeatureFlagQueryPort;
+import br.com.featureflagsdkjava.infra.adapters.cache.CachingFeatureFlagQueryAdapter;
+import br.com.featureflagsdkjava.infra.config.FeatureFlagAutoConfiguration;
+import dev.openfeature.sdk.FeatureProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeatureFlagHttpAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withInitializer(context -> context.getBeanFactory()
+                                               .setConversionService(ApplicationConversionService.getSharedInstance()))
+            .withConfiguration(AutoConfigurations.of(
+                    FeatureFlagAutoConfiguration.class,
+                    FeatureFlagHttpAutoConfiguration.class,
+                    FeatureFlagStreamAutoConfiguration.class))
+            .withPropertyValues("feature.flag.cache.refresh-interval=1h");
+
+    @Test
+    void shouldServeRestSourceThroughFlagCache_whenServiceUrlIsSet() {
+        contextRunner.withPropertyValues("feature.flag.service.url=http://localhost:1").run(context -> {
+            assertInstanceOf(CachingFeatureFlagQueryAdapter.class, context.getBean(FeatureFlagQueryPort.class));
+            assertNotNull(context.getBean(RestFeatureFlagQueryAdapter.class));
+            assertNotNull(context.getBean(FeatureProvider.class));
+            assertInstanceOf(ReactiveRestFeatureFlagQueryAdapter.class, context.getBean(ReactiveFeatureFlagQueryPort.class));
+            assertNotNull(context.getBean(ReactiveFeatureFlagEvaluator.class));
+            assertTrue(context.getBeansOfType(FlagChangeStreamSubscriber.class).isEmpty());
+        });
+    }
+
+    @Test
+    void shouldSubscribeToChangeStream_whenEnabled() {
+        contextRunner.withPropertyValues("feature.flag.service.url=http://localhost:1", "feature.flag.stream.enabled=true")
+                     .run(context -> assertNotNull(context.getBean(FlagChangeStreamSubscriber.class)));
+    }
+
+    @Test
+    void shouldNotRegisterRestSource_whenServiceUrlIsMissing() {
+        contextRunner.run(context -> {
+            assertTrue(context.getBeansOfType(FeatureFlagServiceProxy.class).isEmpty());
+            assertTrue(context.getBeansOfType(FeatureProvider.class).isEmpty());
+        });
+    }
+}
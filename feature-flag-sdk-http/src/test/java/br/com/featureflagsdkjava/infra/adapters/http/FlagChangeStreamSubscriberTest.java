@@ -0,0 +1,177 @@
+package br.com.featureflagsdkjava.infra.adapters.http;
+
+import br.com.featureflagsdkjava.domain.application.targeting.TargetingEngine;
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagChangeEvent;
+import br.com.featureflagsdkjava.infra.adapters.cache.CachingFeatureFlagQueryAdapter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.jamsesso.jsonlogic.JsonLogic;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlagChangeStreamSubscriberTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final AtomicReference<List<Flag>> serverFlags = new AtomicReference<>();
+    private final Queue<List<FlagChangeEvent>> streamConnections = new ConcurrentLinkedQueue<>();
+    private final List<String> streamQueries = new CopyOnWriteArrayList<>();
+    private final AtomicReference<String> snapshotVersion = new AtomicReference<>();
+
+    private HttpServer stubServer;
+    private CachingFeatureFlagQueryAdapter flagStore;
+    private FlagChangeStreamSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/flags", this::handleFlags);
+        stubServer.createContext("/flags/changes", this::handleChanges);
+        stubServer.start();
+
+        HttpInterfaceConfig httpInterfaceConfig = new HttpInterfaceConfig();
+        ReflectionTestUtils.setField(httpInterfaceConfig, "featureFlagServiceUrl",
+                "http://localhost:" + stubServer.getAddress().getPort());
+        FeatureFlagServiceProxy serviceClient = httpInterfaceConfig.featureFlagClient();
+
+        flagStore = new CachingFeatureFlagQueryAdapter(new RestFeatureFlagQueryAdapter(serviceClient),
+                new TargetingEngine(new JsonLogic()), Duration.ofHours(1), Duration.ZERO, Optional.empty(), Optional.empty());
+        subscriber = new FlagChangeStreamSubscriber(httpInterfaceConfig.reactiveFeatureFlagClient(), flagStore, Duration.ofMillis(50), Duration.ofMillis(200));
+    }
+
+    @AfterEach
+    void tearDown() {
+        subscriber.stop();
+        flagStore.stop();
+        stubServer.stop(0);
+    }
+
+    @Test
+    void shouldApplyChangesIncrementally_andResumeFromLastVersion_andResyncOnGap() {
+        serverFlags.set(List.of(flag("flagA")));
+        streamConnections.add(List.of(
+                upsert(1, flag("flagB")),
+                FlagChangeEvent.builder().version(2).type(FlagChangeEvent.Type.DELETE).flagName("flagA").build()));
+        streamConnections.add(List.of(upsert(5, flag("flagD"))));
+        flagStore.start();
+
+        serverFlags.set(List.of(flag("flagB"), flag("flagC"), flag("flagD")));
+        subscriber.start();
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> subscriber.getLastVersion() == 5);
+        assertTrue(flagStore.findByFlagName("flagA").isEmpty());
+        assertTrue(flagStore.findByFlagName("flagB").isPresent());
+        assertTrue(flagStore.findByFlagName("flagC").isPresent(), "gap should trigger a snapshot reload");
+        assertTrue(flagStore.findByFlagName("flagD").isPresent());
+        assertNull(streamQueries.get(0));
+        assertEquals("since=2", streamQueries.get(1));
+    }
+
+    @Test
+    void shouldReloadSnapshot_whenServiceAsksForResync() {
+        serverFlags.set(List.of(flag("flagA")));
+        streamConnections.add(List.of(FlagChangeEvent.builder().version(9).type(FlagChangeEvent.Type.RESYNC).build()));
+        flagStore.start();
+
+        serverFlags.set(List.of(flag("flagB")));
+        subscriber.start();
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> subscriber.getLastVersion() == 9);
+        assertTrue(flagStore.findByFlagName("flagA").isEmpty());
+        assertTrue(flagStore.findByFlagName("flagB").isPresent());
+    }
+
+    @Test
+    void shouldSkipMalformedEvents_andKeepTheStreamOpen() {
+        serverFlags.set(List.of(flag("flagA")));
+        streamConnections.add(List.of(
+                FlagChangeEvent.builder().version(1).build(),
+                FlagChangeEvent.builder().version(1).type(FlagChangeEvent.Type.UPSERT).flagName("flagB").build(),
+                FlagChangeEvent.builder().version(1).type(FlagChangeEvent.Type.DELETE).build(),
+                upsert(1, flag("flagB"))));
+        flagStore.start();
+        subscriber.start();
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> subscriber.getLastVersion() == 1);
+        assertTrue(flagStore.findByFlagName("flagA").isPresent());
+        assertTrue(flagStore.findByFlagName("flagB").isPresent());
+    }
+
+    @Test
+    void shouldResumeAfterTheSnapshotVersion_onTheFirstConnection() {
+        serverFlags.set(List.of(flag("flagA")));
+        snapshotVersion.set("7");
+        streamConnections.add(List.of(upsert(8, flag("flagB"))));
+        flagStore.start();
+        subscriber.start();
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> subscriber.getLastVersion() == 8);
+        assertEquals("since=7", streamQueries.get(0));
+        assertTrue(flagStore.findByFlagName("flagB").isPresent());
+    }
+
+    private void handleFlags(HttpExchange exchange) throws IOException {
+        String version = snapshotVersion.get();
+        if (version != null) exchange.getResponseHeaders().add(RestFeatureFlagQueryAdapter.SNAPSHOT_VERSION_HEADER, version);
+        respond(exchange, "application/json", mapper.writeValueAsString(serverFlags.get()));
+    }
+
+    private void handleChanges(HttpExchange exchange) throws IOException {
+        streamQueries.add(exchange.getRequestURI().getQuery());
+        List<FlagChangeEvent> events = streamConnections.poll();
+
+        StringBuilder body = new StringBuilder();
+        for (FlagChangeEvent event : events == null ? List.<FlagChangeEvent>of() : events) {
+            body.append("id:").append(event.getVersion()).append('\n')
+                .append("data:").append(toJson(event)).append("\n\n");
+        }
+        respond(exchange, "text/event-stream", body.toString());
+    }
+
+    private void respond(HttpExchange exchange, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(200, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    private String toJson(FlagChangeEvent event) {
+        try {
+            return mapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static FlagChangeEvent upsert(long version, Flag flag) {
+        return FlagChangeEvent.builder().version(version).type(FlagChangeEvent.Type.UPSERT)
+                              .flagName(flag.getName()).flag(flag).build();
+    }
+
+    private static Flag flag(String name) {
+        return Flag.builder().name(name).state(Flag.State.ENABLED).type(Flag.Type.BOOLEAN)
+                   .defaultVariant("on").variants(Map.of("on", true)).build();
+    }
+}
@@ -0,0 +1,139 @@
+package br.com.featureflagsdkjava.infra.adapters.http;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagDelta;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlagStreamReaderTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final FlagStreamReader reader = new FlagStreamReader();
+
+    @Test
+    void shouldReadSmileFlags_withTargetingParsedInTheSamePass() throws Exception {
+        byte[] body = new SmileMapper().writeValueAsBytes(List.of(flagJson("{\"==\": [{\"var\": \"country\"}, \"BR\"]}")));
+
+        FlagDelta snapshot = reader.readSnapshot(3L, body, SMILE);
+
+        assertEquals(3L, snapshot.getVersion());
+        assertTrue(snapshot.isFull());
+        assertEquals(1, snapshot.getFlags().size());
+        Flag flag = snapshot.getFlags().get(0);
+        assertEquals(7L, flag.getId());
+        assertEquals("checkout", flag.getName());
+        assertEquals(Flag.State.ENABLED, flag.getState());
+        assertEquals(Flag.Type.BOOLEAN, flag.getType());
+        assertEquals("off", flag.getDefaultVariant());
+        assertEquals(Map.of("on", true, "off", false), flag.getVariants());
+        assertEquals("{\"==\": [{\"var\": \"country\"}, \"BR\"]}", flag.getTargeting());
+        assertEquals("country", snapshot.getTargetingTrees().get("checkout").get("==").get(0).get("var").asText());
+    }
+
+    @Test
+    void shouldReadCborFlags() throws Exception {
+        byte[] body = new CBORMapper().writeValueAsBytes(List.of(flagJson(null)));
+
+        FlagDelta snapshot = reader.readSnapshot(1L, body, MediaType.APPLICATION_CBOR);
+
+        assertEquals("checkout", snapshot.getFlags().get(0).getName());
+        assertNull(snapshot.getFlags().get(0).getTargeting());
+        assertEquals(Map.of(), snapshot.getTargetingTrees());
+    }
+
+    @Test
+    void shouldFallBackToJson_whenServiceIgnoresAccept() {
+        byte[] body = "[{\"name\": \"checkout\", \"owner\": {\"team\": \"payments\"}, \"state\": \"DISABLED\"}]"
+                .getBytes(StandardCharsets.UTF_8);
+
+        List<Flag> flags = reader.readFlags(body, MediaType.APPLICATION_JSON);
+
+        assertEquals(Flag.State.DISABLED, flags.get(0).getState());
+        assertEquals(flags, reader.readFlags(body, null));
+    }
+
+    @Test
+    void shouldKeepTargetingSentAsObject_asJsonText() throws Exception {
+        Map<String, Object> flag = flagJson(null);
+        flag.put("targeting", Map.of("in", List.of(new ObjectMapper().readValue("{\"var\": \"plan\"}", Map.class), "gold")));
+        byte[] body = new SmileMapper().writeValueAsBytes(List.of(flag));
+
+        FlagDelta snapshot = reader.readSnapshot(1L, body, SMILE);
+
+        Flag read = snapshot.getFlags().get(0);
+        assertEquals("{\"in\":[{\"var\":\"plan\"},\"gold\"]}", read.getTargeting());
+        assertEquals(read.getTargeting(), snapshot.getTargetingTrees().get("checkout").toString());
+        assertEquals(read.getTargeting(), reader.readFlags(body, SMILE).get(0).getTargeting());
+    }
+
+    @Test
+    void shouldLeaveMalformedTargetingToTheTargetingEngine() throws Exception {
+        byte[] body = new SmileMapper().writeValueAsBytes(List.of(flagJson("{\"==\": [")));
+
+        FlagDelta snapshot = reader.readSnapshot(1L, body, SMILE);
+
+        assertEquals("{\"==\": [", snapshot.getFlags().get(0).getTargeting());
+        assertNull(snapshot.getTargetingTrees().get("checkout"));
+    }
+
+    @Test
+    void shouldReadPrerequisites() throws Exception {
+        Map<String, Object> flag = flagJson(null);
+        flag.put("prerequisites", List.of(Map.of("flag", "new-checkout", "variants", List.of("on")), Map.of("flag", "beta")));
+        byte[] body = new SmileMapper().writeValueAsBytes(List.of(flag));
+
+        List<Flag.Prerequisite> prerequisites = reader.readFlags(body, SMILE).get(0).getPrerequisites();
+
+        assertEquals(List.of(new Flag.Prerequisite("new-checkout", List.of("on")), new Flag.Prerequisite("beta", null)),
+                prerequisites);
+    }
+
+    @Test
+    void shouldReadDelta() throws Exception {
+        Map<String, Object> delta = new LinkedHashMap<>();
+        delta.put("version", 12);
+        delta.put("full", false);
+        delta.put("flags", List.of(flagJson("{\"var\": \"plan\"}")));
+        delta.put("deleted", List.of("old-flag"));
+        delta.put("generatedAt", "2024-01-01T00:00:00Z");
+
+        FlagDelta read = reader.readDelta(new SmileMapper().writeValueAsBytes(delta), SMILE);
+
+        assertEquals(12L, read.getVersion());
+        assertFalse(read.isFull());
+        assertEquals("checkout", read.getFlags().get(0).getName());
+        assertEquals("plan", read.getTargetingTrees().get("checkout").get("var").asText());
+        assertEquals(List.of("old-flag"), read.getDeleted());
+    }
+
+    @Test
+    void shouldFail_whenBodyIsNotAFlagList() {
+        byte[] body = "{\"name\": \"checkout\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(UncheckedIOException.class, () -> reader.readFlags(body, MediaType.APPLICATION_JSON));
+    }
+
+    private static Map<String, Object> flagJson(String targeting) {
+        Map<String, Object> flag = new LinkedHashMap<>();
+        flag.put("id", 7);
+        flag.put("name", "checkout");
+        flag.put("state", "ENABLED");
+        flag.put("type", "BOOLEAN");
+        flag.put("defaultVariant", "off");
+        flag.put("variants", Map.of("on", true, "off", false));
+        if (targeting != null) flag.put("targeting", targeting);
+        return flag;
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.featureflagsdkjava.infra.adapters.http;
+
+import br.com.featureflagsdkjava.domain.model.Impression;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpImpressionSinkAdapterTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"web-client", "rest-client"})
+    void send_shouldPostTheBatchToTheFlagService(String client) throws IOException {
+        List<List<Impression>> received = new CopyOnWriteArrayList<>();
+        HttpServer stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/impressions", exchange -> {
+            if (exchange.getRequestMethod().equals("POST")) {
+                received.add(new ObjectMapper().readValue(exchange.getRequestBody(), new TypeReference<>() {}));
+            }
+            exchange.sendResponseHeaders(202, -1);
+            exchange.close();
+        });
+        stubServer.start();
+        try {
+            HttpInterfaceConfig httpInterfaceConfig = new HttpInterfaceConfig();
+            ReflectionTestUtils.setField(httpInterfaceConfig, "featureFlagServiceUrl",
+                    "http://localhost:" + stubServer.getAddress().getPort());
+            ReflectionTestUtils.setField(httpInterfaceConfig, "client", client);
+            HttpImpressionSinkAdapter sink = new HttpImpressionSinkAdapter(httpInterfaceConfig.featureFlagClient());
+            List<Impression> batch = List.of(new Impression("flagA", "user-1", "on", "TARGETING_MATCH", 1L),
+                    new Impression("flagB", null, "off", "STATIC", 2L));
+
+            sink.send(batch);
+
+            assertEquals(List.of(batch), received);
+        } finally {
+            stubServer.stop(0);
+        }
+    }
+}
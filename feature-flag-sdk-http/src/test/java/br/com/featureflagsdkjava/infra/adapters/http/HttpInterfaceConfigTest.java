@@ -0,0 +1,97 @@
+package br.com.featureflagsdkjava.infra.adapters.http;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagDelta;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class HttpInterfaceConfigTest {
+
+    @Test
+    void shouldReturnFeatureFlagProxy() {
+        FeatureFlagServiceProxy featureFlagServiceProxy = new HttpInterfaceConfig().featureFlagClient();
+        assertNotNull(featureFlagServiceProxy);
+    }
+
+    @Test
+    void shouldReturnReactiveFeatureFlagProxy() {
+        ReactiveFeatureFlagServiceProxy reactiveFeatureFlagServiceProxy = new HttpInterfaceConfig().reactiveFeatureFlagClient();
+        assertNotNull(reactiveFeatureFlagServiceProxy);
+    }
+
+    @Test
+    void shouldServeLookupsOverRestClient_whenConfigured() throws IOException {
+        HttpServer stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/flags/", exchange -> {
+            byte[] body = "{\"name\": \"flagA\", \"state\": \"ENABLED\"}".getBytes(StandardCharsets.UTF_8);
+            boolean found = exchange.getRequestURI().getPath().endsWith("/flagA");
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(found ? 200 : 404, found ? body.length : -1);
+            if (found) exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        stubServer.start();
+        try {
+            HttpInterfaceConfig httpInterfaceConfig = new HttpInterfaceConfig();
+            ReflectionTestUtils.setField(httpInterfaceConfig, "featureFlagServiceUrl",
+                    "http://localhost:" + stubServer.getAddress().getPort());
+            ReflectionTestUtils.setField(httpInterfaceConfig, "client", "rest-client");
+            RestFeatureFlagQueryAdapter adapter = new RestFeatureFlagQueryAdapter(httpInterfaceConfig.featureFlagClient());
+
+            assertEquals(Flag.State.ENABLED, adapter.findByFlagName("flagA").orElseThrow().getState());
+            assertTrue(adapter.findByFlagName("flagB").isEmpty());
+        } finally {
+            stubServer.stop(0);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"web-client", "rest-client"})
+    void shouldNegotiateBinarySnapshot(String client) throws IOException {
+        byte[] smile = new SmileMapper().writeValueAsBytes(List.of(Map.of("name", "flagA", "state", "ENABLED")));
+        List<String> accepted = new CopyOnWriteArrayList<>();
+        HttpServer stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/flags", exchange -> {
+            accepted.add(exchange.getRequestHeaders().getFirst("Accept"));
+            exchange.getResponseHeaders().add("Content-Type", "application/x-jackson-smile");
+            exchange.getResponseHeaders().add(RestFeatureFlagQueryAdapter.SNAPSHOT_VERSION_HEADER, "4");
+            exchange.sendResponseHeaders(200, smile.length);
+            exchange.getResponseBody().write(smile);
+            exchange.close();
+        });
+        stubServer.start();
+        try {
+            HttpInterfaceConfig httpInterfaceConfig = new HttpInterfaceConfig();
+            ReflectionTestUtils.setField(httpInterfaceConfig, "featureFlagServiceUrl",
+                    "http://localhost:" + stubServer.getAddress().getPort());
+            ReflectionTestUtils.setField(httpInterfaceConfig, "client", client);
+            RestFeatureFlagQueryAdapter adapter = new RestFeatureFlagQueryAdapter(httpInterfaceConfig.featureFlagClient());
+            ReflectionTestUtils.setField(adapter, "format", "smile");
+            adapter.start();
+
+            FlagDelta delta = adapter.findChangesSince(0L).orElseThrow();
+
+            assertEquals(4L, delta.getVersion());
+            assertEquals("flagA", delta.getFlags().get(0).getName());
+            assertEquals(List.of("application/x-jackson-smile, application/json;q=0.9"), accepted);
+        } finally {
+            stubServer.stop(0);
+        }
+    }
+}
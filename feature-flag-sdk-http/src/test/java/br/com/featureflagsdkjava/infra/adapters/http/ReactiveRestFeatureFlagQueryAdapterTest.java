@@ -0,0 +1,88 @@
+package br.com.featureflagsdkjava.infra.adapters.http;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveRestFeatureFlagQueryAdapterTest {
+
+    @Mock
+    private ReactiveFeatureFlagServiceProxy serviceClient;
+
+    @InjectMocks
+    private ReactiveRestFeatureFlagQueryAdapter reactiveRestFeatureFlagQueryAdapter;
+
+    @Test
+    void findByFlagName_shouldReturnFlag_whenServiceClientReturnsFlag() {
+        Flag flag = Flag.builder().name("testFlag").build();
+        when(serviceClient.findByFlagName("testFlag")).thenReturn(Mono.just(flag));
+
+        assertSame(flag, reactiveRestFeatureFlagQueryAdapter.findByFlagName("testFlag").block());
+    }
+
+    @Test
+    void findByFlagName_shouldCompleteEmpty_whenFlagIsNotFoundOrServiceFails() {
+        when(serviceClient.findByFlagName("missingFlag")).thenReturn(Mono.error(
+                WebClientResponseException.create(HttpStatus.NOT_FOUND.value(), "Not Found", HttpHeaders.EMPTY, null, null)));
+        when(serviceClient.findByFlagName("testFlag")).thenReturn(Mono.error(new IllegalStateException("connection refused")));
+
+        assertNull(reactiveRestFeatureFlagQueryAdapter.findByFlagName("missingFlag").block());
+        assertNull(reactiveRestFeatureFlagQueryAdapter.findByFlagName("testFlag").block());
+        assertNull(reactiveRestFeatureFlagQueryAdapter.findByFlagName(null).block());
+    }
+
+    @Test
+    void findByFlagName_shouldShareOneRequest_betweenConcurrentLookups() {
+        Sinks.One<Flag> response = Sinks.one();
+        when(serviceClient.findByFlagName("testFlag")).thenReturn(response.asMono());
+
+        Mono<Flag> first = reactiveRestFeatureFlagQueryAdapter.findByFlagName("testFlag");
+        Mono<Flag> second = reactiveRestFeatureFlagQueryAdapter.findByFlagName("testFlag");
+        List<Flag> received = new ArrayList<>();
+        first.subscribe(received::add);
+        second.subscribe(received::add);
+
+        Flag flag = Flag.builder().name("testFlag").build();
+        response.tryEmitValue(flag);
+
+        assertEquals(List.of(flag, flag), received);
+        verify(serviceClient, times(1)).findByFlagName("testFlag");
+
+        when(serviceClient.findByFlagName("testFlag")).thenReturn(Mono.just(flag));
+        reactiveRestFeatureFlagQueryAdapter.findByFlagName("testFlag").block();
+        verify(serviceClient, times(2)).findByFlagName("testFlag");
+    }
+
+    @Test
+    void findByFlagNames_shouldKeepRequestedFlags_andCompleteEmptyOnFailure() {
+        Flag flag1 = Flag.builder().name("flag1").build();
+        Flag unrequested = Flag.builder().name("other").build();
+        when(serviceClient.findByFlagNames(Set.of("flag1", "flag2"))).thenReturn(Flux.just(flag1, unrequested));
+
+        assertEquals(List.of(flag1), reactiveRestFeatureFlagQueryAdapter.findByFlagNames(Arrays.asList("flag1", "flag2", null))
+                                                                        .collectList().block());
+
+        when(serviceClient.findByFlagNames(anyCollection())).thenReturn(Flux.error(new IllegalStateException("timeout")));
+        assertEquals(List.of(), reactiveRestFeatureFlagQueryAdapter.findByFlagNames(List.of("flag1")).collectList().block());
+        assertEquals(List.of(), reactiveRestFeatureFlagQueryAdapter.findByFlagNames(List.of()).collectList().block());
+    }
+}
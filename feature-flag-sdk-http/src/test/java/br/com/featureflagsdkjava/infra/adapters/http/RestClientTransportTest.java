@@ -0,0 +1,139 @@
+package br.com.featureflagsdkjava.infra.adapters.http;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RestClientTransportTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final List<String> acceptEncodings = new CopyOnWriteArrayList<>();
+    private HttpServer stubServer;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/flags", this::handleFlags);
+        stubServer.createContext("/slow", exchange -> {
+            sleep(Duration.ofSeconds(2));
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        stubServer.start();
+        baseUrl = "http://localhost:" + stubServer.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    void shouldRequestAndInflateGzipResponses_whenCompressionIsEnabled() {
+        FeatureFlagServiceProxy proxy = proxy(RestClientTransport.create(
+                baseUrl, Duration.ofSeconds(1), Duration.ofSeconds(5), 4, true, true));
+
+        List<Flag> flags = proxy.findAll();
+
+        assertEquals(List.of("flagA", "flagB"), flags.stream().map(Flag::getName).toList());
+        assertEquals(List.of("gzip"), acceptEncodings);
+    }
+
+    @Test
+    void shouldReadPlainResponses_whenCompressionIsDisabled() {
+        FeatureFlagServiceProxy proxy = proxy(RestClientTransport.create(
+                baseUrl, Duration.ofSeconds(1), Duration.ofSeconds(5), 0, false, false));
+
+        assertEquals(2, proxy.findAll().size());
+        assertNull(acceptEncodings.get(0));
+    }
+
+    @Test
+    void shouldFail_whenResponseTakesLongerThanReadTimeout() {
+        RestClient restClient = RestClientTransport.create(baseUrl, Duration.ofSeconds(1), Duration.ofMillis(200), 4, true, true);
+
+        long start = System.nanoTime();
+        assertThrows(ResourceAccessException.class, () -> restClient.get().uri("/slow").retrieve().toBodilessEntity());
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(2)) < 0);
+    }
+
+    @Test
+    void concurrencyLimit_shouldHoldPermitUntilResponseIsClosed_andFailWhenNoneIsAvailable() throws IOException {
+        RestClientTransport.ConcurrencyLimit limit = new RestClientTransport.ConcurrencyLimit(1, Duration.ofMillis(50));
+        HttpRequest request = mock(HttpRequest.class);
+        ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+        ClientHttpResponse response = mock(ClientHttpResponse.class);
+        when(execution.execute(request, new byte[0])).thenReturn(response);
+
+        ClientHttpResponse first = limit.intercept(request, new byte[0], execution);
+        assertEquals(0, limit.availablePermits());
+        assertThrows(IOException.class, () -> limit.intercept(request, new byte[0], execution));
+
+        first.close();
+        first.close();
+        assertEquals(1, limit.availablePermits());
+        verify(response, times(2)).close();
+
+        when(execution.execute(request, new byte[0])).thenThrow(new IOException("connection reset"));
+        assertThrows(IOException.class, () -> limit.intercept(request, new byte[0], execution));
+        assertEquals(1, limit.availablePermits());
+    }
+
+    private static FeatureFlagServiceProxy proxy(RestClient restClient) {
+        return HttpServiceProxyFactory.builderFor(RestClientAdapter.create(restClient)).build()
+                                      .createClient(FeatureFlagServiceProxy.class);
+    }
+
+    private void handleFlags(HttpExchange exchange) throws IOException {
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        acceptEncodings.add(acceptEncoding);
+        byte[] body = mapper.writeValueAsBytes(List.of(Map.of("name", "flagA"), Map.of("name", "flagB")));
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        if ("gzip".equals(acceptEncoding)) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(body);
+            }
+            body = compressed.toByteArray();
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
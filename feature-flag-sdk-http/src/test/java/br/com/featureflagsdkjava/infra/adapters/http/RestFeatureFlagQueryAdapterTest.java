@@ -0,0 +1,412 @@
+package br.com.featureflagsdkjava.infra.adapters.http;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagDelta;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RestFeatureFlagQueryAdapterTest {
+
+    @Mock
+    private FeatureFlagServiceProxy serviceClient;
+
+    @InjectMocks
+    private RestFeatureFlagQueryAdapter restFeatureFlagQueryAdapter;
+
+    @Test
+    void findAll_shouldReturnListOfFlags_whenServiceClientReturnsFlags() {
+        // Arrange
+        Flag flag1 = Flag.builder().type(Flag.Type.BOOLEAN).build();
+        Flag flag2 = Flag.builder().type(Flag.Type.STRING).build();
+        List<Flag> expectedFlags = Arrays.asList(flag1, flag2);
+        when(serviceClient.findAll()).thenReturn(expectedFlags);
+
+        // Act
+        List<Flag> actualFlags = restFeatureFlagQueryAdapter.findAll();
+
+        // Assert
+        assertEquals(expectedFlags.size(), actualFlags.size());
+        assertTrue(actualFlags.containsAll(expectedFlags));
+        verify(serviceClient, times(1)).findAll();
+    }
+
+    @Test
+    void findAll_shouldReturnEmptyList_whenServiceClientReturnsNoFlags() {
+        // Arrange
+        when(serviceClient.findAll()).thenReturn(Collections.emptyList());
+
+        // Act
+        List<Flag> actualFlags = restFeatureFlagQueryAdapter.findAll();
+
+        // Assert
+        assertTrue(actualFlags.isEmpty());
+        verify(serviceClient, times(1)).findAll();
+    }
+
+    @Test
+    void findFlagsByType_shouldReturnListOfFlagsOfType_whenServiceClientReturnsMatchingFlags() {
+        // Arrange
+        Flag flag1 = Flag.builder().type(Flag.Type.STRING).build();
+        Flag flag2 = Flag.builder().type(Flag.Type.STRING).build();
+
+        List<Flag> expectedFlags = Arrays.asList(flag1, flag2);
+        Flag.Type flagType = Flag.Type.STRING;
+
+        when(serviceClient.findFlagsByType(flagType)).thenReturn(expectedFlags);
+
+        // Act
+        List<Flag> actualFlags = restFeatureFlagQueryAdapter.findFlagsByType(flagType);
+
+        // Assert
+        assertEquals(expectedFlags.size(), actualFlags.size());
+        assertTrue(actualFlags.containsAll(expectedFlags));
+        actualFlags.forEach(flag -> assertEquals(flagType, flag.getType()));
+        verify(serviceClient, times(1)).findFlagsByType(flagType);
+    }
+
+    @Test
+    void findFlagsByType_shouldReturnEmptyList_whenServiceClientReturnsNoMatchingFlags() {
+        // Arrange
+        Flag.Type flagType = Flag.Type.BOOLEAN;
+        when(serviceClient.findFlagsByType(flagType)).thenReturn(Collections.emptyList());
+
+        // Act
+        List<Flag> actualFlags = restFeatureFlagQueryAdapter.findFlagsByType(flagType);
+
+        // Assert
+        assertTrue(actualFlags.isEmpty());
+        verify(serviceClient, times(1)).findFlagsByType(flagType);
+    }
+
+    @Test
+    void findByFlagName_shouldReturnOptionalWithFlag_whenServiceClientReturnsFlag() {
+        // Arrange
+        String flagName = "testFlag";
+        Flag expectedFlag = Flag.builder().name(flagName).build();
+        when(serviceClient.findByFlagName(flagName)).thenReturn(expectedFlag);
+
+        // Act
+        Optional<Flag> actualFlagOptional = restFeatureFlagQueryAdapter.findByFlagName(flagName);
+
+        // Assert
+        assertTrue(actualFlagOptional.isPresent());
+        assertEquals(expectedFlag, actualFlagOptional.get());
+        verify(serviceClient, times(1)).findByFlagName(flagName);
+    }
+
+    @Test
+    void findByFlagName_shouldReturnEmptyOptional_whenServiceClientReturnsNull() {
+        // Arrange
+        String flagName = "testFlag";
+        when(serviceClient.findByFlagName(flagName)).thenReturn(null);
+
+        // Act
+        Optional<Flag> actualFlagOptional = restFeatureFlagQueryAdapter.findByFlagName(flagName);
+
+        // Assert
+        assertTrue(actualFlagOptional.isEmpty());
+        verify(serviceClient, times(1)).findByFlagName(flagName);
+    }
+
+    @Test
+    void findByFlagName_shouldShareOneServiceCall_whenLookedUpConcurrently() throws Exception {
+        // Arrange
+        String flagName = "testFlag";
+        Flag expectedFlag = Flag.builder().name(flagName).build();
+        CountDownLatch release = new CountDownLatch(1);
+        when(serviceClient.findByFlagName(flagName)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return expectedFlag;
+        });
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+
+        // Act
+        List<Future<Optional<Flag>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> restFeatureFlagQueryAdapter.findByFlagName(flagName)));
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            // Assert
+            for (Future<Optional<Flag>> result : results) {
+                assertEquals(Optional.of(expectedFlag), result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        verify(serviceClient, times(1)).findByFlagName(flagName);
+    }
+
+    @Test
+    void findByFlagName_shouldNotCallServiceAgain_whenFlagWasRecentlyNotFound() {
+        // Arrange
+        String flagName = "typoFlag";
+        when(serviceClient.findByFlagName(flagName))
+                .thenThrow(WebClientResponseException.create(404, "Not Found", HttpHeaders.EMPTY, new byte[0], null));
+
+        // Act
+        Optional<Flag> first = restFeatureFlagQueryAdapter.findByFlagName(flagName);
+        Optional<Flag> second = restFeatureFlagQueryAdapter.findByFlagName(flagName);
+
+        // Assert
+        assertTrue(first.isEmpty());
+        assertTrue(second.isEmpty());
+        verify(serviceClient, times(1)).findByFlagName(flagName);
+    }
+
+    @Test
+    void findByFlagName_shouldCallServiceAgain_whenNotFoundCacheIsDisabled() {
+        // Arrange
+        String flagName = "typoFlag";
+        ReflectionTestUtils.setField(restFeatureFlagQueryAdapter, "notFoundTtl", Duration.ZERO);
+        when(serviceClient.findByFlagName(flagName)).thenReturn(null);
+
+        // Act
+        restFeatureFlagQueryAdapter.findByFlagName(flagName);
+        restFeatureFlagQueryAdapter.findByFlagName(flagName);
+
+        // Assert
+        verify(serviceClient, times(2)).findByFlagName(flagName);
+    }
+
+    @Test
+    void findByFlagNames_shouldFetchInOneCall_andRememberMissingNames() {
+        // Arrange
+        Flag flag = Flag.builder().name("flagA").build();
+        when(serviceClient.findByFlagNames(Set.of("flagA", "typoFlag"))).thenReturn(List.of(flag));
+
+        // Act
+        Map<String, Flag> flags = restFeatureFlagQueryAdapter.findByFlagNames(List.of("flagA", "typoFlag"));
+        Optional<Flag> typo = restFeatureFlagQueryAdapter.findByFlagName("typoFlag");
+
+        // Assert
+        assertEquals(Map.of("flagA", flag), flags);
+        assertTrue(typo.isEmpty());
+        verify(serviceClient, never()).findByFlagName(anyString());
+    }
+
+    @Test
+    void findByFlagName_shouldSendConcurrentLookupsInOneBatch_whenBatchingEnabled() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(restFeatureFlagQueryAdapter, "batchingEnabled", true);
+        ReflectionTestUtils.setField(restFeatureFlagQueryAdapter, "batchWindow", Duration.ofMillis(200));
+        ReflectionTestUtils.setField(restFeatureFlagQueryAdapter, "maxBatchSize", 3);
+        restFeatureFlagQueryAdapter.start();
+        when(serviceClient.findByFlagNames(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> names = invocation.getArgument(0);
+            return names.stream().filter(name -> !name.equals("missing")).map(name -> Flag.builder().name(name).build()).toList();
+        });
+        ExecutorService callers = Executors.newFixedThreadPool(3);
+
+        // Act
+        try {
+            Future<Optional<Flag>> flagA = callers.submit(() -> restFeatureFlagQueryAdapter.findByFlagName("flagA"));
+            Future<Optional<Flag>> flagB = callers.submit(() -> restFeatureFlagQueryAdapter.findByFlagName("flagB"));
+            Future<Optional<Flag>> missing = callers.submit(() -> restFeatureFlagQueryAdapter.findByFlagName("missing"));
+
+            // Assert
+            assertEquals("flagA", flagA.get(5, TimeUnit.SECONDS).orElseThrow().getName());
+            assertEquals("flagB", flagB.get(5, TimeUnit.SECONDS).orElseThrow().getName());
+            assertTrue(missing.get(5, TimeUnit.SECONDS).isEmpty());
+        } finally {
+            callers.shutdownNow();
+            restFeatureFlagQueryAdapter.stop();
+        }
+        verify(serviceClient, times(1)).findByFlagNames(anyCollection());
+        verify(serviceClient, never()).findByFlagName(anyString());
+    }
+
+    @Test
+    void findByFlagName_shouldRecordOneFailure_whenASharedLookupFails() throws Exception {
+        // Arrange
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.ofDefaults();
+        RestFeatureFlagQueryAdapter adapter = new RestFeatureFlagQueryAdapter(serviceClient, registry);
+        CountDownLatch callersWaiting = new CountDownLatch(1);
+        when(serviceClient.findByFlagName("testFlag")).thenAnswer(invocation -> {
+            callersWaiting.await(5, TimeUnit.SECONDS);
+            Thread.sleep(100);
+            throw new IllegalStateException("Service unavailable");
+        });
+
+        // Act
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Optional<Flag>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) results.add(callers.submit(() -> adapter.findByFlagName("testFlag")));
+            callersWaiting.countDown();
+
+            // Assert
+            for (Future<Optional<Flag>> result : results) assertTrue(result.get(5, TimeUnit.SECONDS).isEmpty());
+        } finally {
+            callers.shutdownNow();
+        }
+        verify(serviceClient, times(1)).findByFlagName("testFlag");
+        assertEquals(1, registry.circuitBreaker(RestFeatureFlagQueryAdapter.CIRCUIT_BREAKER).getMetrics().getNumberOfFailedCalls());
+    }
+
+    @Test
+    void findFlagByNameFallback_shouldReturnEmptyOptionalAndLogError() {
+        // Arrange
+        String flagName = "testFlag";
+        Throwable exception = new RuntimeException("Service unavailable");
+
+        // Act
+        Optional<Flag> actualFlagOptional = restFeatureFlagQueryAdapter.findFlagByNameFallback(flagName, exception);
+
+        // Assert
+        assertTrue(actualFlagOptional.isEmpty());
+    }
+
+    @Test
+    void findChangesSince_shouldReturnFullDeltaWithServerVersion_andRememberETag() {
+        // Arrange
+        Flag flag = Flag.builder().name("testFlag").build();
+        ResponseEntity<List<Flag>> response = ResponseEntity.ok()
+                .eTag("\"v12\"")
+                .header(RestFeatureFlagQueryAdapter.SNAPSHOT_VERSION_HEADER, "12")
+                .body(List.of(flag));
+        when(serviceClient.findAllIfNoneMatch(null)).thenReturn(response);
+        when(serviceClient.findAllIfNoneMatch("\"v12\"")).thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+
+        // Act
+        Optional<FlagDelta> first = restFeatureFlagQueryAdapter.findChangesSince(0L);
+        Optional<FlagDelta> second = restFeatureFlagQueryAdapter.findChangesSince(12L);
+
+        // Assert
+        assertTrue(first.isPresent());
+        assertTrue(first.get().isFull());
+        assertEquals(12L, first.get().getVersion());
+        assertEquals(List.of(flag), first.get().getFlags());
+        assertTrue(second.isEmpty());
+        verify(serviceClient, never()).findChangesSince(anyLong(), any());
+    }
+
+    @Test
+    void findChangesSince_shouldUseUnknownVersion_whenVersionHeaderIsMissing() {
+        // Arrange
+        when(serviceClient.findAllIfNoneMatch(null)).thenReturn(ResponseEntity.ok(List.of()));
+
+        // Act
+        Optional<FlagDelta> delta = restFeatureFlagQueryAdapter.findChangesSince(0L);
+
+        // Assert
+        assertEquals(0L, delta.orElseThrow().getVersion());
+    }
+
+    @Test
+    void findChangesSince_shouldRequestDelta_whenDeltaSyncEnabledAndVersionKnown() {
+        // Arrange
+        ReflectionTestUtils.setField(restFeatureFlagQueryAdapter, "deltaSyncEnabled", true);
+        FlagDelta expected = FlagDelta.builder().version(8L).deleted(List.of("oldFlag")).build();
+        when(serviceClient.findChangesSince(7L, null)).thenReturn(ResponseEntity.ok(expected));
+
+        // Act
+        Optional<FlagDelta> delta = restFeatureFlagQueryAdapter.findChangesSince(7L);
+
+        // Assert
+        assertEquals(Optional.of(expected), delta);
+        verify(serviceClient, never()).findAllIfNoneMatch(any());
+    }
+
+    @Test
+    void findChangesSince_shouldLoadFullSnapshot_whenDeltaSyncEnabledButVersionUnknown() {
+        // Arrange
+        ReflectionTestUtils.setField(restFeatureFlagQueryAdapter, "deltaSyncEnabled", true);
+        when(serviceClient.findAllIfNoneMatch(null)).thenReturn(ResponseEntity.ok(List.of()));
+
+        // Act
+        Optional<FlagDelta> delta = restFeatureFlagQueryAdapter.findChangesSince(0L);
+
+        // Assert
+        assertTrue(delta.orElseThrow().isFull());
+        verify(serviceClient, never()).findChangesSince(anyLong(), any());
+    }
+
+    @Test
+    void findChangesSince_shouldNegotiateBinaryFormat_andReadFlagsFromTheBody() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(restFeatureFlagQueryAdapter, "format", "smile");
+        restFeatureFlagQueryAdapter.start();
+        byte[] body = new SmileMapper().writeValueAsBytes(List.of(Map.of("name", "testFlag", "targeting", "{\"==\": [1, 1]}")));
+        ResponseEntity<byte[]> response = ResponseEntity.ok()
+                .eTag("\"v3\"")
+                .header(RestFeatureFlagQueryAdapter.SNAPSHOT_VERSION_HEADER, "3")
+                .header(HttpHeaders.CONTENT_TYPE, "application/x-jackson-smile")
+                .body(body);
+        when(serviceClient.findAllEncoded("application/x-jackson-smile, application/json;q=0.9", null)).thenReturn(response);
+
+        // Act
+        FlagDelta delta = restFeatureFlagQueryAdapter.findChangesSince(0L).orElseThrow();
+
+        // Assert
+        assertEquals(3L, delta.getVersion());
+        assertEquals("testFlag", delta.getFlags().get(0).getName());
+        assertNotNull(delta.getTargetingTrees().get("testFlag"));
+        verify(serviceClient, never()).findAllIfNoneMatch(any());
+    }
+
+    @Test
+    void findChangesSince_shouldRequestBinaryDelta_whenDeltaSyncEnabledAndVersionKnown() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(restFeatureFlagQueryAdapter, "format", "cbor");
+        ReflectionTestUtils.setField(restFeatureFlagQueryAdapter, "deltaSyncEnabled", true);
+        restFeatureFlagQueryAdapter.start();
+        byte[] body = new CBORMapper().writeValueAsBytes(Map.of("version", 8, "deleted", List.of("oldFlag")));
+        when(serviceClient.findChangesSinceEncoded(eq(7L), anyString(), isNull())).thenReturn(ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, "application/cbor")
+                .body(body));
+        when(serviceClient.findChangesSinceEncoded(eq(8L), anyString(), isNull())).thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+
+        // Act
+        FlagDelta delta = restFeatureFlagQueryAdapter.findChangesSince(7L).orElseThrow();
+        Optional<FlagDelta> unchanged = restFeatureFlagQueryAdapter.findChangesSince(8L);
+
+        // Assert
+        assertEquals(8L, delta.getVersion());
+        assertEquals(List.of("oldFlag"), delta.getDeleted());
+        assertTrue(unchanged.isEmpty());
+    }
+
+    @Test
+    void start_shouldRejectUnknownFormat() {
+        ReflectionTestUtils.setField(restFeatureFlagQueryAdapter, "format", "xml");
+
+        assertThrows(IllegalArgumentException.class, () -> restFeatureFlagQueryAdapter.start());
+    }
+}
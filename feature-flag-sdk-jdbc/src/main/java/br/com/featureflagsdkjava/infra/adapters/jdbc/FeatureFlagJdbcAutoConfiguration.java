@@ -0,0 +1,30 @@
+package br.com.featureflagsdkjava.infra.adapters.jdbc;
+
+import br.com.featureflagsdkjava.domain.ports.FeatureFlagQueryPort;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.context.annotation.Import;
+
+import javax.sql.DataSource;
+
+/**
+ * Registers the flags database as the flag source when {@code feature.flag.jdbc.enabled=true} and the application has
+ * a single {@link DataSource}. It is opt-in so that putting the module on the classpath never points the flag source
+ * at the application's own database.
+ */
+@AutoConfiguration(
+        after = DataSourceAutoConfiguration.class,
+        beforeName = {
+                "br.com.featureflagsdkjava.infra.config.FeatureFlagAutoConfiguration",
+                "br.com.featureflagsdkjava.infra.adapters.http.FeatureFlagHttpAutoConfiguration"
+        })
+@ConditionalOnClass(DataSource.class)
+@ConditionalOnSingleCandidate(DataSource.class)
+@ConditionalOnProperty(name = "feature.flag.jdbc.enabled", havingValue = "true")
+@ConditionalOnMissingBean(FeatureFlagQueryPort.class)
+@Import(JdbcFeatureFlagQueryAdapter.class)
+public class FeatureFlagJdbcAutoConfiguration {}
@@ -0,0 +1,248 @@
+package br.com.featureflagsdkjava.infra.adapters.jdbc;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagDelta;
+import br.com.featureflagsdkjava.domain.ports.FeatureFlagQueryPort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.util.*;
+
+/**
+ * Reads flags straight from the {@code flags} and {@code variants} tables described in {@code TABLES.DDL}.
+ * Every read is a single {@code flags LEFT JOIN variants} query streamed with a fetch size, so loading the
+ * whole snapshot costs one round trip per fetch batch and never buffers the full result set. The
+ * {@code targeting} column is passed through as text; rules are compiled once per load by the flag cache.
+ * <p>
+ * Incremental refreshes rely on the {@code flags.version} column, which every insert or update of a flag or
+ * its variants must move past all existing versions (the triggers in {@code TABLES.DDL} do this). Versions are
+ * taken from a sequence when a transaction writes but become visible when it commits, so a change can show up
+ * below the highest version already read. Each refresh therefore reads the last {@code version-window} versions
+ * again and keeps only the flags whose version differs from the one loaded. Deletions are detected from the flag
+ * count and resolved with a name-only scan.
+ */
+@Slf4j
+@Service("jdbcFeatureFlagQuery")
+public class JdbcFeatureFlagQueryAdapter implements FeatureFlagQueryPort {
+
+    private static final String SELECT_FLAGS = """
+            SELECT f.id, f.flag_name, f.flag_type, f.state, f.default_variant, f.targeting, f.version,
+                   v.variant_key, v.variant_value
+              FROM flags f
+              LEFT JOIN variants v ON v.flag_id = f.id
+            """;
+    private static final String ORDER_BY_FLAG = " ORDER BY f.id";
+    private static final String SELECT_STATS = "SELECT COALESCE(MAX(version), 0), COUNT(*) FROM flags";
+    private static final String SELECT_NAMES = "SELECT flag_name FROM flags";
+
+    private final DataSource dataSource;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Value("${feature.flag.jdbc.fetch-size:500}")
+    private int fetchSize = 500;
+
+    @Value("${feature.flag.jdbc.version-window:1000}")
+    private long versionWindow = 1000;
+
+    private volatile SyncState syncState;
+
+    public JdbcFeatureFlagQueryAdapter(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public List<Flag> findAll() {
+        return query(SELECT_FLAGS + ORDER_BY_FLAG, statement -> {});
+    }
+
+    @Override
+    public List<Flag> findFlagsByType(Flag.Type flagType) {
+        return query(SELECT_FLAGS + " WHERE CAST(f.flag_type AS VARCHAR) = ?" + ORDER_BY_FLAG,
+                statement -> statement.setString(1, flagType.name()));
+    }
+
+    @Override
+    public Optional<Flag> findByFlagName(String flagName) {
+        if (flagName == null) return Optional.empty();
+        return query(SELECT_FLAGS + " WHERE f.flag_name = ?" + ORDER_BY_FLAG,
+                statement -> statement.setString(1, flagName)).stream().findFirst();
+    }
+
+    @Override
+    public Map<String, Flag> findByFlagNames(Collection<String> flagNames) {
+        List<String> names = flagNames.stream().filter(Objects::nonNull).distinct().toList();
+        if (names.isEmpty()) return Map.of();
+
+        String placeholders = String.join(", ", Collections.nCopies(names.size(), "?"));
+        List<Flag> flags = query(SELECT_FLAGS + " WHERE f.flag_name IN (" + placeholders + ")" + ORDER_BY_FLAG, statement -> {
+            for (int i = 0; i < names.size(); i++) statement.setString(i + 1, names.get(i));
+        });
+
+        Map<String, Flag> flagsByName = new HashMap<>();
+        for (Flag flag : flags) flagsByName.put(flag.getName(), flag);
+        return flagsByName;
+    }
+
+    /**
+     * Returns only the flags changed since {@code version} when it matches the last version this adapter
+     * loaded, and the full flag set otherwise (first load, restart, or a snapshot restored from elsewhere).
+     */
+    @Override
+    public Optional<FlagDelta> findChangesSince(long version) {
+        long[] stats = readStats();
+        long latestVersion = stats[0];
+        long flagCount = stats[1];
+        SyncState state = syncState;
+
+        if (version <= 0 || state == null || state.version() != version) {
+            Map<String, Long> versions = new HashMap<>();
+            List<Flag> flags = query(SELECT_FLAGS + ORDER_BY_FLAG, statement -> {}, versions);
+            syncState = new SyncState(latestVersion, versions);
+            return Optional.of(FlagDelta.full(latestVersion, flags));
+        }
+
+        long readFrom = Math.max(0, version - versionWindow);
+        Map<String, Long> recentVersions = new HashMap<>();
+        List<Flag> recent = query(SELECT_FLAGS + " WHERE f.version > ?" + ORDER_BY_FLAG,
+                statement -> statement.setLong(1, readFrom), recentVersions);
+
+        Map<String, Long> versions = new HashMap<>(state.versions());
+        List<Flag> changed = new ArrayList<>();
+        long nextVersion = Math.max(version, latestVersion);
+        for (Flag flag : recent) {
+            Long flagVersion = recentVersions.get(flag.getName());
+            if (!flagVersion.equals(versions.put(flag.getName(), flagVersion))) changed.add(flag);
+            nextVersion = Math.max(nextVersion, flagVersion);
+        }
+
+        List<String> deleted = List.of();
+        if (versions.size() != flagCount) {
+            Set<String> currentNames = readFlagNames();
+            deleted = versions.keySet().stream().filter(name -> !currentNames.contains(name)).toList();
+            versions.keySet().retainAll(currentNames);
+        }
+        if (changed.isEmpty() && deleted.isEmpty() && nextVersion == version) return Optional.empty();
+
+        syncState = new SyncState(nextVersion, versions);
+        return Optional.of(FlagDelta.builder().version(nextVersion).flags(changed).deleted(deleted).build());
+    }
+
+    private List<Flag> query(String sql, StatementBinder binder) {
+        return query(sql, binder, null);
+    }
+
+    /**
+     * @param versions when not null, receives the version of every flag read
+     */
+    private List<Flag> query(String sql, StatementBinder binder, Map<String, Long> versions) {
+        return execute(sql, binder, resultSet -> readFlags(resultSet, versions));
+    }
+
+    private long[] readStats() {
+        return execute(SELECT_STATS, statement -> {}, resultSet -> {
+            resultSet.next();
+            return new long[]{resultSet.getLong(1), resultSet.getLong(2)};
+        });
+    }
+
+    private Set<String> readFlagNames() {
+        return execute(SELECT_NAMES, statement -> {}, resultSet -> {
+            Set<String> names = new HashSet<>();
+            while (resultSet.next()) names.add(resultSet.getString(1));
+            return names;
+        });
+    }
+
+    /**
+     * Runs a read-only query in its own transaction; drivers such as PostgreSQL only honour the fetch size
+     * (and stream rows instead of buffering them all) when auto-commit is off.
+     */
+    private <T> T execute(String sql, StatementBinder binder, ResultSetReader<T> reader) {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(fetchSize);
+                binder.bind(statement);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    T result = reader.read(resultSet);
+                    connection.commit();
+                    return result;
+                }
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to read flags from the database: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Folds the joined rows, ordered by flag id, into one {@link Flag} per id.
+     */
+    private List<Flag> readFlags(ResultSet resultSet, Map<String, Long> versions) throws SQLException {
+        List<Flag> flags = new ArrayList<>();
+        Flag current = null;
+
+        while (resultSet.next()) {
+            long id = resultSet.getLong("id");
+            if (current == null || current.getId() != id) {
+                current = Flag.builder()
+                              .id(id)
+                              .name(resultSet.getString("flag_name"))
+                              .type(Flag.Type.valueOf(resultSet.getString("flag_type")))
+                              .state(Flag.State.valueOf(resultSet.getString("state")))
+                              .defaultVariant(resultSet.getString("default_variant"))
+                              .targeting(resultSet.getString("targeting"))
+                              .variants(new HashMap<>())
+                              .build();
+                flags.add(current);
+                if (versions != null) versions.put(current.getName(), resultSet.getLong("version"));
+            }
+
+            String variantKey = resultSet.getString("variant_key");
+            if (variantKey != null) {
+                current.getVariants().put(variantKey, variantValue(current, resultSet.getString("variant_value")));
+            }
+        }
+        return flags;
+    }
+
+    /**
+     * Variant values are stored as text; they are converted to what the flag service would have sent as JSON.
+     */
+    private Object variantValue(Flag flag, String value) {
+        if (value == null) return null;
+        try {
+            return switch (flag.getType()) {
+                case BOOLEAN -> Boolean.parseBoolean(value.trim());
+                case NUMBER, OBJECT -> mapper.readValue(value, Object.class);
+                case STRING -> value;
+            };
+        } catch (JsonProcessingException e) {
+            log.warn("Keeping unparseable {} variant value of flag {} as text: {}", flag.getType(), flag.getName(), value);
+            return value;
+        }
+    }
+
+    private record SyncState(long version, Map<String, Long> versions) {}
+
+    @FunctionalInterface
+    private interface StatementBinder {
+        void bind(PreparedStatement statement) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface ResultSetReader<T> {
+        T read(ResultSet resultSet) throws SQLException;
+    }
+}
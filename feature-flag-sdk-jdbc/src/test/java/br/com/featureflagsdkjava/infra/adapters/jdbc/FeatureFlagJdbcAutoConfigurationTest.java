@@ -0,0 +1,45 @@
+package br.com.featureflagsdkjava.infra.adapters.jdbc;
+
+import br.com.featureflagsdkjava.domain.ports.FeatureFlagQueryPort;
+import br.com.featureflagsdkjava.infra.adapters.cache.CachingFeatureFlagQueryAdapter;
+import br.com.featureflagsdkjava.infra.config.FeatureFlagAutoConfiguration;
+import dev.openfeature.sdk.FeatureProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeatureFlagJdbcAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withInitializer(context -> context.getBeanFactory()
+                                               .setConversionService(ApplicationConversionService.getSharedInstance()))
+            .withConfiguration(AutoConfigurations.of(
+                    DataSourceAutoConfiguration.class,
+                    FeatureFlagJdbcAutoConfiguration.class,
+                    FeatureFlagAutoConfiguration.class))
+            .withPropertyValues(
+                    "spring.datasource.url=jdbc:h2:mem:autoconfig;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE"
+                            + ";INIT=RUNSCRIPT FROM 'classpath:flags-h2.sql'",
+                    "feature.flag.cache.refresh-interval=1h");
+
+    @Test
+    void shouldServeDatabaseSourceThroughFlagCache_whenEnabled() {
+        contextRunner.withPropertyValues("feature.flag.jdbc.enabled=true").run(context -> {
+            assertNotNull(context.getBean(JdbcFeatureFlagQueryAdapter.class));
+            assertInstanceOf(CachingFeatureFlagQueryAdapter.class, context.getBean(FeatureFlagQueryPort.class));
+            assertNotNull(context.getBean(FeatureProvider.class));
+        });
+    }
+
+    @Test
+    void shouldNotRegisterDatabaseSource_unlessEnabled() {
+        contextRunner.run(context -> {
+            assertTrue(context.getBeansOfType(JdbcFeatureFlagQueryAdapter.class).isEmpty());
+            assertTrue(context.getBeansOfType(FeatureFlagQueryPort.class).isEmpty());
+        });
+    }
+}
@@ -0,0 +1,166 @@
+package br.com.featureflagsdkjava.infra.adapters.jdbc;
+
+import br.com.featureflagsdkjava.domain.model.Flag;
+import br.com.featureflagsdkjava.domain.model.FlagDelta;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against H2 with the schema of {@code flags-h2.sql}, where versions are set by each test: the sequence and
+ * triggers of {@code TABLES.DDL} are PostgreSQL-only and not exercised here.
+ */
+class JdbcFeatureFlagQueryAdapterTest {
+
+    private JdbcDataSource dataSource;
+    private JdbcFeatureFlagQueryAdapter jdbcAdapter;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID()
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+                + ";INIT=RUNSCRIPT FROM 'classpath:flags-h2.sql'");
+        jdbcAdapter = new JdbcFeatureFlagQueryAdapter(dataSource);
+
+        execute("""
+                INSERT INTO flags (id, flag_name, flag_type, state, default_variant, targeting, version) VALUES
+                  (1, 'new-checkout', 'BOOLEAN', 'ENABLED', 'off', '{"==": [{"var": "plan"}, "pro"]}', 1),
+                  (2, 'max-items', 'NUMBER', 'ENABLED', 'low', NULL, 2),
+                  (3, 'theme', 'OBJECT', 'DISABLED', 'dark', NULL, 3),
+                  (4, 'empty-flag', 'STRING', 'ENABLED', 'none', NULL, 4)
+                """);
+        execute("""
+                INSERT INTO variants (flag_id, variant_key, variant_value) VALUES
+                  (1, 'on', 'true'), (1, 'off', 'false'),
+                  (2, 'low', '10'), (2, 'high', '2.5'),
+                  (3, 'dark', '{"background": "black"}')
+                """);
+    }
+
+    @Test
+    void findAll_shouldLoadEveryFlagWithTypedVariants() {
+        // Act
+        List<Flag> flags = jdbcAdapter.findAll();
+
+        // Assert
+        assertEquals(4, flags.size());
+        Flag checkout = flags.get(0);
+        assertEquals("new-checkout", checkout.getName());
+        assertEquals(Flag.Type.BOOLEAN, checkout.getType());
+        assertEquals(Flag.State.ENABLED, checkout.getState());
+        assertEquals(Map.of("on", true, "off", false), checkout.getVariants());
+        assertEquals("{\"==\": [{\"var\": \"plan\"}, \"pro\"]}", checkout.getTargeting());
+        assertEquals(Map.of("low", 10, "high", 2.5), flags.get(1).getVariants());
+        assertEquals(Map.of("dark", Map.of("background", "black")), flags.get(2).getVariants());
+        assertTrue(flags.get(3).getVariants().isEmpty());
+    }
+
+    @Test
+    void findByFlagName_shouldReturnFlag_orEmptyWhenMissing() {
+        // Act
+        Optional<Flag> found = jdbcAdapter.findByFlagName("max-items");
+        Optional<Flag> missing = jdbcAdapter.findByFlagName("missing");
+
+        // Assert
+        assertEquals(Flag.Type.NUMBER, found.orElseThrow().getType());
+        assertTrue(missing.isEmpty());
+    }
+
+    @Test
+    void findFlagsByType_andFindByFlagNames_shouldFilterInTheQuery() {
+        // Act
+        List<Flag> booleanFlags = jdbcAdapter.findFlagsByType(Flag.Type.BOOLEAN);
+        Map<String, Flag> named = jdbcAdapter.findByFlagNames(List.of("theme", "missing", "max-items"));
+
+        // Assert
+        assertEquals(List.of("new-checkout"), booleanFlags.stream().map(Flag::getName).toList());
+        assertEquals(2, named.size());
+        assertTrue(named.containsKey("theme"));
+        assertTrue(named.containsKey("max-items"));
+    }
+
+    @Test
+    void findChangesSince_shouldReturnFullSnapshot_thenNothing_whenUnchanged() {
+        // Act
+        FlagDelta initial = jdbcAdapter.findChangesSince(0L).orElseThrow();
+        Optional<FlagDelta> unchanged = jdbcAdapter.findChangesSince(initial.getVersion());
+
+        // Assert
+        assertTrue(initial.isFull());
+        assertEquals(4L, initial.getVersion());
+        assertEquals(4, initial.getFlags().size());
+        assertTrue(unchanged.isEmpty());
+    }
+
+    @Test
+    void findChangesSince_shouldReturnOnlyChangedAndDeletedFlags() {
+        // Arrange
+        long version = jdbcAdapter.findChangesSince(0L).orElseThrow().getVersion();
+        execute("UPDATE flags SET default_variant = 'on', version = 5 WHERE flag_name = 'new-checkout'");
+        execute("INSERT INTO flags (id, flag_name, flag_type, state, default_variant, version) VALUES (5, 'banner', 'STRING', 'ENABLED', 'a', 6)");
+        execute("DELETE FROM flags WHERE flag_name = 'theme'");
+
+        // Act
+        FlagDelta delta = jdbcAdapter.findChangesSince(version).orElseThrow();
+
+        // Assert
+        assertFalse(delta.isFull());
+        assertEquals(6L, delta.getVersion());
+        assertEquals(List.of("new-checkout", "banner"), delta.getFlags().stream().map(Flag::getName).toList());
+        assertEquals("on", delta.getFlags().get(0).getDefaultVariant());
+        assertEquals(List.of("theme"), delta.getDeleted());
+        assertTrue(jdbcAdapter.findChangesSince(6L).isEmpty());
+    }
+
+    @Test
+    void findChangesSince_shouldReturnChangesCommittedBelowTheLatestVersion() {
+        // Arrange: version 5 is taken first but commits after version 6 was read
+        long version = jdbcAdapter.findChangesSince(0L).orElseThrow().getVersion();
+        execute("INSERT INTO flags (id, flag_name, flag_type, state, default_variant, version) VALUES (5, 'banner', 'STRING', 'ENABLED', 'a', 6)");
+        FlagDelta first = jdbcAdapter.findChangesSince(version).orElseThrow();
+        execute("UPDATE flags SET default_variant = 'on', version = 5 WHERE flag_name = 'new-checkout'");
+
+        // Act
+        FlagDelta late = jdbcAdapter.findChangesSince(first.getVersion()).orElseThrow();
+
+        // Assert
+        assertEquals(List.of("banner"), first.getFlags().stream().map(Flag::getName).toList());
+        assertEquals(6L, late.getVersion());
+        assertEquals(List.of("new-checkout"), late.getFlags().stream().map(Flag::getName).toList());
+        assertEquals("on", late.getFlags().get(0).getDefaultVariant());
+        assertTrue(late.getDeleted().isEmpty());
+        assertTrue(jdbcAdapter.findChangesSince(late.getVersion()).isEmpty());
+    }
+
+    @Test
+    void findChangesSince_shouldReturnFullSnapshot_whenVersionIsNotTheLastOneLoaded() {
+        // Arrange
+        jdbcAdapter.findChangesSince(0L);
+
+        // Act
+        FlagDelta delta = jdbcAdapter.findChangesSince(2L).orElseThrow();
+
+        // Assert
+        assertTrue(delta.isFull());
+        assertEquals(4, delta.getFlags().size());
+    }
+
+    private void execute(String sql) {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+-- TABLES.DDL adapted for H2 in PostgreSQL mode: serial4 becomes serial, jsonb becomes varchar and versions are set by the test.
+CREATE TABLE IF NOT EXISTS flags (
+	id serial NOT NULL,
+	flag_name varchar(255) NOT NULL,
+	flag_type ENUM('BOOLEAN', 'STRING', 'NUMBER', 'OBJECT') NOT NULL,
+	state ENUM('ENABLED', 'DISABLED') NOT NULL,
+	default_variant varchar(255) NOT NULL,
+	targeting varchar(4000) NULL,
+	version int8 NOT NULL DEFAULT 0,
+	CONSTRAINT flags_flag_name_key UNIQUE (flag_name),
+	CONSTRAINT flags_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS variants (
+	flag_id int4 NOT NULL,
+	variant_key varchar(255) NOT NULL,
+	variant_value varchar(255) NOT NULL,
+	CONSTRAINT variants_pkey PRIMARY KEY (flag_id, variant_key),
+	CONSTRAINT variants_flag_id_fkey FOREIGN KEY (flag_id) REFERENCES flags(id) ON DELETE CASCADE
+);